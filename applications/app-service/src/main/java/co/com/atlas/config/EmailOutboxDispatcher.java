@@ -0,0 +1,69 @@
+package co.com.atlas.config;
+
+import co.com.atlas.usecase.notification.DispatchEmailOutboxUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Vacía periódicamente el outbox de correos con {@code workers} despachadores concurrentes;
+ * cada uno reserva sus propios lotes, de modo que nunca envían el mismo correo.
+ */
+@Slf4j
+@Component
+public class EmailOutboxDispatcher implements InitializingBean, DisposableBean {
+
+    private final DispatchEmailOutboxUseCase dispatchEmailOutboxUseCase;
+    private final Duration interval;
+    private final int workers;
+    private Disposable schedule;
+
+    public EmailOutboxDispatcher(
+            DispatchEmailOutboxUseCase dispatchEmailOutboxUseCase,
+            @Value("${atlas.notifications.outbox.interval:PT5S}") Duration interval,
+            @Value("${atlas.notifications.outbox.workers:4}") int workers) {
+        this.dispatchEmailOutboxUseCase = dispatchEmailOutboxUseCase;
+        this.interval = interval;
+        this.workers = Math.max(1, workers);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        schedule = Flux.interval(interval, interval)
+                .onBackpressureDrop()
+                .concatMap(tick -> drain()
+                        .onErrorResume(e -> {
+                            log.warn("Email outbox dispatch failed: {}", e.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    private Mono<Long> drain() {
+        long startedAt = System.nanoTime();
+        return Flux.range(0, workers)
+                .flatMap(worker -> dispatchEmailOutboxUseCase.drain(), workers)
+                .reduce(0L, Long::sum)
+                .doOnNext(processed -> {
+                    if (processed > 0) {
+                        double seconds = Math.max(System.nanoTime() - startedAt, 1) / 1_000_000_000d;
+                        log.info("Email outbox: {} emails processed in {} ms ({} emails/s)",
+                                processed, Math.round(seconds * 1000), Math.round(processed / seconds));
+                    }
+                });
+    }
+
+    @Override
+    public void destroy() {
+        if (schedule != null) {
+            schedule.dispose();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package co.com.atlas.config;
+
+import co.com.atlas.usecase.poll.PollVoteCounters;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Reconcilia periódicamente los contadores en memoria de votos con el conteo de la base de datos,
+ * incorporando los votos registrados por otras instancias.
+ */
+@Slf4j
+@Component
+public class PollVoteCounterReconciler implements InitializingBean, DisposableBean {
+
+    private final PollVoteCounters counters;
+    private final Duration interval;
+    private Disposable schedule;
+
+    public PollVoteCounterReconciler(
+            PollVoteCounters counters,
+            @Value("${atlas.polls.live-counters.reconcile-interval:PT5S}") Duration interval) {
+        this.counters = counters;
+        this.interval = interval;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        schedule = Flux.interval(interval, interval)
+                .onBackpressureDrop()
+                .concatMap(tick -> counters.reconcile()
+                        .doOnNext(reconciled -> log.debug("Reconciled live vote counters of {} polls", reconciled))
+                        .onErrorResume(e -> {
+                            log.warn("Poll vote counter reconciliation failed: {}", e.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (schedule != null) {
+            schedule.dispose();
+        }
+    }
+}
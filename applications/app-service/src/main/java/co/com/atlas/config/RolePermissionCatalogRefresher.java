@@ -0,0 +1,57 @@
+package co.com.atlas.config;
+
+import co.com.atlas.usecase.auth.RolePermissionCatalog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Carga el catálogo rol → permisos al arrancar y consulta periódicamente su versión;
+ * solo recarga las filas cuando la versión cambió.
+ */
+@Slf4j
+@Component
+public class RolePermissionCatalogRefresher implements InitializingBean, DisposableBean {
+
+    private final RolePermissionCatalog catalog;
+    private final Duration interval;
+    private Disposable schedule;
+
+    public RolePermissionCatalogRefresher(
+            RolePermissionCatalog catalog,
+            @Value("${atlas.auth.permission-catalog.refresh-interval:PT30S}") Duration interval) {
+        this.catalog = catalog;
+        this.interval = interval;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        schedule = Flux.interval(Duration.ZERO, interval)
+                .onBackpressureDrop()
+                .concatMap(tick -> catalog.refreshIfChanged()
+                        .doOnNext(reloaded -> {
+                            if (Boolean.TRUE.equals(reloaded)) {
+                                log.info("Role permission catalog loaded, version={}", catalog.version());
+                            }
+                        })
+                        .onErrorResume(e -> {
+                            log.warn("Role permission catalog refresh failed: {}", e.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (schedule != null) {
+            schedule.dispose();
+        }
+    }
+}
@@ -2,8 +2,10 @@ package co.com.atlas.config;
 
 import co.com.atlas.model.access.gateways.AccessCodeRepository;
 import co.com.atlas.model.access.gateways.AccessEventRepository;
+import co.com.atlas.model.access.gateways.AccessEventRollupRepository;
 import co.com.atlas.model.access.gateways.AccessScanLogRepository;
 import co.com.atlas.model.preregistration.gateways.AdminActivationTokenRepository;
+import co.com.atlas.model.notification.gateways.EmailOutboxRepository;
 import co.com.atlas.model.notification.gateways.NotificationGateway;
 import co.com.atlas.model.preregistration.gateways.PreRegistrationAuditRepository;
 import co.com.atlas.model.auth.gateways.AuthUserRepository;
@@ -12,7 +14,6 @@ import co.com.atlas.model.comment.gateways.CommentRepository;
 import co.com.atlas.model.company.gateways.CompanyRepository;
 import co.com.atlas.model.invitation.gateways.InvitationRepository;
 import co.com.atlas.model.organization.gateways.OrganizationRepository;
-import co.com.atlas.model.permission.gateways.PermissionRepository;
 import co.com.atlas.model.poll.gateways.PollOptionRepository;
 import co.com.atlas.model.poll.gateways.PollRepository;
 import co.com.atlas.model.poll.gateways.PollVoteRepository;
@@ -27,23 +28,35 @@ import co.com.atlas.model.visit.gateways.VisitApprovalRepository;
 import co.com.atlas.model.visit.gateways.VisitRequestRepository;
 import co.com.atlas.model.zone.gateways.ZoneRepository;
 import co.com.atlas.usecase.access.AccessCodeUseCase;
+import co.com.atlas.usecase.access.ActiveAccessCodeIndex;
+import co.com.atlas.usecase.access.GetAccessStatsUseCase;
+import co.com.atlas.usecase.access.GetRevocationFilterUseCase;
 import co.com.atlas.usecase.access.GetRevocationListUseCase;
+import co.com.atlas.usecase.access.RevocationBroadcaster;
+import co.com.atlas.usecase.access.RevocationFilterIndex;
+import co.com.atlas.usecase.access.StreamRevocationsUseCase;
 import co.com.atlas.usecase.access.RegisterVehicleExitUseCase;
 import co.com.atlas.usecase.access.SyncAccessEventsUseCase;
 import co.com.atlas.usecase.access.ValidateAuthorizationUseCase;
 import co.com.atlas.usecase.access.ValidateByDocumentUseCase;
+import co.com.atlas.usecase.access.VerificationKeyCache;
 import co.com.atlas.usecase.preregistration.ActivateAdminUseCase;
 import co.com.atlas.usecase.preregistration.CompleteOnboardingUseCase;
 import co.com.atlas.usecase.preregistration.PreRegisterAdminUseCase;
 import co.com.atlas.usecase.preregistration.ResendPreRegistrationUseCase;
 import co.com.atlas.usecase.auth.LoginUseCase;
 import co.com.atlas.usecase.auth.RefreshTokenUseCase;
+import co.com.atlas.usecase.auth.RolePermissionCatalog;
 import co.com.atlas.usecase.auth.RegisterUserUseCase;
 import co.com.atlas.usecase.comment.CommentUseCase;
 import co.com.atlas.usecase.company.CompanyUseCase;
 import co.com.atlas.usecase.invitation.InvitationUseCase;
 import co.com.atlas.usecase.organization.OrganizationUseCase;
+import co.com.atlas.usecase.notification.DispatchEmailOutboxUseCase;
+import co.com.atlas.usecase.poll.ClosedPollResultsCache;
 import co.com.atlas.usecase.poll.PollUseCase;
+import co.com.atlas.usecase.poll.PollVoteCounters;
+import co.com.atlas.usecase.poll.StreamPollResultsUseCase;
 import co.com.atlas.usecase.post.PostUseCase;
 import co.com.atlas.usecase.tower.TowerUseCase;
 import co.com.atlas.usecase.unit.UnitUseCase;
@@ -89,22 +102,22 @@ public class UseCasesConfig {
     public LoginUseCase loginUseCase(
             AuthUserRepository authUserRepository,
             JwtTokenGateway jwtTokenGateway,
-            UserOrganizationRepository userOrganizationRepository,
-            UserRoleMultiRepository userRoleMultiRepository,
-            RoleRepository roleRepository,
-            PermissionRepository permissionRepository) {
-        return new LoginUseCase(
-                authUserRepository,
-                jwtTokenGateway,
-                userOrganizationRepository,
-                userRoleMultiRepository,
-                roleRepository,
-                permissionRepository);
+            RolePermissionCatalog rolePermissionCatalog) {
+        return new LoginUseCase(authUserRepository, jwtTokenGateway, rolePermissionCatalog);
+    }
+
+    @Bean
+    public RefreshTokenUseCase refreshTokenUseCase(
+            JwtTokenGateway jwtTokenGateway,
+            AuthUserRepository authUserRepository,
+            RolePermissionCatalog rolePermissionCatalog) {
+        return new RefreshTokenUseCase(jwtTokenGateway, authUserRepository, rolePermissionCatalog);
     }
 
     @Bean
-    public RefreshTokenUseCase refreshTokenUseCase(JwtTokenGateway jwtTokenGateway) {
-        return new RefreshTokenUseCase(jwtTokenGateway);
+    public RolePermissionCatalog rolePermissionCatalog(
+            co.com.atlas.model.permission.gateways.PermissionRepository permissionRepository) {
+        return new RolePermissionCatalog(permissionRepository);
     }
 
     @Bean
@@ -201,13 +214,15 @@ public class UseCasesConfig {
             VisitApprovalRepository visitApprovalRepository,
             AccessCodeRepository accessCodeRepository,
             UnitRepository unitRepository,
-            UserUnitRepository userUnitRepository) {
+            UserUnitRepository userUnitRepository,
+            ActiveAccessCodeIndex activeAccessCodeIndex) {
         return new VisitRequestUseCase(
                 visitRequestRepository,
                 visitApprovalRepository,
                 accessCodeRepository,
                 unitRepository,
-                userUnitRepository);
+                userUnitRepository,
+                activeAccessCodeIndex);
     }
 
     // Access Use Cases
@@ -215,8 +230,15 @@ public class UseCasesConfig {
     public AccessCodeUseCase accessCodeUseCase(
             AccessCodeRepository accessCodeRepository,
             AccessScanLogRepository accessScanLogRepository,
-            VisitRequestRepository visitRequestRepository) {
-        return new AccessCodeUseCase(accessCodeRepository, accessScanLogRepository, visitRequestRepository);
+            ActiveAccessCodeIndex activeAccessCodeIndex) {
+        return new AccessCodeUseCase(accessCodeRepository, accessScanLogRepository, activeAccessCodeIndex);
+    }
+
+    @Bean
+    public ActiveAccessCodeIndex activeAccessCodeIndex(
+            @org.springframework.beans.factory.annotation.Value("${atlas.access-codes.index.enabled:false}") boolean enabled,
+            @org.springframework.beans.factory.annotation.Value("${atlas.access-codes.index.ttl:PT5M}") java.time.Duration ttl) {
+        return new ActiveAccessCodeIndex(enabled, ttl);
     }
 
     // Post Use Cases
@@ -238,8 +260,31 @@ public class UseCasesConfig {
     public PollUseCase pollUseCase(
             PollRepository pollRepository,
             PollOptionRepository pollOptionRepository,
-            PollVoteRepository pollVoteRepository) {
-        return new PollUseCase(pollRepository, pollOptionRepository, pollVoteRepository);
+            PollVoteRepository pollVoteRepository,
+            ClosedPollResultsCache closedPollResultsCache,
+            PollVoteCounters pollVoteCounters) {
+        return new PollUseCase(pollRepository, pollOptionRepository, pollVoteRepository,
+                closedPollResultsCache, pollVoteCounters);
+    }
+
+    @Bean
+    public StreamPollResultsUseCase streamPollResultsUseCase(
+            PollUseCase pollUseCase,
+            @org.springframework.beans.factory.annotation.Value("${atlas.polls.results-stream.interval:PT1S}") java.time.Duration interval) {
+        return new StreamPollResultsUseCase(pollUseCase, interval);
+    }
+
+    @Bean
+    public PollVoteCounters pollVoteCounters(
+            PollVoteRepository pollVoteRepository,
+            @org.springframework.beans.factory.annotation.Value("${atlas.polls.live-counters.idle-timeout:PT15M}") java.time.Duration idleTimeout) {
+        return new PollVoteCounters(pollVoteRepository, idleTimeout);
+    }
+
+    @Bean
+    public ClosedPollResultsCache closedPollResultsCache(
+            @org.springframework.beans.factory.annotation.Value("${atlas.polls.closed-results-cache.max-entries:512}") int maxEntries) {
+        return new ClosedPollResultsCache(maxEntries);
     }
 
     // Admin Pre-Registration Use Cases
@@ -340,24 +385,22 @@ public class UseCasesConfig {
             OrganizationRepository organizationRepository,
             OrganizationConfigurationRepository organizationConfigurationRepository,
             AuthUserRepository authUserRepository,
-            InvitationRepository invitationRepository,
             InvitationAuditRepository invitationAuditRepository,
             UserOrganizationRepository userOrganizationRepository,
             UserUnitRepository userUnitRepository,
             RoleRepository roleRepository,
-            NotificationGateway notificationGateway,
+            EmailOutboxRepository emailOutboxRepository,
             @org.springframework.beans.factory.annotation.Value("${app.frontend-url:http://localhost:4200}") String frontendUrl) {
         return new UnitDistributionUseCase(
                 unitRepository,
                 organizationRepository,
                 organizationConfigurationRepository,
                 authUserRepository,
-                invitationRepository,
                 invitationAuditRepository,
                 userOrganizationRepository,
                 userUnitRepository,
                 roleRepository,
-                notificationGateway,
+                emailOutboxRepository,
                 frontendUrl);
     }
 
@@ -367,26 +410,39 @@ public class UseCasesConfig {
             UnitRepository unitRepository,
             OrganizationRepository organizationRepository,
             AuthUserRepository authUserRepository,
-            InvitationRepository invitationRepository,
             InvitationAuditRepository invitationAuditRepository,
             UserOrganizationRepository userOrganizationRepository,
             UserUnitRepository userUnitRepository,
             RoleRepository roleRepository,
-            NotificationGateway notificationGateway,
+            EmailOutboxRepository emailOutboxRepository,
             @org.springframework.beans.factory.annotation.Value("${app.frontend-url:http://localhost:4200}") String frontendUrl) {
         return new UnitBulkUploadUseCase(
                 unitRepository,
                 organizationRepository,
                 authUserRepository,
-                invitationRepository,
                 invitationAuditRepository,
                 userOrganizationRepository,
                 userUnitRepository,
                 roleRepository,
-                notificationGateway,
+                emailOutboxRepository,
                 frontendUrl);
     }
 
+    // Email Outbox Use Cases
+    @Bean
+    public DispatchEmailOutboxUseCase dispatchEmailOutboxUseCase(
+            EmailOutboxRepository emailOutboxRepository,
+            NotificationGateway notificationGateway,
+            InvitationAuditRepository invitationAuditRepository,
+            @org.springframework.beans.factory.annotation.Value("${atlas.notifications.outbox.batch-size:50}") int batchSize,
+            @org.springframework.beans.factory.annotation.Value("${atlas.notifications.outbox.max-attempts:5}") int maxAttempts,
+            @org.springframework.beans.factory.annotation.Value("${atlas.notifications.outbox.base-backoff:PT30S}") java.time.Duration baseBackoff,
+            @org.springframework.beans.factory.annotation.Value("${atlas.notifications.outbox.max-backoff:PT30M}") java.time.Duration maxBackoff,
+            @org.springframework.beans.factory.annotation.Value("${atlas.notifications.outbox.lease:PT5M}") java.time.Duration lease) {
+        return new DispatchEmailOutboxUseCase(emailOutboxRepository, notificationGateway, invitationAuditRepository,
+                batchSize, maxAttempts, baseBackoff, maxBackoff, lease);
+    }
+
     // Organization Settings Use Cases
     @Bean
     public OrganizationSettingsUseCase organizationSettingsUseCase(
@@ -459,10 +515,9 @@ public class UseCasesConfig {
             CryptoKeyRepository cryptoKeyRepository,
             CryptoKeyGeneratorGateway cryptoKeyGeneratorGateway,
             JwtTokenGateway jwtTokenGateway,
-            UserRoleMultiRepository userRoleMultiRepository,
-            RoleRepository roleRepository,
-            PermissionRepository permissionRepository,
-            UserOrganizationRepository userOrganizationRepository) {
+            UserOrganizationRepository userOrganizationRepository,
+            VerificationKeyCache verificationKeyCache,
+            RolePermissionCatalog rolePermissionCatalog) {
         return new EnrollPorterDeviceUseCase(
                 porterEnrollmentTokenRepository,
                 porterEnrollmentAuditRepository,
@@ -471,10 +526,9 @@ public class UseCasesConfig {
                 cryptoKeyRepository,
                 cryptoKeyGeneratorGateway,
                 jwtTokenGateway,
-                userRoleMultiRepository,
-                roleRepository,
-                permissionRepository,
-                userOrganizationRepository);
+                userOrganizationRepository,
+                verificationKeyCache,
+                rolePermissionCatalog);
     }
 
     // Authorization Use Cases
@@ -485,14 +539,16 @@ public class UseCasesConfig {
             CryptoKeyRepository cryptoKeyRepository,
             CryptoKeyGeneratorGateway cryptoKeyGeneratorGateway,
             UserUnitRepository userUnitRepository,
-            UnitRepository unitRepository) {
+            UnitRepository unitRepository,
+            VerificationKeyCache verificationKeyCache) {
         return new CreateAuthorizationUseCase(
                 authorizationRepository,
                 fileStorageGateway,
                 cryptoKeyRepository,
                 cryptoKeyGeneratorGateway,
                 userUnitRepository,
-                unitRepository);
+                unitRepository,
+                verificationKeyCache);
     }
 
     @Bean
@@ -510,20 +566,31 @@ public class UseCasesConfig {
 
     @Bean
     public RevokeAuthorizationUseCase revokeAuthorizationUseCase(
-            VisitorAuthorizationRepository authorizationRepository) {
-        return new RevokeAuthorizationUseCase(authorizationRepository);
+            VisitorAuthorizationRepository authorizationRepository,
+            RevocationFilterIndex revocationFilterIndex,
+            RevocationBroadcaster revocationBroadcaster) {
+        return new RevokeAuthorizationUseCase(authorizationRepository, revocationFilterIndex, revocationBroadcaster);
     }
 
     // Access Porter Use Cases (HU #7)
+    @Bean
+    public VerificationKeyCache verificationKeyCache(
+            @org.springframework.beans.factory.annotation.Value("${atlas.crypto.verification-key-cache.max-entries:1024}") int maxEntries,
+            @org.springframework.beans.factory.annotation.Value("${atlas.crypto.verification-key-cache.ttl:PT10M}") java.time.Duration ttl) {
+        return new VerificationKeyCache(maxEntries, ttl);
+    }
+
     @Bean
     public ValidateAuthorizationUseCase validateAuthorizationUseCase(
             CryptoKeyRepository cryptoKeyRepository,
             VisitorAuthorizationRepository visitorAuthorizationRepository,
-            AccessEventRepository accessEventRepository) {
+            AccessEventRepository accessEventRepository,
+            VerificationKeyCache verificationKeyCache) {
         return new ValidateAuthorizationUseCase(
                 cryptoKeyRepository,
                 visitorAuthorizationRepository,
-                accessEventRepository);
+                accessEventRepository,
+                verificationKeyCache);
     }
 
     @Bean
@@ -537,8 +604,9 @@ public class UseCasesConfig {
 
     @Bean
     public SyncAccessEventsUseCase syncAccessEventsUseCase(
-            AccessEventRepository accessEventRepository) {
-        return new SyncAccessEventsUseCase(accessEventRepository);
+            AccessEventRepository accessEventRepository,
+            @org.springframework.beans.factory.annotation.Value("${atlas.porter.sync.window-size:200}") int syncWindowSize) {
+        return new SyncAccessEventsUseCase(accessEventRepository, syncWindowSize);
     }
 
     @Bean
@@ -547,6 +615,38 @@ public class UseCasesConfig {
         return new GetRevocationListUseCase(visitorAuthorizationRepository);
     }
 
+    @Bean
+    public RevocationFilterIndex revocationFilterIndex(
+            @org.springframework.beans.factory.annotation.Value("${atlas.porter.revocation-filter.false-positive-rate:0.01}") double falsePositiveRate,
+            @org.springframework.beans.factory.annotation.Value("${atlas.porter.revocation-filter.min-capacity:1024}") int minCapacity) {
+        return new RevocationFilterIndex(falsePositiveRate, minCapacity);
+    }
+
+    @Bean
+    public GetRevocationFilterUseCase getRevocationFilterUseCase(
+            VisitorAuthorizationRepository visitorAuthorizationRepository,
+            RevocationFilterIndex revocationFilterIndex) {
+        return new GetRevocationFilterUseCase(visitorAuthorizationRepository, revocationFilterIndex);
+    }
+
+    @Bean
+    public GetAccessStatsUseCase getAccessStatsUseCase(AccessEventRollupRepository accessEventRollupRepository) {
+        return new GetAccessStatsUseCase(accessEventRollupRepository);
+    }
+
+    @Bean
+    public RevocationBroadcaster revocationBroadcaster() {
+        return new RevocationBroadcaster();
+    }
+
+    @Bean
+    public StreamRevocationsUseCase streamRevocationsUseCase(
+            VisitorAuthorizationRepository visitorAuthorizationRepository,
+            RevocationBroadcaster revocationBroadcaster,
+            @org.springframework.beans.factory.annotation.Value("${atlas.porter.revocation-stream.buffer-size:256}") int bufferSize) {
+        return new StreamRevocationsUseCase(visitorAuthorizationRepository, revocationBroadcaster, bufferSize);
+    }
+
     @Bean
     public RegisterVehicleExitUseCase registerVehicleExitUseCase(
             AccessEventRepository accessEventRepository) {
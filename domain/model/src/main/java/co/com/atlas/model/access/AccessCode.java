@@ -17,11 +17,13 @@ import java.time.Instant;
 public class AccessCode {
     private Long id;
     private Long visitRequestId;
+    private Long organizationId;
     private String codeHash;
     private String rawCode; // Código antes de hashear (transitorio)
     private CodeType codeType;
     private AccessCodeStatus status;
     private Integer entriesUsed;
+    private Integer maxEntries; // Copiado de la visita al aprobar; null = ilimitado
     private Instant validFrom;
     private Instant validUntil;
     private Instant createdAt;
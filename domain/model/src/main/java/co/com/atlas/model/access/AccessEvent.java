@@ -18,6 +18,8 @@ import java.time.Instant;
 @Builder(toBuilder = true)
 public class AccessEvent {
     private Long id;
+    /** UUID generado por el dispositivo; hace idempotente la sincronización offline */
+    private String clientEventId;
     private Long organizationId;
     private Long authorizationId;
     private Long porterUserId;
@@ -0,0 +1,43 @@
+package co.com.atlas.model.access;
+
+import co.com.atlas.model.common.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Cursor de paginación keyset sobre (scanned_at, id) del historial de eventos de acceso.
+ * Se serializa como texto opaco base64url para que el cliente lo reenvíe sin interpretarlo.
+ */
+public record AccessEventCursor(Instant scannedAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static AccessEventCursor of(AccessEvent event) {
+        return new AccessEventCursor(event.getScannedAt(), event.getId());
+    }
+
+    public String encode() {
+        String raw = scannedAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un cursor recibido del cliente.
+     *
+     * @throws BusinessException si el cursor no es válido
+     */
+    public static AccessEventCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new AccessEventCursor(
+                    Instant.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new BusinessException("Cursor de paginación inválido", "INVALID_CURSOR");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package co.com.atlas.model.access;
+
+import java.util.List;
+
+/**
+ * Página del historial de eventos de acceso.
+ * {@code nextCursor} es null cuando no hay más eventos.
+ */
+public record AccessEventPage(
+        List<AccessEvent> events,
+        String nextCursor
+) {
+    public AccessEventPage {
+        events = events != null ? List.copyOf(events) : List.of();
+    }
+}
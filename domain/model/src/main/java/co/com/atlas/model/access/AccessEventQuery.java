@@ -0,0 +1,48 @@
+package co.com.atlas.model.access;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Criterios de consulta paginada del historial de eventos de acceso.
+ * Todos los filtros son opcionales; los valores null se ignoran.
+ * La paginación es por keyset sobre (scanned_at, id) en orden descendente.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class AccessEventQuery {
+
+    /**
+     * Inicio del rango de fechas de escaneo (inclusivo)
+     */
+    private final Instant from;
+
+    /**
+     * Fin del rango de fechas de escaneo (inclusivo)
+     */
+    private final Instant to;
+
+    /**
+     * Filtro por acción (ENTRY / EXIT)
+     */
+    private final AccessAction action;
+
+    /**
+     * Filtro por resultado de escaneo
+     */
+    private final ScanResult scanResult;
+
+    /**
+     * Cursor: último evento de la página anterior (null para la primera página)
+     */
+    private final AccessEventCursor after;
+
+    /**
+     * Máximo de eventos a retornar (null para sin límite)
+     */
+    private final Integer limit;
+}
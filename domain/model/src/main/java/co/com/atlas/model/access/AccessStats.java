@@ -0,0 +1,18 @@
+package co.com.atlas.model.access;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Estadísticas de acceso de una organización para el rango [from, to) ya alineado a la granularidad.
+ */
+public record AccessStats(
+        AccessStatsGranularity granularity,
+        Instant from,
+        Instant to,
+        List<AccessStatsBucket> buckets
+) {
+    public AccessStats {
+        buckets = buckets != null ? List.copyOf(buckets) : List.of();
+    }
+}
@@ -0,0 +1,16 @@
+package co.com.atlas.model.access;
+
+import java.time.Instant;
+
+/**
+ * Conteo pre-agregado de eventos de acceso para un bucket de tiempo.
+ * {@code deviceId} es null para eventos registrados sin dispositivo.
+ */
+public record AccessStatsBucket(
+        Instant bucketStart,
+        String deviceId,
+        AccessAction action,
+        ScanResult scanResult,
+        long count
+) {
+}
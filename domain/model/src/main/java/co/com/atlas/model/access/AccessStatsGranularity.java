@@ -0,0 +1,9 @@
+package co.com.atlas.model.access;
+
+/**
+ * Granularidad de los buckets de estadísticas de acceso (UTC).
+ */
+public enum AccessStatsGranularity {
+    HOUR,
+    DAY
+}
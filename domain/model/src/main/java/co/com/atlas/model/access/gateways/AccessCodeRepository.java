@@ -5,6 +5,8 @@ import co.com.atlas.model.access.AccessCodeStatus;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+
 /**
  * Gateway para operaciones de AccessCode.
  */
@@ -25,6 +27,11 @@ public interface AccessCodeRepository {
      */
     Flux<AccessCode> findByVisitRequestId(Long visitRequestId);
     
+    /**
+     * Lista los hashes de los códigos ACTIVE de la organización (índice en memoria de códigos activos).
+     */
+    Flux<String> findActiveCodeHashesByOrganizationId(Long organizationId);
+    
     /**
      * Lista los códigos por estado.
      */
@@ -35,6 +42,20 @@ public interface AccessCodeRepository {
      */
     Mono<AccessCode> save(AccessCode accessCode);
     
+    /**
+     * Registra una entrada de forma atómica: incrementa {@code entriesUsed} y marca el código como USED
+     * al alcanzar el máximo de entradas, solo si está ACTIVE, dentro de su vigencia y con cupo.
+     * Es seguro ante escaneos concurrentes del mismo código en varias porterías.
+     *
+     * Se resuelve en una sola sentencia; si la entrada no se admitió, el motivo se consulta aparte
+     * con {@link #findByCodeHash}.
+     *
+     * @param codeHash Hash del código escaneado
+     * @return el código admitido (solo id, hash y estado resultante: ACTIVE o USED), o vacío si
+     *         no existe o no se admitió la entrada
+     */
+    Mono<AccessCode> registerEntry(String codeHash, Instant now);
+
     /**
      * Elimina un código.
      */
@@ -2,6 +2,7 @@ package co.com.atlas.model.access.gateways;
 
 import co.com.atlas.model.access.AccessAction;
 import co.com.atlas.model.access.AccessEvent;
+import co.com.atlas.model.access.AccessEventQuery;
 import co.com.atlas.model.access.ScanResult;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -19,6 +20,16 @@ public interface AccessEventRepository {
      */
     Mono<AccessEvent> save(AccessEvent accessEvent);
 
+    /**
+     * Registra el resultado de un escaneo en el hot path de validación.
+     * La implementación puede diferir la escritura en base de datos (write-behind): en ese caso el
+     * evento retornado tiene {@code id} nulo y se identifica por su {@code clientEventId}, que
+     * siempre viene asignado.
+     */
+    default Mono<AccessEvent> recordScan(AccessEvent accessEvent) {
+        return save(accessEvent);
+    }
+
     /**
      * Guarda un lote de eventos (sincronización offline).
      */
@@ -44,4 +55,10 @@ public interface AccessEventRepository {
      */
     Flux<AccessEvent> findByOrganizationIdAndFilters(Long organizationId, Instant from, Instant to,
                                                       AccessAction action, ScanResult scanResult);
+
+    /**
+     * Lista eventos de la organización según la consulta, ordenados por (scanned_at, id) descendente.
+     * Filtros, cursor y límite se resuelven en base de datos.
+     */
+    Flux<AccessEvent> findByOrganizationIdAndQuery(Long organizationId, AccessEventQuery query);
 }
@@ -0,0 +1,22 @@
+package co.com.atlas.model.access.gateways;
+
+import co.com.atlas.model.access.AccessStatsBucket;
+import co.com.atlas.model.access.AccessStatsGranularity;
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+
+/**
+ * Gateway de lectura de los contadores pre-agregados de eventos de acceso.
+ * Los contadores se actualizan al insertar cada evento (guardado en línea o sincronización offline).
+ */
+public interface AccessEventRollupRepository {
+
+    /**
+     * Lista los buckets de la organización con inicio en [from, to), ordenados por bucket.
+     *
+     * @param deviceId filtro opcional por dispositivo de portería
+     */
+    Flux<AccessStatsBucket> findBuckets(Long organizationId, AccessStatsGranularity granularity,
+                                        Instant from, Instant to, String deviceId);
+}
@@ -67,4 +67,10 @@ public class AuthUser {
      * Ejemplo: ["ATLAS_CORE"]
      */
     private List<String> enabledModules;
+    
+    /**
+     * Versión del catálogo rol → permisos con la que se resolvieron los permisos.
+     * Viaja en el JWT compacto en lugar de la lista de permisos.
+     */
+    private Long permissionsVersion;
 }
@@ -0,0 +1,57 @@
+package co.com.atlas.model.auth;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Value object inmutable con los claims de un JWT ya verificado.
+ * Se obtiene una sola vez por request y se comparte entre filtros y handlers,
+ * evitando volver a parsear y verificar la firma del mismo token.
+ */
+public record TokenClaims(
+        String subject,
+        Long organizationId,
+        List<String> roles,
+        List<String> permissions,
+        String email,
+        String names,
+        String tokenType,
+        Instant expiresAt,
+        Long permissionsVersion
+) {
+
+    public TokenClaims {
+        roles = roles != null ? List.copyOf(roles) : List.of();
+        permissions = permissions != null ? List.copyOf(permissions) : List.of();
+    }
+
+    /**
+     * Rol principal del usuario (primer rol del token) o cadena vacía si no tiene roles.
+     */
+    public String primaryRole() {
+        return roles.isEmpty() ? "" : roles.get(0);
+    }
+
+    /**
+     * ID del usuario (subject) como Long, o null si no es numérico.
+     */
+    public Long userId() {
+        try {
+            return subject != null ? Long.valueOf(subject) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Copia de los claims con los permisos expandidos desde el catálogo (token compacto).
+     */
+    public TokenClaims withPermissions(List<String> expandedPermissions) {
+        return new TokenClaims(subject, organizationId, roles, expandedPermissions, email, names, tokenType,
+                expiresAt, permissionsVersion);
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
@@ -31,6 +31,24 @@ public interface AuthUserRepository {
      */
     Mono<AuthUser> findById(Long id);
     
+    /**
+     * Busca un usuario por email o username sin cargar roles ni permisos (validación de credenciales).
+     */
+    Mono<AuthUser> findCredentialsByEmailOrUsername(String identifier);
+    
+    /**
+     * Carga el usuario con su organización y roles en una sola consulta. Los permisos no se
+     * incluyen: se resuelven desde el catálogo rol → permisos en memoria.
+     * La organización se resuelve en orden: {@code organizationId} recibido, last_organization_id,
+     * primera membresía activa y primera asignación en user_roles_multi. Si no se resuelve ninguna
+     * se cargan los roles sin organización (pre-registro) y organizationId queda null.
+     * 
+     * @param userId ID del usuario
+     * @param organizationId organización solicitada, o null para resolverla
+     * @return Mono vacío si el usuario no existe o fue eliminado
+     */
+    Mono<AuthUser> findWithAccessProfile(Long userId, Long organizationId);
+    
     /**
      * Valida una contraseña contra su hash.
      */
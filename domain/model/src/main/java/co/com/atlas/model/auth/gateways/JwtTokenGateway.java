@@ -2,6 +2,7 @@ package co.com.atlas.model.auth.gateways;
 
 import co.com.atlas.model.auth.AuthToken;
 import co.com.atlas.model.auth.AuthUser;
+import co.com.atlas.model.auth.TokenClaims;
 import reactor.core.publisher.Mono;
 
 public interface JwtTokenGateway {
@@ -13,6 +14,14 @@ public interface JwtTokenGateway {
     Mono<AuthToken> generateTokenPair(AuthUser user);
     
     Mono<Boolean> validateToken(String token);
+
+    /**
+     * Verifica la firma del token una sola vez y devuelve sus claims.
+     *
+     * @param token JWT firmado
+     * @return Claims verificados, o Mono vacío si el token es inválido o expiró
+     */
+    Mono<TokenClaims> parseToken(String token);
     
     Mono<String> extractUserId(String token);
     
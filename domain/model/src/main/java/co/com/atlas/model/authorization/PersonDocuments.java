@@ -0,0 +1,21 @@
+package co.com.atlas.model.authorization;
+
+import java.util.Locale;
+
+/**
+ * Normalización de números de documento de identidad para búsquedas indexadas.
+ * Elimina separadores (puntos, guiones, espacios) y convierte a mayúsculas,
+ * de modo que "1.234.567-8" y "12345678" coincidan.
+ */
+public final class PersonDocuments {
+
+    private PersonDocuments() {
+    }
+
+    public static String normalize(String document) {
+        if (document == null) {
+            return null;
+        }
+        return document.replaceAll("[^0-9A-Za-z]", "").toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,18 @@
+package co.com.atlas.model.authorization;
+
+import java.util.List;
+
+/**
+ * Value object con las revocaciones nuevas desde un cursor.
+ * El dispositivo guarda {@code nextCursor} y lo envía en la siguiente consulta;
+ * si {@code hasMore} es true debe consultar de nuevo inmediatamente.
+ */
+public record RevocationDelta(
+        List<Long> revokedIds,
+        Long nextCursor,
+        boolean hasMore
+) {
+    public RevocationDelta {
+        revokedIds = revokedIds != null ? List.copyOf(revokedIds) : List.of();
+    }
+}
@@ -0,0 +1,13 @@
+package co.com.atlas.model.authorization;
+
+import java.time.Instant;
+
+/**
+ * Registro del log de revocaciones de una organización.
+ * La versión es monótona creciente y sirve como cursor para los dispositivos de portería.
+ */
+public record RevocationEntry(
+        Long version,
+        Long authorizationId,
+        Instant revokedAt
+) {}
@@ -0,0 +1,18 @@
+package co.com.atlas.model.authorization;
+
+/**
+ * Value object con el filtro de Bloom serializado de autorizaciones revocadas de una organización.
+ * <p>
+ * {@code version} es la versión del log de revocaciones incluida en el filtro: el dispositivo puede
+ * continuar la sincronización con {@code /api/porter/revocations?cursor=version}.
+ * {@code bits} contiene el arreglo de bits como words de 64 bits en little-endian.
+ * </p>
+ */
+public record RevocationFilter(
+        Long version,
+        int count,
+        long numBits,
+        int numHashes,
+        double falsePositiveRate,
+        byte[] bits
+) {}
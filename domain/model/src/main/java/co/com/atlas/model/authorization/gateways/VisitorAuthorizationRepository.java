@@ -1,10 +1,13 @@
 package co.com.atlas.model.authorization.gateways;
 
 import co.com.atlas.model.authorization.AuthorizationStatus;
+import co.com.atlas.model.authorization.RevocationEntry;
 import co.com.atlas.model.authorization.VisitorAuthorization;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+
 /**
  * Gateway de dominio para operaciones de autorización de visitantes.
  */
@@ -40,8 +43,33 @@ public interface VisitorAuthorizationRepository {
      */
     Flux<VisitorAuthorization> findByCreatedByUserId(Long userId);
 
+    /**
+     * Busca autorizaciones activas por documento normalizado con vigencia hasta al menos {@code validToFrom}.
+     *
+     * @param organizationId     ID de la organización
+     * @param normalizedDocument Documento normalizado con {@link co.com.atlas.model.authorization.PersonDocuments}
+     * @param validToFrom        Límite inferior de valid_to
+     */
+    Flux<VisitorAuthorization> findActiveByDocument(Long organizationId, String normalizedDocument, Instant validToFrom);
+
     /**
      * Actualiza el estado de una autorización.
      */
     Mono<VisitorAuthorization> updateStatus(Long id, AuthorizationStatus status, Long revokedBy);
+
+    /**
+     * Obtiene IDs de autorizaciones revocadas de la organización, opcionalmente desde una fecha.
+     * El filtro se resuelve en base de datos.
+     */
+    Flux<Long> findRevokedIdsSince(Long organizationId, Instant since);
+
+    /**
+     * Obtiene las entradas del log de revocaciones con versión mayor al cursor, en orden ascendente.
+     */
+    Flux<RevocationEntry> findRevocationsAfter(Long organizationId, Long cursor, int limit);
+
+    /**
+     * Obtiene la entrada más reciente del log de revocaciones para una autorización.
+     */
+    Mono<RevocationEntry> findRevocationByAuthorizationId(Long authorizationId);
 }
@@ -0,0 +1,72 @@
+package co.com.atlas.model.common;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache en memoria acotado (LRU) con expiración por TTL desde la carga de cada entrada.
+ * Base común de los caches de claves criptográficas; todas las operaciones están sincronizadas
+ * y son O(1), por lo que no deben envolver trabajo costoso (descifrado, consultas).
+ *
+ * @param <K> tipo de la llave
+ * @param <V> tipo del valor
+ */
+public class BoundedTtlCache<K, V> {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final Map<K, Entry<V>> entries;
+
+    private record Entry<V>(V value, long loadedAt) {}
+
+    public BoundedTtlCache(int maxEntries, Duration ttl) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries debe ser mayor que cero");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > BoundedTtlCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Obtiene el valor vigente de la llave; las entradas vencidas se descartan.
+     *
+     * @return Valor en cache o null si no hay entrada vigente
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.loadedAt() > ttlNanos) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * Registra el valor de la llave; el TTL corre desde este momento.
+     */
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, System.nanoTime()));
+    }
+
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
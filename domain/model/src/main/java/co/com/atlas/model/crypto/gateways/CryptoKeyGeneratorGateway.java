@@ -3,6 +3,8 @@ package co.com.atlas.model.crypto.gateways;
 import co.com.atlas.model.crypto.OrganizationCryptoKey;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Gateway para generación y gestión de claves criptográficas.
  * La implementación concreta genera pares Ed25519, exporta JWK y cifra con AES-256/GCM.
@@ -27,4 +29,20 @@ public interface CryptoKeyGeneratorGateway {
      * @return Firma en Base64URL
      */
     Mono<String> signPayload(String payload, String encryptedPrivateKey);
+
+    /**
+     * Firma varios payloads con la misma clave privada cifrada.
+     * La clave se descifra una sola vez para todo el lote.
+     *
+     * @param payloads Datos a firmar (Base64URL)
+     * @param encryptedPrivateKey Clave privada cifrada con AES-256/GCM
+     * @return Firmas en Base64URL, en el mismo orden que los payloads
+     */
+    Mono<List<String>> signPayloads(List<String> payloads, String encryptedPrivateKey);
+
+    /**
+     * Descarta las claves privadas descifradas en cache. Se invoca al activar una clave nueva de una
+     * organización, para que la clave retirada no siga en memoria hasta vencer su TTL.
+     */
+    Mono<Void> evictSigningKeys();
 }
@@ -0,0 +1,19 @@
+package co.com.atlas.model.notification;
+
+/**
+ * Resultado del envío de un correo del outbox.
+ *
+ * @param emailId   ID del correo en el outbox
+ * @param delivered true si el servidor SMTP aceptó el mensaje
+ * @param error     causa del fallo (null si se entregó)
+ */
+public record EmailDeliveryResult(Long emailId, boolean delivered, String error) {
+
+    public static EmailDeliveryResult delivered(Long emailId) {
+        return new EmailDeliveryResult(emailId, true, null);
+    }
+
+    public static EmailDeliveryResult failed(Long emailId, String error) {
+        return new EmailDeliveryResult(emailId, false, error);
+    }
+}
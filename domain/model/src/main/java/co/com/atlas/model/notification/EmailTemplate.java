@@ -0,0 +1,9 @@
+package co.com.atlas.model.notification;
+
+/**
+ * Plantillas de correo que se pueden encolar en el outbox.
+ */
+public enum EmailTemplate {
+    /** Parámetros: token, activationUrl */
+    OWNER_INVITATION
+}
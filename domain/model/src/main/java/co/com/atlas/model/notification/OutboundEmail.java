@@ -0,0 +1,32 @@
+package co.com.atlas.model.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Correo pendiente de envío en el outbox (tabla email_outbox).
+ * Se guarda junto con la entidad que lo origina y lo envía el despachador en segundo plano;
+ * el cuerpo se renderiza al enviar a partir de la plantilla y sus parámetros.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboundEmail {
+    private Long id;
+    private EmailTemplate template;
+    private String recipient;
+    private Long invitationId;
+    private Map<String, String> params;
+    private OutboundEmailStatus status;
+    private Integer retryCount;
+    private Instant lastRetryAt;
+    private String lastError;
+    private Instant createdAt;
+    private Instant sentAt;
+}
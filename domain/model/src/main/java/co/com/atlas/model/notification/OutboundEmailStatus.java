@@ -0,0 +1,10 @@
+package co.com.atlas.model.notification;
+
+/**
+ * Estados de un correo del outbox.
+ */
+public enum OutboundEmailStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,44 @@
+package co.com.atlas.model.notification.gateways;
+
+import co.com.atlas.model.invitation.Invitation;
+import co.com.atlas.model.notification.OutboundEmail;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Gateway para el outbox de correos.
+ */
+public interface EmailOutboxRepository {
+
+    /**
+     * Guarda la invitación y su correo en una misma transacción; el correo queda PENDING
+     * y referenciando la invitación guardada.
+     *
+     * @return La invitación guardada
+     */
+    Mono<Invitation> saveInvitationWithEmail(Invitation invitation, OutboundEmail email);
+
+    /**
+     * Reserva hasta {@code limit} correos PENDING cuyo backoff ya venció, en orden de creación.
+     * El backoff tras el intento N es {@code baseBackoff * 2^(N-1)}, medido desde last_retry_at
+     * y acotado por {@code maxBackoff}. La reserva vence tras {@code lease}, de modo que otra
+     * instancia puede retomar los correos de un despachador caído.
+     */
+    Flux<OutboundEmail> claimBatch(int limit, Duration baseBackoff, Duration maxBackoff, Duration lease);
+
+    /**
+     * Marca los correos como SENT y su invitación como enviada.
+     */
+    Mono<Void> markSent(List<Long> ids, Instant sentAt);
+
+    /**
+     * Registra un intento fallido (retry_count + 1, last_retry_at) en el correo y en su invitación.
+     *
+     * @param exhausted true si no quedan reintentos: el correo y la invitación quedan FAILED
+     */
+    Mono<Void> markFailed(Long id, String error, boolean exhausted);
+}
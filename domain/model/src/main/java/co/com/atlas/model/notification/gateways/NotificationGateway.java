@@ -1,8 +1,13 @@
 package co.com.atlas.model.notification.gateways;
 
 import co.com.atlas.model.invitation.Invitation;
+import co.com.atlas.model.notification.EmailDeliveryResult;
+import co.com.atlas.model.notification.OutboundEmail;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Gateway para envío de notificaciones.
  * Abstrae el mecanismo de envío de notificaciones.
@@ -82,4 +87,13 @@ public interface NotificationGateway {
             String activationUrl,
             Invitation invitation
     );
+    
+    /**
+     * Envía un lote de correos del outbox reutilizando las sesiones SMTP abiertas.
+     * Un fallo de un correo no detiene el resto del lote.
+     * 
+     * @param batch correos a enviar
+     * @return resultado por correo, en cualquier orden
+     */
+    Flux<EmailDeliveryResult> deliver(List<OutboundEmail> batch);
 }
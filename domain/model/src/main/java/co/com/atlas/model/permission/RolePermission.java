@@ -0,0 +1,7 @@
+package co.com.atlas.model.permission;
+
+/**
+ * Asignación de un permiso a un rol (fila de role_permissions con el permiso resuelto).
+ */
+public record RolePermission(Long roleId, String roleCode, Permission permission) {
+}
@@ -1,6 +1,7 @@
 package co.com.atlas.model.permission.gateways;
 
 import co.com.atlas.model.permission.Permission;
+import co.com.atlas.model.permission.RolePermission;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -27,4 +28,15 @@ public interface PermissionRepository {
      * @return Flux de permisos del rol
      */
     Flux<Permission> findByRoleId(Long roleId);
+    
+    /**
+     * Obtiene todas las asignaciones rol → permiso (carga del catálogo en memoria).
+     */
+    Flux<RolePermission> findAllRolePermissions();
+    
+    /**
+     * Versión del catálogo de roles y permisos; los triggers de V29 la incrementan
+     * con cada cambio en role, permissions o role_permissions.
+     */
+    Mono<Long> findCatalogVersion();
 }
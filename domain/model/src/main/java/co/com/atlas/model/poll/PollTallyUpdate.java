@@ -0,0 +1,17 @@
+package co.com.atlas.model.poll;
+
+import java.util.Map;
+
+/**
+ * Actualización del conteo en vivo de una encuesta.
+ * Con {@code snapshot} en true {@code counts} trae todas las opciones con votos; si no, solo las
+ * opciones cuyo conteo cambió desde la actualización anterior. {@code totalVotes} es siempre el total.
+ */
+public record PollTallyUpdate(
+        Long pollId,
+        long sequence,
+        boolean snapshot,
+        PollStatus status,
+        Map<Long, Long> counts,
+        long totalVotes
+) {}
@@ -4,12 +4,23 @@ import co.com.atlas.model.poll.PollVote;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
+
 /**
  * Gateway para repositorio de PollVotes.
  */
 public interface PollVoteRepository {
     
     Mono<PollVote> save(PollVote vote);
+
+    /**
+     * Inserta el voto salvo que el usuario ya tenga uno equivalente (único por encuesta o,
+     * si la encuesta es de opción múltiple, por opción). La unicidad la garantiza la base de datos.
+     *
+     * @param multipleChoice true si la encuesta permite votar varias opciones
+     * @return El voto registrado (sin ID) o vacío si era un duplicado
+     */
+    Mono<PollVote> saveIfAbsent(PollVote vote, boolean multipleChoice);
     
     Flux<PollVote> findByPollId(Long pollId);
     
@@ -20,4 +31,11 @@ public interface PollVoteRepository {
     Mono<Long> countByOptionId(Long optionId);
     
     Mono<Long> countByPollId(Long pollId);
+
+    /**
+     * Cuenta los votos de todas las opciones de la encuesta en una sola consulta.
+     *
+     * @return Mapa optionId → votos; las opciones sin votos no aparecen
+     */
+    Mono<Map<Long, Long>> countByPollIdGroupByOption(Long pollId);
 }
@@ -0,0 +1,48 @@
+package co.com.atlas.model.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedTtlCacheTest {
+
+    @Test
+    void get_shouldReturnValue_whenEntryIsFresh() {
+        BoundedTtlCache<String, Integer> cache = new BoundedTtlCache<>(4, Duration.ofMinutes(5));
+        cache.put("a", 1);
+
+        assertEquals(1, cache.get("a"));
+    }
+
+    @Test
+    void get_shouldReturnNullAndDropEntry_whenTtlElapsed() {
+        BoundedTtlCache<String, Integer> cache = new BoundedTtlCache<>(4, Duration.ZERO);
+        cache.put("a", 1);
+
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void put_shouldEvictLeastRecentlyUsed_whenFull() {
+        BoundedTtlCache<String, Integer> cache = new BoundedTtlCache<>(2, Duration.ofMinutes(5));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.put("c", 3);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("b"));
+    }
+
+    @Test
+    void constructor_shouldReject_whenMaxEntriesIsNotPositive() {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> new BoundedTtlCache<String, Integer>(0, Duration.ofMinutes(5)));
+
+        assertEquals("maxEntries debe ser mayor que cero", error.getMessage());
+    }
+}
@@ -7,8 +7,6 @@ import co.com.atlas.model.access.ScanResult;
 import co.com.atlas.model.access.gateways.AccessCodeRepository;
 import co.com.atlas.model.access.gateways.AccessScanLogRepository;
 import co.com.atlas.model.common.NotFoundException;
-import co.com.atlas.model.visit.VisitRequest;
-import co.com.atlas.model.visit.gateways.VisitRequestRepository;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -17,6 +15,7 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.Base64;
+import java.util.HashSet;
 
 /**
  * Caso de uso para validación de códigos de acceso.
@@ -26,21 +25,64 @@ public class AccessCodeUseCase {
     
     private final AccessCodeRepository accessCodeRepository;
     private final AccessScanLogRepository accessScanLogRepository;
-    private final VisitRequestRepository visitRequestRepository;
+    private final ActiveAccessCodeIndex activeCodeIndex;
     
     /**
      * Valida un código de acceso.
+     * <p>
+     * Con el índice de códigos activos habilitado y la organización conocida, un código que no
+     * está activo en la organización se rechaza sin consultar la base de datos.
+     * </p>
      *
      * @param rawCode Código sin hashear
+     * @param organizationId Organización del portero (null si no hay contexto de tenant)
      * @param scannedBy ID del usuario que escanea (portero)
      * @param scanLocation Ubicación del escaneo
      * @param deviceInfo Información del dispositivo
      * @return Resultado de la validación
      */
-    public Mono<AccessScanLog> validateCode(String rawCode, Long scannedBy, 
+    public Mono<AccessScanLog> validateCode(String rawCode, Long organizationId, Long scannedBy,
                                              String scanLocation, String deviceInfo) {
         String codeHash = hashCode(rawCode);
         
+        if (!activeCodeIndex.isEnabled() || organizationId == null) {
+            return lookupAndValidate(codeHash, organizationId, scannedBy, scanLocation, deviceInfo);
+        }
+        return isIndexedActive(organizationId, codeHash)
+                .flatMap(active -> active
+                        ? lookupAndValidate(codeHash, organizationId, scannedBy, scanLocation, deviceInfo)
+                        : Mono.error(new NotFoundException("Código de acceso no válido")));
+    }
+    
+    private Mono<Boolean> isIndexedActive(Long organizationId, String codeHash) {
+        Boolean indexed = activeCodeIndex.contains(organizationId, codeHash);
+        if (indexed != null) {
+            return Mono.just(indexed);
+        }
+        long epoch = activeCodeIndex.epoch(organizationId);
+        return accessCodeRepository.findActiveCodeHashesByOrganizationId(organizationId)
+                .collect(HashSet<String>::new, HashSet::add)
+                .map(hashes -> {
+                    activeCodeIndex.load(organizationId, hashes, epoch);
+                    return hashes.contains(codeHash);
+                });
+    }
+    
+    /**
+     * Intenta la entrada con un solo UPDATE condicional; solo si no se admitió se lee el código
+     * para registrar el motivo del rechazo.
+     */
+    private Mono<AccessScanLog> lookupAndValidate(String codeHash, Long organizationId, Long scannedBy,
+                                                  String scanLocation, String deviceInfo) {
+        Instant now = Instant.now();
+        // Incremento atómico: un solo UPDATE condicional evita entradas de más entre porterías concurrentes
+        return accessCodeRepository.registerEntry(codeHash, now)
+                .flatMap(admitted -> logAdmittedScan(admitted, organizationId, scannedBy, scanLocation, deviceInfo))
+                .switchIfEmpty(Mono.defer(() -> explainRejection(codeHash, now, scannedBy, scanLocation, deviceInfo)));
+    }
+    
+    private Mono<AccessScanLog> explainRejection(String codeHash, Instant now, Long scannedBy,
+                                                 String scanLocation, String deviceInfo) {
         return accessCodeRepository.findByCodeHash(codeHash)
                 .switchIfEmpty(Mono.defer(() -> {
                     // Código no encontrado - registrar intento inválido
@@ -55,7 +97,7 @@ public class AccessCodeUseCase {
                     return accessScanLogRepository.save(log)
                             .then(Mono.error(new NotFoundException("Código de acceso no válido")));
                 }))
-                .flatMap(accessCode -> validateAndLogScan(accessCode, scannedBy, scanLocation, deviceInfo));
+                .flatMap(code -> logRejectedScan(code, now, scannedBy, scanLocation, deviceInfo));
     }
     
     /**
@@ -82,7 +124,9 @@ public class AccessCodeUseCase {
                 .switchIfEmpty(Mono.error(new NotFoundException("AccessCode", accessCodeId)))
                 .flatMap(code -> {
                     AccessCode revoked = code.toBuilder().status(AccessCodeStatus.REVOKED).build();
-                    return accessCodeRepository.save(revoked).then();
+                    return accessCodeRepository.save(revoked)
+                            .doOnSuccess(saved -> activeCodeIndex.remove(code.getOrganizationId(), code.getCodeHash()))
+                            .then();
                 });
     }
     
@@ -93,12 +137,20 @@ public class AccessCodeUseCase {
         return accessScanLogRepository.findByAccessCodeId(accessCodeId);
     }
     
-    private Mono<AccessScanLog> validateAndLogScan(AccessCode code, Long scannedBy,
-                                                    String scanLocation, String deviceInfo) {
-        Instant now = Instant.now();
+    private Mono<AccessScanLog> logAdmittedScan(AccessCode code, Long organizationId, Long scannedBy,
+                                                 String scanLocation, String deviceInfo) {
+        boolean exhausted = code.getStatus() == AccessCodeStatus.USED;
+        if (exhausted) {
+            activeCodeIndex.remove(organizationId, code.getCodeHash());
+        }
+        return createScanLog(code.getId(), scannedBy, ScanResult.VALID, scanLocation, deviceInfo,
+                exhausted ? "Entrada válida - código agotado" : "Entrada válida");
+    }
+    
+    private Mono<AccessScanLog> logRejectedScan(AccessCode code, Instant now, Long scannedBy,
+                                                 String scanLocation, String deviceInfo) {
         ScanResult result;
-        String notes = null;
-        boolean incrementEntries = false;
+        String notes;
         AccessCodeStatus newStatus = null;
         
         // Verificar estado del código
@@ -116,50 +168,22 @@ public class AccessCodeUseCase {
             notes = "Código fuera del rango de fechas válido";
             newStatus = AccessCodeStatus.EXPIRED;
         } else {
-            // Código válido - verificar máximo de entradas
-            return visitRequestRepository.findById(code.getVisitRequestId())
-                    .flatMap(visitRequest -> {
-                        Integer maxEntries = visitRequest.getMaxEntries();
-                        int currentEntries = code.getEntriesUsed() != null ? code.getEntriesUsed() : 0;
-                        
-                        if (maxEntries != null && currentEntries >= maxEntries) {
-                            return createScanLog(code.getId(), scannedBy, ScanResult.ALREADY_USED,
-                                    scanLocation, deviceInfo, "Límite de entradas alcanzado");
-                        }
-                        
-                        // Código válido - permitir entrada
-                        AccessCode updated = code.toBuilder()
-                                .entriesUsed(currentEntries + 1)
-                                .build();
-                        
-                        return accessCodeRepository.save(updated)
-                                .flatMap(savedCode -> {
-                                    // Verificar si alcanzó el límite después de incrementar
-                                    if (maxEntries != null && (currentEntries + 1) >= maxEntries) {
-                                        AccessCode usedCode = savedCode.toBuilder().status(AccessCodeStatus.USED).build();
-                                        return accessCodeRepository.save(usedCode)
-                                                .then(createScanLog(code.getId(), scannedBy, ScanResult.VALID,
-                                                        scanLocation, deviceInfo, "Entrada válida - código agotado"));
-                                    }
-                                    return createScanLog(code.getId(), scannedBy, ScanResult.VALID,
-                                            scanLocation, deviceInfo, "Entrada válida");
-                                });
-                    });
+            // Activo y vigente pero sin cupo: otra portería tomó la última entrada
+            result = ScanResult.ALREADY_USED;
+            notes = "Límite de entradas alcanzado";
         }
         
         // Actualizar estado si es necesario
         Mono<Void> updateStatusMono = Mono.empty();
         if (newStatus != null) {
-            final AccessCodeStatus finalStatus = newStatus;
-            AccessCode updatedCode = code.toBuilder().status(finalStatus).build();
-            updateStatusMono = accessCodeRepository.save(updatedCode).then();
+            AccessCode updatedCode = code.toBuilder().status(newStatus).build();
+            updateStatusMono = accessCodeRepository.save(updatedCode)
+                    .doOnSuccess(saved -> activeCodeIndex.remove(code.getOrganizationId(), code.getCodeHash()))
+                    .then();
         }
         
-        final ScanResult finalResult = result;
-        final String finalNotes = notes;
-        
-        return updateStatusMono.then(createScanLog(code.getId(), scannedBy, finalResult, 
-                scanLocation, deviceInfo, finalNotes));
+        return updateStatusMono.then(createScanLog(code.getId(), scannedBy, result,
+                scanLocation, deviceInfo, notes));
     }
     
     private Mono<AccessScanLog> createScanLog(Long accessCodeId, Long scannedBy, 
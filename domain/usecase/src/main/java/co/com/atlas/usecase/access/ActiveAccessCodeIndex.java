@@ -0,0 +1,118 @@
+package co.com.atlas.usecase.access;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice en memoria de los hashes de códigos de acceso ACTIVE, uno por organización.
+ * <p>
+ * Permite descartar un código desconocido sin consultar la base de datos. El conjunto de cada
+ * organización se carga completo desde el repositorio y vence tras {@code ttl}; mientras tanto
+ * se mantiene con {@link #add} (aprobación) y {@link #remove} (cancelación, revocación, agotado,
+ * expirado). Cada mutación avanza la época de la organización: una carga que empezó antes de
+ * una mutación se descarta, porque su lectura pudo no verla. El índice es local a la instancia;
+ * con varias réplicas el TTL acota cuánto tarda en verse un código aprobado en otra.
+ * </p>
+ */
+public class ActiveAccessCodeIndex {
+
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Map<Long, OrganizationCodes> organizations = new ConcurrentHashMap<>();
+
+    public ActiveAccessCodeIndex(boolean enabled, Duration ttl) {
+        this.enabled = enabled;
+        this.ttl = ttl;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Indica si el hash pertenece a un código activo de la organización.
+     *
+     * @return null si el conjunto de la organización no está cargado o venció
+     */
+    public Boolean contains(Long organizationId, String codeHash) {
+        return codesFor(organizationId).contains(codeHash, Instant.now());
+    }
+
+    /**
+     * Época actual de la organización; se pasa a {@link #load} al terminar la lectura.
+     */
+    public long epoch(Long organizationId) {
+        return codesFor(organizationId).epoch();
+    }
+
+    /**
+     * Reemplaza el conjunto de la organización si no hubo mutaciones desde {@code epoch}.
+     *
+     * @return false si la carga se descartó
+     */
+    public boolean load(Long organizationId, Collection<String> codeHashes, long epoch) {
+        return codesFor(organizationId).load(codeHashes, epoch, Instant.now().plus(ttl));
+    }
+
+    public void add(Long organizationId, String codeHash) {
+        if (enabled && organizationId != null) {
+            codesFor(organizationId).add(codeHash);
+        }
+    }
+
+    public void remove(Long organizationId, String codeHash) {
+        if (enabled && organizationId != null) {
+            codesFor(organizationId).remove(codeHash);
+        }
+    }
+
+    private OrganizationCodes codesFor(Long organizationId) {
+        return organizations.computeIfAbsent(organizationId, id -> new OrganizationCodes());
+    }
+
+    private static final class OrganizationCodes {
+
+        private Set<String> hashes;
+        private Instant expiresAt;
+        private long epoch;
+
+        synchronized Boolean contains(String codeHash, Instant now) {
+            if (hashes == null || now.isAfter(expiresAt)) {
+                return null;
+            }
+            return hashes.contains(codeHash);
+        }
+
+        synchronized long epoch() {
+            return epoch;
+        }
+
+        synchronized boolean load(Collection<String> codeHashes, long loadEpoch, Instant expiresAt) {
+            if (loadEpoch != epoch) {
+                return false;
+            }
+            this.hashes = new HashSet<>(codeHashes);
+            this.expiresAt = expiresAt;
+            return true;
+        }
+
+        synchronized void add(String codeHash) {
+            epoch++;
+            if (hashes != null) {
+                hashes.add(codeHash);
+            }
+        }
+
+        synchronized void remove(String codeHash) {
+            epoch++;
+            if (hashes != null) {
+                hashes.remove(codeHash);
+            }
+        }
+    }
+}
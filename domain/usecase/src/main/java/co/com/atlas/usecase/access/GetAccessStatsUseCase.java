@@ -0,0 +1,62 @@
+package co.com.atlas.usecase.access;
+
+import co.com.atlas.model.access.AccessStats;
+import co.com.atlas.model.access.AccessStatsGranularity;
+import co.com.atlas.model.access.gateways.AccessEventRollupRepository;
+import co.com.atlas.model.common.BusinessException;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Caso de uso para las estadísticas de acceso de la organización (entradas/salidas por
+ * bucket, dispositivo y resultado).
+ * <p>
+ * Lee únicamente los contadores pre-agregados: el costo depende del número de buckets del
+ * rango y no del número de eventos registrados.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class GetAccessStatsUseCase {
+
+    public static final Duration MAX_HOURLY_RANGE = Duration.ofDays(31);
+    public static final Duration MAX_DAILY_RANGE = Duration.ofDays(366);
+
+    private final AccessEventRollupRepository accessEventRollupRepository;
+
+    /**
+     * Obtiene las estadísticas de acceso.
+     *
+     * @param organizationId ID de la organización
+     * @param granularity    HOUR o DAY (por defecto HOUR)
+     * @param from           Inicio del rango; se alinea al inicio de su bucket (por defecto 24 horas o 30 días antes de to)
+     * @param to             Fin exclusivo del rango (por defecto ahora)
+     * @param deviceId       Filtro opcional por dispositivo de portería
+     */
+    public Mono<AccessStats> execute(Long organizationId, AccessStatsGranularity granularity,
+                                     Instant from, Instant to, String deviceId) {
+        AccessStatsGranularity effective = granularity != null ? granularity : AccessStatsGranularity.HOUR;
+        ChronoUnit unit = effective == AccessStatsGranularity.HOUR ? ChronoUnit.HOURS : ChronoUnit.DAYS;
+        Duration maxRange = effective == AccessStatsGranularity.HOUR ? MAX_HOURLY_RANGE : MAX_DAILY_RANGE;
+
+        Instant end = to != null ? to : Instant.now();
+        Instant start = (from != null ? from : end.minus(effective == AccessStatsGranularity.HOUR
+                ? Duration.ofHours(24) : Duration.ofDays(30))).truncatedTo(unit);
+
+        if (!start.isBefore(end)) {
+            return Mono.error(new BusinessException("El inicio del rango debe ser anterior al fin", "INVALID_RANGE"));
+        }
+        if (Duration.between(start, end).compareTo(maxRange) > 0) {
+            return Mono.error(new BusinessException(
+                    "El rango máximo para granularidad " + effective + " es de " + maxRange.toDays() + " días",
+                    "INVALID_RANGE"));
+        }
+
+        return accessEventRollupRepository.findBuckets(organizationId, effective, start, end, deviceId)
+                .collectList()
+                .map(buckets -> new AccessStats(effective, start, end, buckets));
+    }
+}
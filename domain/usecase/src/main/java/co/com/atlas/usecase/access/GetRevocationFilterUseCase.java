@@ -0,0 +1,55 @@
+package co.com.atlas.usecase.access;
+
+import co.com.atlas.model.authorization.RevocationEntry;
+import co.com.atlas.model.authorization.RevocationFilter;
+import co.com.atlas.model.authorization.gateways.VisitorAuthorizationRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Caso de uso para obtener el filtro de Bloom de autorizaciones revocadas.
+ * Los dispositivos offline descargan el filtro (unos pocos KB) en lugar de la lista completa
+ * de IDs y continúan con el feed incremental desde la versión del filtro.
+ */
+@RequiredArgsConstructor
+public class GetRevocationFilterUseCase {
+
+    private static final int PAGE_SIZE = GetRevocationListUseCase.MAX_LIMIT;
+
+    private final VisitorAuthorizationRepository visitorAuthorizationRepository;
+    private final RevocationFilterIndex revocationFilterIndex;
+
+    /**
+     * Actualiza el filtro con las revocaciones posteriores a su versión y lo retorna.
+     *
+     * @param organizationId ID de la organización
+     * @return filtro serializado con su versión y tasa de falsos positivos
+     */
+    public Mono<RevocationFilter> execute(Long organizationId) {
+        return catchUp(organizationId)
+                .then(Mono.fromSupplier(() -> revocationFilterIndex.snapshot(organizationId)));
+    }
+
+    private Mono<Void> catchUp(Long organizationId) {
+        return Mono.defer(() -> fetchAfter(organizationId, revocationFilterIndex.version(organizationId))
+                .flatMap(entries -> revocationFilterIndex.apply(organizationId, entries)
+                        ? catchUp(organizationId)
+                        : Mono.empty()));
+    }
+
+    private Mono<List<RevocationEntry>> fetchAfter(Long organizationId, long cursor) {
+        return page(organizationId, cursor)
+                .expand(entries -> entries.size() < PAGE_SIZE
+                        ? Mono.empty()
+                        : page(organizationId, entries.get(entries.size() - 1).version()))
+                .flatMapIterable(entries -> entries)
+                .collectList();
+    }
+
+    private Mono<List<RevocationEntry>> page(Long organizationId, long cursor) {
+        return visitorAuthorizationRepository.findRevocationsAfter(organizationId, cursor, PAGE_SIZE)
+                .collectList();
+    }
+}
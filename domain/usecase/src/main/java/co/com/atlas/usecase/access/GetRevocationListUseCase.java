@@ -1,21 +1,30 @@
 package co.com.atlas.usecase.access;
 
-import co.com.atlas.model.authorization.AuthorizationStatus;
-import co.com.atlas.model.authorization.VisitorAuthorization;
+import co.com.atlas.model.authorization.RevocationDelta;
+import co.com.atlas.model.authorization.RevocationEntry;
 import co.com.atlas.model.authorization.gateways.VisitorAuthorizationRepository;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.Instant;
+import java.util.List;
 
 /**
  * Caso de uso para obtener la lista de autorizaciones revocadas.
  * El dispositivo de portería consulta periódicamente para mantener
  * actualizada su cache de revocaciones offline.
+ * <p>
+ * La consulta por cursor lee el log versionado de revocaciones, de modo que el costo
+ * de cada consulta depende solo de las revocaciones nuevas y no del total de autorizaciones.
+ * </p>
  */
 @RequiredArgsConstructor
 public class GetRevocationListUseCase {
 
+    public static final int DEFAULT_LIMIT = 500;
+    public static final int MAX_LIMIT = 5000;
+
     private final VisitorAuthorizationRepository visitorAuthorizationRepository;
 
     /**
@@ -26,9 +35,34 @@ public class GetRevocationListUseCase {
      * @return IDs de autorizaciones revocadas
      */
     public Flux<Long> execute(Long organizationId, Instant since) {
-        return visitorAuthorizationRepository.findByOrganizationId(organizationId)
-                .filter(auth -> auth.getStatus() == AuthorizationStatus.REVOKED)
-                .filter(auth -> since == null || auth.getRevokedAt() == null || !auth.getRevokedAt().isBefore(since))
-                .map(VisitorAuthorization::getId);
+        return visitorAuthorizationRepository.findRevokedIdsSince(organizationId, since);
+    }
+
+    /**
+     * Obtiene las revocaciones posteriores a un cursor.
+     *
+     * @param organizationId ID de la organización
+     * @param cursor         Última versión conocida por el dispositivo (0 o null para sincronización completa)
+     * @param limit          Máximo de revocaciones a retornar
+     * @return IDs revocados, siguiente cursor y si quedan revocaciones pendientes
+     */
+    public Mono<RevocationDelta> getDelta(Long organizationId, Long cursor, Integer limit) {
+        long from = cursor != null && cursor > 0 ? cursor : 0L;
+        int pageSize = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+
+        return visitorAuthorizationRepository.findRevocationsAfter(organizationId, from, pageSize + 1)
+                .collectList()
+                .map(entries -> toDelta(entries, from, pageSize));
+    }
+
+    private RevocationDelta toDelta(List<RevocationEntry> entries, long from, int pageSize) {
+        boolean hasMore = entries.size() > pageSize;
+        List<RevocationEntry> page = hasMore ? entries.subList(0, pageSize) : entries;
+        long nextCursor = page.isEmpty() ? from : page.get(page.size() - 1).version();
+        List<Long> revokedIds = page.stream()
+                .map(RevocationEntry::authorizationId)
+                .distinct()
+                .toList();
+        return new RevocationDelta(revokedIds, nextCursor, hasMore);
     }
 }
@@ -0,0 +1,109 @@
+package co.com.atlas.usecase.access;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Filtro de Bloom para IDs de autorización (long).
+ * <p>
+ * Algoritmo (debe replicarse en el dispositivo): {@code h = splitmix64(id)},
+ * {@code h1 = (int) h}, {@code h2 = (int) (h >>> 32)}; para {@code i = 1..k} el bit es
+ * {@code floorMod(h1 + i * h2, m)} con aritmética int de 32 bits. Los bits se serializan como words de 64 bits little-endian,
+ * bit {@code b} en el word {@code b >>> 6}, posición {@code b & 63}.
+ * </p>
+ * No es thread-safe; el acceso se sincroniza en {@link RevocationFilterIndex}.
+ */
+public final class RevocationBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final long[] words;
+    private final long numBits;
+    private final int numHashes;
+    private final int capacity;
+    private int count;
+
+    private RevocationBloomFilter(int capacity, long numBits, int numHashes) {
+        this.capacity = capacity;
+        this.numBits = numBits;
+        this.numHashes = numHashes;
+        this.words = new long[(int) (numBits >>> 6)];
+    }
+
+    /**
+     * Crea un filtro dimensionado para la capacidad y tasa de falsos positivos indicadas.
+     */
+    public static RevocationBloomFilter create(int capacity, double falsePositiveRate) {
+        int n = Math.max(1, capacity);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2));
+        long numBits = Math.max(64, (bits + 63) & ~63L);
+        int numHashes = Math.max(1, (int) Math.round((double) numBits / n * LN2));
+        return new RevocationBloomFilter(n, numBits, numHashes);
+    }
+
+    public void put(long id) {
+        long hash = splitmix64(id);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, numBits);
+            words[(int) (bit >>> 6)] |= 1L << (bit & 63);
+        }
+        count++;
+    }
+
+    public boolean mightContain(long id) {
+        long hash = splitmix64(id);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, numBits);
+            if ((words[(int) (bit >>> 6)] & (1L << (bit & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tasa de falsos positivos esperada con los elementos insertados actualmente.
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) numHashes * count / numBits), numHashes);
+    }
+
+    public boolean isFull() {
+        return count >= capacity;
+    }
+
+    public byte[] toByteArray() {
+        ByteBuffer buffer = ByteBuffer.allocate(words.length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (long word : words) {
+            buffer.putLong(word);
+        }
+        return buffer.array();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public long numBits() {
+        return numBits;
+    }
+
+    public int numHashes() {
+        return numHashes;
+    }
+
+    private static long splitmix64(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,50 @@
+package co.com.atlas.usecase.access;
+
+import co.com.atlas.model.authorization.RevocationEntry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canal en proceso de revocaciones, un {@link Sinks.Many} por organización.
+ * <p>
+ * Los sinks son multicast best-effort: un suscriptor lento no bloquea a los demás.
+ * Solo transporta las revocaciones realizadas en esta instancia; los dispositivos
+ * recuperan el resto con el cursor al reconectar.
+ * </p>
+ */
+public class RevocationBroadcaster {
+
+    private final Map<Long, Sinks.Many<RevocationEntry>> sinks = new ConcurrentHashMap<>();
+
+    /**
+     * Publica una revocación a los dispositivos conectados de la organización.
+     */
+    public void publish(Long organizationId, RevocationEntry entry) {
+        Sinks.Many<RevocationEntry> sink = sinks.get(organizationId);
+        if (sink == null) {
+            return;
+        }
+        synchronized (sink) {
+            sink.tryEmitNext(entry);
+        }
+    }
+
+    /**
+     * Flujo caliente de revocaciones de la organización.
+     */
+    public Flux<RevocationEntry> stream(Long organizationId) {
+        return sinkFor(organizationId).asFlux();
+    }
+
+    public int subscriberCount(Long organizationId) {
+        Sinks.Many<RevocationEntry> sink = sinks.get(organizationId);
+        return sink != null ? sink.currentSubscriberCount() : 0;
+    }
+
+    private Sinks.Many<RevocationEntry> sinkFor(Long organizationId) {
+        return sinks.computeIfAbsent(organizationId, id -> Sinks.many().multicast().directBestEffort());
+    }
+}
@@ -0,0 +1,104 @@
+package co.com.atlas.usecase.access;
+
+import co.com.atlas.model.authorization.RevocationEntry;
+import co.com.atlas.model.authorization.RevocationFilter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Filtros de Bloom de revocaciones en memoria, uno por organización.
+ * <p>
+ * Cada filtro se mantiene incrementalmente: las revocaciones locales se agregan de inmediato
+ * ({@link #addRevoked}) y las entradas del log versionado se aplican con {@link #apply}.
+ * El filtro contiene al menos todas las revocaciones hasta su versión. Cuando se llena se
+ * descarta y se reconstruye desde el log con el doble de capacidad.
+ * </p>
+ */
+public class RevocationFilterIndex {
+
+    private final double falsePositiveRate;
+    private final int minCapacity;
+    private final Map<Long, OrganizationFilter> filters = new ConcurrentHashMap<>();
+
+    public RevocationFilterIndex(double falsePositiveRate, int minCapacity) {
+        this.falsePositiveRate = falsePositiveRate;
+        this.minCapacity = Math.max(64, minCapacity);
+    }
+
+    /**
+     * Versión del log incluida en el filtro de la organización (0 si no existe).
+     */
+    public long version(Long organizationId) {
+        return filterFor(organizationId).version();
+    }
+
+    /**
+     * Aplica entradas del log en orden de versión.
+     *
+     * @return true si el filtro se llenó y debe reconstruirse desde la versión 0
+     */
+    public boolean apply(Long organizationId, List<RevocationEntry> entries) {
+        return filterFor(organizationId).apply(entries);
+    }
+
+    /**
+     * Agrega una revocación local sin avanzar la versión; la entrada del log se aplicará después.
+     */
+    public void addRevoked(Long organizationId, Long authorizationId) {
+        filterFor(organizationId).add(authorizationId);
+    }
+
+    public RevocationFilter snapshot(Long organizationId) {
+        return filterFor(organizationId).snapshot();
+    }
+
+    private OrganizationFilter filterFor(Long organizationId) {
+        return filters.computeIfAbsent(organizationId, id -> new OrganizationFilter());
+    }
+
+    private final class OrganizationFilter {
+
+        private RevocationBloomFilter filter = RevocationBloomFilter.create(minCapacity, falsePositiveRate);
+        private long version;
+        private RevocationFilter snapshot;
+
+        synchronized long version() {
+            return version;
+        }
+
+        synchronized boolean apply(List<RevocationEntry> entries) {
+            for (RevocationEntry entry : entries) {
+                if (entry.version() <= version) {
+                    continue;
+                }
+                if (filter.isFull()) {
+                    filter = RevocationBloomFilter.create(filter.capacity() * 2, falsePositiveRate);
+                    version = 0;
+                    snapshot = null;
+                    return true;
+                }
+                filter.put(entry.authorizationId());
+                version = entry.version();
+                snapshot = null;
+            }
+            return false;
+        }
+
+        synchronized void add(Long authorizationId) {
+            if (!filter.mightContain(authorizationId)) {
+                filter.put(authorizationId);
+                snapshot = null;
+            }
+        }
+
+        synchronized RevocationFilter snapshot() {
+            if (snapshot == null) {
+                snapshot = new RevocationFilter(version, filter.count(), filter.numBits(), filter.numHashes(),
+                        filter.expectedFalsePositiveRate(), filter.toByteArray());
+            }
+            return snapshot;
+        }
+    }
+}
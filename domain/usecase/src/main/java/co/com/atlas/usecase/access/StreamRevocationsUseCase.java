@@ -0,0 +1,74 @@
+package co.com.atlas.usecase.access;
+
+import co.com.atlas.model.authorization.RevocationEntry;
+import co.com.atlas.model.authorization.gateways.VisitorAuthorizationRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Caso de uso para el canal push de revocaciones hacia dispositivos de portería.
+ * <p>
+ * Al conectar se emiten primero las revocaciones del log posteriores al cursor y luego las
+ * revocaciones en vivo de {@link RevocationBroadcaster}. La suscripción en vivo se abre antes de
+ * leer el log para no perder revocaciones concurrentes, y las ya emitidas desde el log se descartan por versión.
+ * Cada suscriptor tiene un buffer acotado: si se desborda el flujo termina con error y el
+ * dispositivo debe reconectar con su último cursor.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class StreamRevocationsUseCase {
+
+    private static final int PAGE_SIZE = GetRevocationListUseCase.MAX_LIMIT;
+
+    private final VisitorAuthorizationRepository visitorAuthorizationRepository;
+    private final RevocationBroadcaster revocationBroadcaster;
+    private final int bufferSize;
+
+    /**
+     * Abre el flujo de revocaciones de la organización.
+     *
+     * @param organizationId ID de la organización
+     * @param cursor         Última versión conocida por el dispositivo (null o 0 para todo el log)
+     * @return revocaciones en orden de versión, sin fin mientras el dispositivo esté conectado
+     */
+    public Flux<RevocationEntry> execute(Long organizationId, Long cursor) {
+        long from = cursor != null && cursor > 0 ? cursor : 0L;
+        return Flux.defer(() -> {
+            AtomicReference<Disposable> connection = new AtomicReference<>();
+            Flux<RevocationEntry> live = revocationBroadcaster.stream(organizationId)
+                    .replay(bufferSize)
+                    .autoConnect(0, connection::set);
+            AtomicLong backlogVersion = new AtomicLong(from);
+            Flux<RevocationEntry> history = backlog(organizationId, from)
+                    .doOnNext(entry -> backlogVersion.set(entry.version()));
+
+            return Flux.concat(history, live.filter(entry -> entry.version() > backlogVersion.get()))
+                    .onBackpressureBuffer(bufferSize)
+                    .doFinally(signal -> {
+                        Disposable disposable = connection.get();
+                        if (disposable != null) {
+                            disposable.dispose();
+                        }
+                    });
+        });
+    }
+
+    private Flux<RevocationEntry> backlog(Long organizationId, long from) {
+        return page(organizationId, from)
+                .expand(entries -> entries.size() < PAGE_SIZE
+                        ? Mono.empty()
+                        : page(organizationId, entries.get(entries.size() - 1).version()))
+                .flatMapIterable(entries -> entries);
+    }
+
+    private Mono<List<RevocationEntry>> page(Long organizationId, long cursor) {
+        return visitorAuthorizationRepository.findRevocationsAfter(organizationId, cursor, PAGE_SIZE)
+                .collectList();
+    }
+}
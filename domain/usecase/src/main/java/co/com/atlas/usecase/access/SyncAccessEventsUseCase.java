@@ -10,12 +10,18 @@ import java.util.List;
 
 /**
  * Caso de uso para sincronización de eventos de acceso offline.
- * Recibe un lote de eventos generados offline y los persiste en batch.
+ * Recibe los eventos generados offline y los persiste en ventanas acotadas.
+ * <p>
+ * La persistencia es secuencial por ventana: el siguiente bloque del request solo se decodifica
+ * cuando la ventana anterior fue guardada, por lo que la memoria no crece con el tamaño del backlog.
+ * Los eventos con {@code clientEventId} son idempotentes: un reintento retorna el evento ya guardado.
+ * </p>
  */
 @RequiredArgsConstructor
 public class SyncAccessEventsUseCase {
 
     private final AccessEventRepository accessEventRepository;
+    private final int windowSize;
 
     /**
      * Sincroniza un lote de eventos offline al backend.
@@ -27,15 +33,23 @@ public class SyncAccessEventsUseCase {
         if (events == null || events.isEmpty()) {
             return Flux.empty();
         }
+        return sync(Flux.fromIterable(events));
+    }
 
+    /**
+     * Sincroniza un flujo de eventos offline, decodificado incrementalmente del request.
+     *
+     * @param events Eventos de acceso generados offline
+     * @return Eventos persistidos (o ya existentes) con IDs asignados
+     */
+    public Flux<AccessEvent> sync(Flux<AccessEvent> events) {
         Instant now = Instant.now();
-        List<AccessEvent> enrichedEvents = events.stream()
+        return events
                 .map(event -> event.toBuilder()
                         .syncedAt(now)
                         .createdAt(event.getCreatedAt() != null ? event.getCreatedAt() : now)
                         .build())
-                .toList();
-
-        return accessEventRepository.saveBatch(enrichedEvents);
+                .buffer(Math.max(1, windowSize))
+                .concatMap(accessEventRepository::saveBatch);
     }
 }
@@ -26,15 +26,21 @@ import java.util.Base64;
  * Caso de uso para validación online de autorizaciones QR en portería.
  * Verifica firma Ed25519 server-side, valida rango de fechas, verifica
  * estado ACTIVE y registra el evento de acceso.
+ * La clave pública de la organización se resuelve desde {@link VerificationKeyCache}
+ * y solo se consulta la base de datos cuando no hay entrada vigente para el kid del QR.
  */
 @RequiredArgsConstructor
 public class ValidateAuthorizationUseCase {
 
     private static final long MAX_CLOCK_SKEW_MINUTES = 10;
+    /** Prefijo DER de SubjectPublicKeyInfo para Ed25519 (OID 1.3.101.112); el JWK solo trae los 32 bytes crudos. */
+    private static final byte[] ED25519_X509_PREFIX = {
+            0x30, 0x2a, 0x30, 0x05, 0x06, 0x03, 0x2b, 0x65, 0x70, 0x03, 0x21, 0x00};
 
     private final CryptoKeyRepository cryptoKeyRepository;
     private final VisitorAuthorizationRepository visitorAuthorizationRepository;
     private final AccessEventRepository accessEventRepository;
+    private final VerificationKeyCache verificationKeyCache;
 
     /**
      * Valida una autorización online mediante QR firmado.
@@ -43,7 +49,8 @@ public class ValidateAuthorizationUseCase {
      * @param porterUserId   ID del portero que escanea
      * @param deviceId       ID del dispositivo de portería
      * @param organizationId ID de la organización
-     * @return Evento de acceso registrado
+     * @return Evento de acceso registrado; puede no tener ID aún (write-behind), ver
+     *         {@link AccessEventRepository#recordScan(AccessEvent)}
      */
     public Mono<AccessEvent> execute(String signedQr, Long porterUserId, String deviceId, Long organizationId) {
         return Mono.fromCallable(() -> parseSignedQr(signedQr))
@@ -58,40 +65,38 @@ public class ValidateAuthorizationUseCase {
                     String validFrom = extractField(payloadJson, "validFrom");
                     String validTo = extractField(payloadJson, "validTo");
                     String vehiclePlate = extractField(payloadJson, "vehiclePlate");
-
-                    return cryptoKeyRepository.findActiveByOrganizationId(organizationId)
-                            .switchIfEmpty(Mono.error(new BusinessException(
-                                    "No se encontró clave criptográfica para la organización", "CRYPTO_KEY_NOT_FOUND")))
-                            .flatMap(cryptoKey -> verifySignature(cryptoKey, payloadBase64, signatureBase64)
-                                    .flatMap(validSignature -> {
-                                        if (!validSignature) {
-                                            return createAndSaveEvent(organizationId, authId, porterUserId, deviceId,
-                                                    ScanResult.INVALID, personName, personDocument, vehiclePlate,
-                                                    "Firma digital inválida");
-                                        }
-
-                                        if (!isDateInRange(validFrom, validTo)) {
-                                            return createAndSaveEvent(organizationId, authId, porterUserId, deviceId,
-                                                    ScanResult.EXPIRED, personName, personDocument, vehiclePlate,
-                                                    "Autorización fuera de rango de fechas");
-                                        }
-
-                                        return visitorAuthorizationRepository.findById(authId)
-                                                .switchIfEmpty(Mono.error(new BusinessException(
-                                                        "Autorización no encontrada", "AUTHORIZATION_NOT_FOUND")))
-                                                .flatMap(auth -> {
-                                                    if (auth.getStatus() != AuthorizationStatus.ACTIVE) {
-                                                        return createAndSaveEvent(organizationId, authId, porterUserId,
-                                                                deviceId, ScanResult.REVOKED, personName,
-                                                                personDocument, vehiclePlate,
-                                                                "Autorización revocada o inactiva");
-                                                    }
-
-                                                    return createAndSaveEvent(organizationId, authId, porterUserId,
-                                                            deviceId, ScanResult.VALID, personName,
-                                                            personDocument, vehiclePlate, null);
-                                                });
-                                    }));
+                    String keyId = extractField(payloadJson, "kid");
+
+                    return verifyWithOrganizationKey(organizationId, keyId, payloadBase64, signatureBase64)
+                            .flatMap(validSignature -> {
+                                if (!validSignature) {
+                                    return createAndSaveEvent(organizationId, authId, porterUserId, deviceId,
+                                            ScanResult.INVALID, personName, personDocument, vehiclePlate,
+                                            "Firma digital inválida");
+                                }
+
+                                if (!isDateInRange(validFrom, validTo)) {
+                                    return createAndSaveEvent(organizationId, authId, porterUserId, deviceId,
+                                            ScanResult.EXPIRED, personName, personDocument, vehiclePlate,
+                                            "Autorización fuera de rango de fechas");
+                                }
+
+                                return visitorAuthorizationRepository.findById(authId)
+                                        .switchIfEmpty(Mono.error(new BusinessException(
+                                                "Autorización no encontrada", "AUTHORIZATION_NOT_FOUND")))
+                                        .flatMap(auth -> {
+                                            if (auth.getStatus() != AuthorizationStatus.ACTIVE) {
+                                                return createAndSaveEvent(organizationId, authId, porterUserId,
+                                                        deviceId, ScanResult.REVOKED, personName,
+                                                        personDocument, vehiclePlate,
+                                                        "Autorización revocada o inactiva");
+                                            }
+
+                                            return createAndSaveEvent(organizationId, authId, porterUserId,
+                                                    deviceId, ScanResult.VALID, personName,
+                                                    personDocument, vehiclePlate, null);
+                                        });
+                            });
                 });
     }
 
@@ -106,12 +111,43 @@ public class ValidateAuthorizationUseCase {
         return parts;
     }
 
-    private Mono<Boolean> verifySignature(OrganizationCryptoKey cryptoKey, String payloadBase64, String signatureBase64) {
+    /**
+     * Verifica la firma con la clave activa de la organización.
+     * Usa la clave decodificada en cache si coincide con el kid del QR; en caso contrario
+     * carga la clave activa, la decodifica una sola vez y la registra en cache. Si el kid del QR
+     * no es el de la clave activa se recuerda como desconocido para no repetir la consulta.
+     */
+    private Mono<Boolean> verifyWithOrganizationKey(Long organizationId, String keyId,
+                                                    String payloadBase64, String signatureBase64) {
+        PublicKey cachedKey = verificationKeyCache.get(organizationId, keyId);
+        if (cachedKey != null) {
+            return verifySignature(cachedKey, payloadBase64, signatureBase64);
+        }
+        return cryptoKeyRepository.findActiveByOrganizationId(organizationId)
+                .switchIfEmpty(Mono.error(new BusinessException(
+                        "No se encontró clave criptográfica para la organización", "CRYPTO_KEY_NOT_FOUND")))
+                .flatMap(cryptoKey -> decodePublicKey(cryptoKey)
+                        .doOnNext(publicKey -> {
+                            verificationKeyCache.put(organizationId, cryptoKey.getKeyId(), publicKey);
+                            verificationKeyCache.putUnknownKeyId(organizationId, keyId);
+                        })
+                        .flatMap(publicKey -> verifySignature(publicKey, payloadBase64, signatureBase64))
+                        .onErrorReturn(false));
+    }
+
+    private Mono<PublicKey> decodePublicKey(OrganizationCryptoKey cryptoKey) {
         return Mono.fromCallable(() -> {
-            byte[] publicKeyBytes = extractPublicKeyBytes(cryptoKey.getPublicKeyJwk());
+            byte[] rawKey = extractPublicKeyBytes(cryptoKey.getPublicKeyJwk());
+            byte[] publicKeyBytes = new byte[ED25519_X509_PREFIX.length + rawKey.length];
+            System.arraycopy(ED25519_X509_PREFIX, 0, publicKeyBytes, 0, ED25519_X509_PREFIX.length);
+            System.arraycopy(rawKey, 0, publicKeyBytes, ED25519_X509_PREFIX.length, rawKey.length);
             KeyFactory keyFactory = KeyFactory.getInstance("Ed25519");
-            PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(publicKeyBytes));
+            return keyFactory.generatePublic(new X509EncodedKeySpec(publicKeyBytes));
+        });
+    }
 
+    private Mono<Boolean> verifySignature(PublicKey publicKey, String payloadBase64, String signatureBase64) {
+        return Mono.fromCallable(() -> {
             Signature signature = Signature.getInstance("Ed25519");
             signature.initVerify(publicKey);
             signature.update(payloadBase64.getBytes(StandardCharsets.UTF_8));
@@ -158,7 +194,7 @@ public class ValidateAuthorizationUseCase {
                 .scannedAt(Instant.now())
                 .createdAt(Instant.now())
                 .build();
-        return accessEventRepository.save(event);
+        return accessEventRepository.recordScan(event);
     }
 
     private Long extractAuthId(String json) {
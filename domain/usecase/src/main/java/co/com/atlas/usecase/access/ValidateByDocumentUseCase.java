@@ -2,9 +2,13 @@ package co.com.atlas.usecase.access;
 
 import co.com.atlas.model.access.AccessAction;
 import co.com.atlas.model.access.AccessEvent;
+import co.com.atlas.model.access.AccessEventCursor;
+import co.com.atlas.model.access.AccessEventPage;
+import co.com.atlas.model.access.AccessEventQuery;
 import co.com.atlas.model.access.ScanResult;
 import co.com.atlas.model.access.gateways.AccessEventRepository;
 import co.com.atlas.model.authorization.AuthorizationStatus;
+import co.com.atlas.model.authorization.PersonDocuments;
 import co.com.atlas.model.authorization.VisitorAuthorization;
 import co.com.atlas.model.authorization.gateways.VisitorAuthorizationRepository;
 import co.com.atlas.model.common.BusinessException;
@@ -14,6 +18,7 @@ import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 /**
  * Caso de uso para validación de autorización por número de documento.
@@ -24,6 +29,8 @@ import java.time.temporal.ChronoUnit;
 public class ValidateByDocumentUseCase {
 
     private static final long MAX_CLOCK_SKEW_MINUTES = 10;
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
 
     private final VisitorAuthorizationRepository visitorAuthorizationRepository;
     private final AccessEventRepository accessEventRepository;
@@ -46,10 +53,8 @@ public class ValidateByDocumentUseCase {
         Instant now = Instant.now();
         Instant adjustedPast = now.minus(MAX_CLOCK_SKEW_MINUTES, ChronoUnit.MINUTES);
 
-        return visitorAuthorizationRepository.findByOrganizationId(organizationId)
-                .filter(auth -> auth.getStatus() == AuthorizationStatus.ACTIVE)
-                .filter(auth -> personDocument.equalsIgnoreCase(auth.getPersonDocument()))
-                .filter(auth -> !adjustedPast.isAfter(auth.getValidTo()));
+        return visitorAuthorizationRepository.findActiveByDocument(
+                organizationId, PersonDocuments.normalize(personDocument), adjustedPast);
     }
 
     /**
@@ -62,6 +67,37 @@ public class ValidateByDocumentUseCase {
         return accessEventRepository.findByOrganizationId(organizationId);
     }
 
+    /**
+     * Obtiene una página del historial de eventos de acceso, del más reciente al más antiguo.
+     * Filtros y paginación keyset se resuelven en base de datos.
+     *
+     * @param organizationId ID de la organización
+     * @param query          Filtros, cursor y tamaño de página solicitado
+     * @return Página de eventos con el cursor de la siguiente página (null si no hay más)
+     */
+    public Mono<AccessEventPage> getAccessEventsPage(Long organizationId, AccessEventQuery query) {
+        int pageSize = query.getLimit() == null || query.getLimit() <= 0
+                ? DEFAULT_PAGE_SIZE : Math.min(query.getLimit(), MAX_PAGE_SIZE);
+        AccessEventQuery pageQuery = AccessEventQuery.builder()
+                .from(query.getFrom())
+                .to(query.getTo())
+                .action(query.getAction())
+                .scanResult(query.getScanResult())
+                .after(query.getAfter())
+                .limit(pageSize + 1)
+                .build();
+
+        return accessEventRepository.findByOrganizationIdAndQuery(organizationId, pageQuery)
+                .collectList()
+                .map(events -> {
+                    if (events.size() <= pageSize) {
+                        return new AccessEventPage(events, null);
+                    }
+                    List<AccessEvent> page = events.subList(0, pageSize);
+                    return new AccessEventPage(page, AccessEventCursor.of(page.get(pageSize - 1)).encode());
+                });
+    }
+
     /**
      * Valida una autorización específica por documento y registra el evento de acceso.
      *
@@ -69,7 +105,8 @@ public class ValidateByDocumentUseCase {
      * @param porterUserId    ID del portero
      * @param deviceId        ID del dispositivo
      * @param organizationId  ID de la organización
-     * @return Evento de acceso registrado
+     * @return Evento de acceso registrado; puede no tener ID aún (write-behind), ver
+     *         {@link AccessEventRepository#recordScan(AccessEvent)}
      */
     public Mono<AccessEvent> validateAndRegister(Long authorizationId, Long porterUserId,
                                                   String deviceId, Long organizationId) {
@@ -120,6 +157,6 @@ public class ValidateByDocumentUseCase {
                 .scannedAt(Instant.now())
                 .createdAt(Instant.now())
                 .build();
-        return accessEventRepository.save(event);
+        return accessEventRepository.recordScan(event);
     }
 }
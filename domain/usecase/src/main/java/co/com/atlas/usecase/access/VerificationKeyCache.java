@@ -0,0 +1,86 @@
+package co.com.atlas.usecase.access;
+
+import co.com.atlas.model.common.BoundedTtlCache;
+
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache acotado (LRU) de claves públicas Ed25519 ya decodificadas por organización.
+ * Cada entrada guarda la clave activa de la organización junto con su kid, de modo que
+ * un escaneo en portería solo requiere verificar la firma, sin consultar la base de datos
+ * ni reconstruir la clave desde el JWK.
+ *
+ * Los kid que ya se compararon contra la clave activa y no coincidieron (QRs de una clave
+ * anterior o falsificados) se recuerdan en la misma entrada: hasta que vence el TTL se
+ * verifican con la clave activa en cache en lugar de consultar la base de datos en cada escaneo.
+ *
+ * La entrada se invalida explícitamente cuando se activa una nueva clave para la
+ * organización y expira tras el TTL configurado como red de seguridad ante rotaciones
+ * realizadas por otra instancia.
+ */
+public class VerificationKeyCache {
+
+    /** Máximo de kid desconocidos recordados por organización; los siguientes consultan la base de datos. */
+    static final int MAX_UNKNOWN_KEY_IDS = 32;
+
+    private final BoundedTtlCache<Long, CachedKey> entries;
+
+    private record CachedKey(String keyId, PublicKey publicKey, Set<String> unknownKeyIds) {}
+
+    public VerificationKeyCache(int maxEntries, Duration ttl) {
+        this.entries = new BoundedTtlCache<>(maxEntries, ttl);
+    }
+
+    /**
+     * Obtiene la clave pública activa de la organización si está en cache y coincide con el kid,
+     * o si el kid ya se registró como desconocido para la clave activa vigente.
+     *
+     * @param organizationId ID de la organización
+     * @param keyId          kid incluido en el QR (null para QRs emitidos sin kid)
+     * @return Clave pública decodificada o null si no hay entrada vigente para ese kid
+     */
+    public PublicKey get(Long organizationId, String keyId) {
+        CachedKey cached = entries.get(organizationId);
+        if (cached == null) {
+            return null;
+        }
+        if (keyId != null && !Objects.equals(keyId, cached.keyId()) && !cached.unknownKeyIds().contains(keyId)) {
+            return null;
+        }
+        return cached.publicKey();
+    }
+
+    /**
+     * Registra la clave activa decodificada de la organización.
+     */
+    public void put(Long organizationId, String keyId, PublicKey publicKey) {
+        entries.put(organizationId, new CachedKey(keyId, publicKey, ConcurrentHashMap.newKeySet()));
+    }
+
+    /**
+     * Recuerda que el kid no corresponde a la clave activa en cache; expira con la entrada.
+     */
+    public void putUnknownKeyId(Long organizationId, String keyId) {
+        CachedKey cached = entries.get(organizationId);
+        if (keyId == null || cached == null || Objects.equals(keyId, cached.keyId())
+                || cached.unknownKeyIds().size() >= MAX_UNKNOWN_KEY_IDS) {
+            return;
+        }
+        cached.unknownKeyIds().add(keyId);
+    }
+
+    /**
+     * Descarta la clave en cache de la organización (p. ej. al activarse una nueva clave).
+     */
+    public void invalidate(Long organizationId) {
+        entries.remove(organizationId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
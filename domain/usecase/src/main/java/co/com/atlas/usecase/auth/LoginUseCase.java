@@ -5,14 +5,7 @@ import co.com.atlas.model.auth.AuthToken;
 import co.com.atlas.model.auth.AuthUser;
 import co.com.atlas.model.auth.gateways.AuthUserRepository;
 import co.com.atlas.model.auth.gateways.JwtTokenGateway;
-import co.com.atlas.model.permission.Permission;
-import co.com.atlas.model.permission.gateways.PermissionRepository;
-import co.com.atlas.model.role.Role;
-import co.com.atlas.model.role.gateways.RoleRepository;
-import co.com.atlas.model.userorganization.gateways.UserOrganizationRepository;
-import co.com.atlas.model.userrolemulti.gateways.UserRoleMultiRepository;
 import lombok.RequiredArgsConstructor;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -25,13 +18,10 @@ public class LoginUseCase {
     
     private final AuthUserRepository authUserRepository;
     private final JwtTokenGateway jwtTokenGateway;
-    private final UserOrganizationRepository userOrganizationRepository;
-    private final UserRoleMultiRepository userRoleMultiRepository;
-    private final RoleRepository roleRepository;
-    private final PermissionRepository permissionRepository;
+    private final RolePermissionCatalog rolePermissionCatalog;
 
     public Mono<AuthToken> execute(AuthCredentials credentials) {
-        return authUserRepository.findByEmailOrUsername(credentials.getEmail())
+        return authUserRepository.findCredentialsByEmailOrUsername(credentials.getEmail())
                 .switchIfEmpty(Mono.error(new AuthenticationException("Usuario no encontrado")))
                 .flatMap(user -> validateUserAndPassword(user, credentials.getPassword()))
                 .flatMap(this::loadUserRoles)
@@ -53,73 +43,18 @@ public class LoginUseCase {
     }
     
     /**
-     * Carga los roles del usuario desde user_roles_multi.
+     * Carga organización y roles en una sola consulta; los permisos salen del catálogo en memoria.
      * Usa la última organización seleccionada o la primera organización activa.
-     * Si no tiene organizaciones en user_organizations, busca en user_roles_multi
-     * directamente para encontrar la organización (caso porteros sin membresía).
-     * Si aún no encuentra, busca roles con organization_id = NULL
-     * (asignados durante pre-registro, antes del onboarding).
+     * Si no tiene organizaciones en user_organizations, toma la organización de
+     * user_roles_multi (caso porteros sin membresía). Si aún no encuentra, carga
+     * los roles con organization_id = NULL (asignados durante pre-registro).
      */
     private Mono<AuthUser> loadUserRoles(AuthUser user) {
-        // Paso 1: lastOrganizationId
-        Mono<Long> organizationIdMono = user.getLastOrganizationId() != null
-                ? Mono.just(user.getLastOrganizationId())
-                // Paso 2: user_organizations
-                : userOrganizationRepository.findActiveByUserId(user.getId())
-                        .next()
-                        .map(uo -> uo.getOrganizationId())
-                        // Paso 3: fallback a user_roles_multi (porteros sin membresía)
-                        .switchIfEmpty(Mono.defer(() -> 
-                                userRoleMultiRepository.findByUserId(user.getId())
-                                        .filter(urm -> urm.getOrganizationId() != null)
-                                        .next()
-                                        .map(urm -> urm.getOrganizationId())
-                        ))
-                        .defaultIfEmpty(0L);
-        
-        return organizationIdMono.flatMap(orgId -> {
-            if (orgId == 0L) {
-                // Usuario sin organizaciones, buscar roles sin organización asignada
-                // (roles asignados durante pre-registro)
-                return userRoleMultiRepository.findByUserIdAndOrganizationIdIsNull(user.getId())
-                        .flatMap(urm -> roleRepository.findById(urm.getRoleId()))
-                        .collectList()
-                        .flatMap(roles -> loadPermissionsForRoles(roles)
-                                .map(permissions -> user.toBuilder()
-                                        .roles(roles)
-                                        .permissions(permissions)
-                                        .build()));
-            }
-            
-            // Cargar roles del usuario en esa organización
-            return userRoleMultiRepository.findByUserIdAndOrganizationId(user.getId(), orgId)
-                    .flatMap(urm -> roleRepository.findById(urm.getRoleId()))
-                    .collectList()
-                    .flatMap(roles -> loadPermissionsForRoles(roles)
-                            .map(permissions -> user.toBuilder()
-                                    .organizationId(orgId)
-                                    .roles(roles)
-                                    .permissions(permissions)
-                                    .enabledModules(List.of("ATLAS_CORE"))
-                                    .build()));
-        });
-    }
-    
-    /**
-     * Carga todos los permisos asociados a una lista de roles.
-     * Los permisos se obtienen de la tabla role_permissions.
-     * 
-     * @param roles Lista de roles
-     * @return Mono con lista de permisos únicos
-     */
-    private Mono<List<Permission>> loadPermissionsForRoles(List<Role> roles) {
-        if (roles == null || roles.isEmpty()) {
-            return Mono.just(List.of());
-        }
-        
-        return Flux.fromIterable(roles)
-                .flatMap(role -> permissionRepository.findByRoleId(role.getId()))
-                .distinct(Permission::getCode) // Evitar duplicados por código
-                .collectList();
+        return authUserRepository.findWithAccessProfile(user.getId(), null)
+                .switchIfEmpty(Mono.error(new AuthenticationException("Usuario no encontrado")))
+                .flatMap(rolePermissionCatalog::resolvePermissions)
+                .map(profile -> profile.getOrganizationId() == null
+                        ? profile
+                        : profile.toBuilder().enabledModules(List.of("ATLAS_CORE")).build());
     }
 }
@@ -1,25 +1,39 @@
 package co.com.atlas.usecase.auth;
 
 import co.com.atlas.model.auth.AuthToken;
+import co.com.atlas.model.auth.AuthUser;
+import co.com.atlas.model.auth.gateways.AuthUserRepository;
 import co.com.atlas.model.auth.gateways.JwtTokenGateway;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Caso de uso para refrescar el token de acceso.
+ * Los roles se vuelven a cargar con una sola consulta para la organización del token y los
+ * permisos salen del catálogo en memoria, de modo que los cambios se reflejan al refrescar.
  */
 @RequiredArgsConstructor
 public class RefreshTokenUseCase {
     
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+    
     private final JwtTokenGateway jwtTokenGateway;
+    private final AuthUserRepository authUserRepository;
+    private final RolePermissionCatalog rolePermissionCatalog;
 
     public Mono<AuthToken> execute(String refreshToken) {
-        return jwtTokenGateway.validateToken(refreshToken)
-                .flatMap(isValid -> {
-                    if (Boolean.TRUE.equals(isValid)) {
-                        return jwtTokenGateway.refreshToken(refreshToken);
-                    }
-                    return Mono.error(new AuthenticationException("Token de refresco inválido"));
-                });
+        return jwtTokenGateway.parseToken(refreshToken)
+                .filter(claims -> REFRESH_TOKEN_TYPE.equals(claims.tokenType()) && claims.userId() != null)
+                .switchIfEmpty(Mono.error(new AuthenticationException("Token de refresco inválido")))
+                .flatMap(claims -> authUserRepository.findWithAccessProfile(claims.userId(), claims.organizationId()))
+                .filter(AuthUser::isActive)
+                .switchIfEmpty(Mono.error(new AuthenticationException("Usuario inactivo o no encontrado")))
+                .flatMap(rolePermissionCatalog::resolvePermissions)
+                .map(user -> user.getOrganizationId() == null
+                        ? user
+                        : user.toBuilder().enabledModules(List.of("ATLAS_CORE")).build())
+                .flatMap(jwtTokenGateway::generateTokenPair);
     }
 }
@@ -0,0 +1,129 @@
+package co.com.atlas.usecase.auth;
+
+import co.com.atlas.model.auth.AuthUser;
+import co.com.atlas.model.permission.Permission;
+import co.com.atlas.model.permission.RolePermission;
+import co.com.atlas.model.permission.gateways.PermissionRepository;
+import co.com.atlas.model.role.Role;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Catálogo en memoria rol → permisos.
+ * <p>
+ * Cada carga produce un snapshot inmutable que se publica de forma atómica; los lectores nunca
+ * ven un catálogo a medio cargar. {@link #refreshIfChanged()} compara la versión de
+ * permission_catalog_version (incrementada por triggers) y solo recarga si cambió. Hasta la
+ * primera carga, {@link #resolvePermissions} carga el catálogo bajo demanda.
+ * {@link #expandPermissionCodes} reconstruye los permisos de un JWT compacto a partir de sus roles.
+ * </p>
+ */
+public class RolePermissionCatalog {
+
+    private static final Snapshot EMPTY = new Snapshot(-1L, Map.of(), Map.of());
+
+    private final PermissionRepository permissionRepository;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(EMPTY);
+
+    public RolePermissionCatalog(PermissionRepository permissionRepository) {
+        this.permissionRepository = permissionRepository;
+    }
+
+    private record Snapshot(long version, Map<Long, List<Permission>> permissionsByRole,
+                            Map<String, List<Permission>> permissionsByRoleCode) {
+    }
+
+    /**
+     * Versión cargada del catálogo (-1 si aún no se ha cargado).
+     */
+    public long version() {
+        return snapshot.get().version();
+    }
+
+    /**
+     * Recarga el catálogo si su versión en base de datos cambió.
+     *
+     * @return true si se publicó un snapshot nuevo
+     */
+    public Mono<Boolean> refreshIfChanged() {
+        return permissionRepository.findCatalogVersion()
+                .flatMap(version -> version == version()
+                        ? Mono.just(false)
+                        : load(version).thenReturn(true));
+    }
+
+    /**
+     * Asigna al usuario los permisos de sus roles sin consultar la base de datos
+     * (salvo la carga inicial si el catálogo aún no está disponible).
+     */
+    public Mono<AuthUser> resolvePermissions(AuthUser user) {
+        return current(-1L).map(loaded -> user.toBuilder()
+                .permissions(permissionsFor(loaded.permissionsByRole(), user.getRoles(), Role::getId))
+                .permissionsVersion(loaded.version())
+                .build());
+    }
+
+    /**
+     * Códigos de permiso de los roles de un JWT compacto. Si el token se emitió con una versión
+     * más nueva que la cargada en esta instancia, se refresca el catálogo antes de expandir.
+     */
+    public Mono<List<String>> expandPermissionCodes(List<String> roleCodes, Long issuedVersion) {
+        return current(issuedVersion != null ? issuedVersion : -1L)
+                .map(loaded -> permissionsFor(loaded.permissionsByRoleCode(), roleCodes, code -> code).stream()
+                        .map(Permission::getCode)
+                        .toList());
+    }
+
+    private Mono<Snapshot> current(long minimumVersion) {
+        Snapshot loaded = snapshot.get();
+        if (loaded != EMPTY && loaded.version() >= minimumVersion) {
+            return Mono.just(loaded);
+        }
+        return refreshIfChanged().then(Mono.fromSupplier(snapshot::get));
+    }
+
+    private Mono<Void> load(long version) {
+        // La versión se lee antes que las filas: un cambio concurrente deja una versión mayor
+        // y se recoge en el siguiente refresco.
+        return permissionRepository.findAllRolePermissions()
+                .collectList()
+                .doOnNext(rows -> snapshot.set(new Snapshot(version,
+                        index(rows, RolePermission::roleId), index(rows, RolePermission::roleCode))))
+                .then();
+    }
+
+    private static <K> Map<K, List<Permission>> index(List<RolePermission> rows, Function<RolePermission, K> key) {
+        Map<K, List<Permission>> byRole = new HashMap<>();
+        for (RolePermission row : rows) {
+            K roleKey = key.apply(row);
+            if (roleKey != null) {
+                byRole.computeIfAbsent(roleKey, k -> new ArrayList<>()).add(row.permission());
+            }
+        }
+        byRole.replaceAll((roleKey, permissions) -> List.copyOf(permissions));
+        return Map.copyOf(byRole);
+    }
+
+    private static <R, K> List<Permission> permissionsFor(Map<K, List<Permission>> byRole, List<R> roles,
+                                                          Function<R, K> key) {
+        if (roles == null || roles.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Permission> distinct = new LinkedHashMap<>();
+        for (R role : roles) {
+            K roleKey = key.apply(role);
+            List<Permission> granted = roleKey != null ? byRole.getOrDefault(roleKey, List.of()) : List.of();
+            for (Permission permission : granted) {
+                distinct.putIfAbsent(permission.getCode(), permission);
+            }
+        }
+        return new ArrayList<>(distinct.values());
+    }
+}
@@ -11,6 +11,7 @@ import co.com.atlas.model.crypto.gateways.CryptoKeyGeneratorGateway;
 import co.com.atlas.model.crypto.gateways.CryptoKeyRepository;
 import co.com.atlas.model.unit.gateways.UnitRepository;
 import co.com.atlas.model.userunit.gateways.UserUnitRepository;
+import co.com.atlas.usecase.access.VerificationKeyCache;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
 
@@ -32,6 +33,7 @@ public class CreateAuthorizationUseCase {
     private final CryptoKeyGeneratorGateway cryptoKeyGeneratorGateway;
     private final UserUnitRepository userUnitRepository;
     private final UnitRepository unitRepository;
+    private final VerificationKeyCache verificationKeyCache;
 
     /**
      * Crea una nueva autorización de ingreso con QR firmado digitalmente.
@@ -135,12 +137,15 @@ public class CreateAuthorizationUseCase {
 
     /**
      * Obtiene la clave activa de la organización o genera una nueva (lazy).
+     * Al activarse una clave nueva se invalidan la clave de verificación y las claves de firma en cache.
      */
     private Mono<OrganizationCryptoKey> getOrCreateCryptoKey(Long organizationId) {
         return cryptoKeyRepository.findActiveByOrganizationId(organizationId)
                 .switchIfEmpty(Mono.defer(() ->
                         cryptoKeyGeneratorGateway.generateForOrganization(organizationId)
                                 .flatMap(cryptoKeyRepository::save)
+                                .doOnNext(saved -> verificationKeyCache.invalidate(organizationId))
+                                .flatMap(saved -> cryptoKeyGeneratorGateway.evictSigningKeys().thenReturn(saved))
                 ));
     }
 
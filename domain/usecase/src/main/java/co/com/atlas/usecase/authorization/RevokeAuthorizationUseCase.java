@@ -6,6 +6,8 @@ import co.com.atlas.model.authorization.gateways.VisitorAuthorizationRepository;
 import co.com.atlas.model.common.BusinessException;
 import co.com.atlas.model.common.NotFoundException;
 import co.com.atlas.model.common.UnauthorizedException;
+import co.com.atlas.usecase.access.RevocationBroadcaster;
+import co.com.atlas.usecase.access.RevocationFilterIndex;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
 
@@ -20,6 +22,8 @@ import java.util.List;
 public class RevokeAuthorizationUseCase {
 
     private final VisitorAuthorizationRepository authorizationRepository;
+    private final RevocationFilterIndex revocationFilterIndex;
+    private final RevocationBroadcaster revocationBroadcaster;
 
     /**
      * Revoca una autorización activa.
@@ -55,6 +59,18 @@ public class RevokeAuthorizationUseCase {
                 authorization.getId(),
                 AuthorizationStatus.REVOKED,
                 userId
-        );
+        ).doOnNext(revoked -> revocationFilterIndex.addRevoked(revoked.getOrganizationId(), revoked.getId()))
+                .flatMap(this::broadcast);
+    }
+
+    /**
+     * Notifica la revocación a los dispositivos conectados. Un fallo al leer el log
+     * no afecta la revocación: los dispositivos la recuperan por cursor.
+     */
+    private Mono<VisitorAuthorization> broadcast(VisitorAuthorization revoked) {
+        return authorizationRepository.findRevocationByAuthorizationId(revoked.getId())
+                .doOnNext(entry -> revocationBroadcaster.publish(revoked.getOrganizationId(), entry))
+                .onErrorResume(e -> Mono.empty())
+                .thenReturn(revoked);
     }
 }
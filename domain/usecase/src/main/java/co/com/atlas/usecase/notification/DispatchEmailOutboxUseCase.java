@@ -0,0 +1,124 @@
+package co.com.atlas.usecase.notification;
+
+import co.com.atlas.model.invitation.gateways.InvitationAuditRepository;
+import co.com.atlas.model.notification.EmailDeliveryResult;
+import co.com.atlas.model.notification.OutboundEmail;
+import co.com.atlas.model.notification.gateways.EmailOutboxRepository;
+import co.com.atlas.model.notification.gateways.NotificationGateway;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Caso de uso que despacha los correos pendientes del outbox.
+ * <p>
+ * Cada lote se reserva en la base de datos, se entrega por una sola sesión SMTP y se confirma con
+ * un UPDATE para todos los enviados. Los fallidos se reintentan con backoff exponencial según
+ * {@code retry_count}/{@code last_retry_at} hasta {@code maxAttempts}, tras lo cual quedan en FAILED.
+ * </p>
+ */
+public class DispatchEmailOutboxUseCase {
+
+    private static final System.Logger LOGGER = System.getLogger(DispatchEmailOutboxUseCase.class.getName());
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final NotificationGateway notificationGateway;
+    private final InvitationAuditRepository invitationAuditRepository;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    public DispatchEmailOutboxUseCase(EmailOutboxRepository emailOutboxRepository,
+                                      NotificationGateway notificationGateway,
+                                      InvitationAuditRepository invitationAuditRepository,
+                                      int batchSize,
+                                      int maxAttempts,
+                                      Duration baseBackoff,
+                                      Duration maxBackoff,
+                                      Duration lease) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.notificationGateway = notificationGateway;
+        this.invitationAuditRepository = invitationAuditRepository;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+    }
+
+    /**
+     * Reserva y envía un lote.
+     *
+     * @return Número de correos procesados (enviados o fallidos); 0 si no había pendientes
+     */
+    public Mono<Integer> dispatchBatch() {
+        return emailOutboxRepository.claimBatch(batchSize, baseBackoff, maxBackoff, lease)
+                .collectList()
+                .flatMap(batch -> batch.isEmpty() ? Mono.just(0) : deliver(batch));
+    }
+
+    /**
+     * Envía lotes hasta vaciar el outbox (o encontrar un lote incompleto).
+     *
+     * @return Número total de correos procesados
+     */
+    public Mono<Long> drain() {
+        return dispatchBatch()
+                .repeat()
+                .takeUntil(processed -> processed < batchSize)
+                .reduce(0L, (total, processed) -> total + processed);
+    }
+
+    private Mono<Integer> deliver(List<OutboundEmail> batch) {
+        Map<Long, OutboundEmail> byId = batch.stream()
+                .collect(Collectors.toMap(OutboundEmail::getId, Function.identity()));
+        return notificationGateway.deliver(batch)
+                .collectList()
+                .flatMap(results -> {
+                    List<Long> sentIds = results.stream()
+                            .filter(EmailDeliveryResult::delivered)
+                            .map(EmailDeliveryResult::emailId)
+                            .toList();
+                    Mono<Void> sent = emailOutboxRepository.markSent(sentIds, Instant.now())
+                            .thenMany(Flux.fromIterable(sentIds))
+                            .concatMap(id -> audit(byId.get(id), InvitationAuditRepository.ACTION_SENT))
+                            .then();
+                    Mono<Void> failed = Flux.fromIterable(results)
+                            .filter(result -> !result.delivered())
+                            .concatMap(result -> markFailed(byId.get(result.emailId()), result.error()))
+                            .then();
+                    return sent.then(failed).thenReturn(results.size());
+                });
+    }
+
+    private Mono<Void> markFailed(OutboundEmail email, String error) {
+        int attempts = (email.getRetryCount() != null ? email.getRetryCount() : 0) + 1;
+        boolean exhausted = attempts >= maxAttempts;
+        if (exhausted) {
+            LOGGER.log(System.Logger.Level.ERROR,
+                    "Correo {0} a {1} descartado tras {2} intentos: {3}",
+                    email.getId(), email.getRecipient(), attempts, error);
+        } else {
+            LOGGER.log(System.Logger.Level.WARNING,
+                    "Correo {0} a {1} falló (intento {2}), se reintentará: {3}",
+                    email.getId(), email.getRecipient(), attempts, error);
+        }
+        return emailOutboxRepository.markFailed(email.getId(), error, exhausted)
+                .then(exhausted ? audit(email, InvitationAuditRepository.ACTION_FAILED) : Mono.empty());
+    }
+
+    private Mono<Void> audit(OutboundEmail email, String action) {
+        if (email == null || email.getInvitationId() == null) {
+            return Mono.empty();
+        }
+        return invitationAuditRepository.logAction(email.getInvitationId(), action, null);
+    }
+}
@@ -0,0 +1,60 @@
+package co.com.atlas.usecase.poll;
+
+import co.com.atlas.model.poll.Poll;
+import co.com.atlas.model.poll.PollOption;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache acotado (LRU) de resultados de encuestas cerradas.
+ * <p>
+ * Una encuesta CLOSED ya no acepta votos ni vuelve a otro estado, así que su conteo es
+ * definitivo: se calcula una vez y se guarda como snapshot inmutable (opciones copiadas en
+ * una lista no modificable). Las lecturas siguientes no consultan la base de datos.
+ * </p>
+ */
+public class ClosedPollResultsCache {
+
+    private final int maxEntries;
+    private final Map<Long, Poll> entries;
+
+    public ClosedPollResultsCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries debe ser mayor que cero");
+        }
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Poll> eldest) {
+                return size() > ClosedPollResultsCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @return Snapshot de resultados o null si la encuesta no está en cache
+     */
+    public synchronized Poll get(Long pollId) {
+        return entries.get(pollId);
+    }
+
+    /**
+     * Guarda una copia de la encuesta cerrada con sus conteos y la devuelve.
+     */
+    public Poll put(Poll poll) {
+        List<PollOption> options = poll.getOptions() == null ? List.of() : poll.getOptions().stream()
+                .map(option -> option.toBuilder().build())
+                .toList();
+        Poll snapshot = poll.toBuilder().options(options).build();
+        synchronized (this) {
+            entries.put(snapshot.getId(), snapshot);
+        }
+        return snapshot;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -15,9 +15,17 @@ import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Caso de uso para gestión de encuestas.
+ * <p>
+ * Los conteos de encuestas abiertas salen de {@link PollVoteCounters} (en memoria, reconciliados
+ * periódicamente con la base de datos); los de encuestas cerradas se calculan una vez con un
+ * conteo agrupado por opción y se sirven desde {@link ClosedPollResultsCache}. Votar, activar y
+ * cerrar no cuentan votos. El voto duplicado lo rechaza el índice único de poll_votes, no una
+ * consulta previa.
+ * </p>
  */
 @RequiredArgsConstructor
 public class PollUseCase {
@@ -25,6 +33,8 @@ public class PollUseCase {
     private final PollRepository pollRepository;
     private final PollOptionRepository pollOptionRepository;
     private final PollVoteRepository pollVoteRepository;
+    private final ClosedPollResultsCache closedPollResultsCache;
+    private final PollVoteCounters pollVoteCounters;
     
     /**
      * Crea una nueva encuesta con opciones.
@@ -60,13 +70,32 @@ public class PollUseCase {
      * Obtiene una encuesta por ID con opciones y conteo de votos.
      */
     public Mono<Poll> findById(Long id) {
+        Poll cached = closedPollResultsCache.get(id);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return loadPoll(id)
+                .flatMap(poll -> {
+                    boolean closed = poll.getStatus() == PollStatus.CLOSED;
+                    Mono<Map<Long, Long>> counts = closed
+                            ? pollVoteRepository.countByPollIdGroupByOption(id)
+                            : pollVoteCounters.tally(id);
+                    return Mono.zip(pollOptionRepository.findByPollId(id).collectList(), counts)
+                            .map(tuple -> withCounts(poll, tuple.getT1(), tuple.getT2()))
+                            .map(counted -> closed ? closedPollResultsCache.put(counted) : counted);
+                });
+    }
+
+    private Mono<Poll> loadPoll(Long id) {
         return pollRepository.findById(id)
-                .switchIfEmpty(Mono.error(new NotFoundException("Poll", id)))
-                .flatMap(poll -> pollOptionRepository.findByPollId(id)
-                        .flatMap(option -> pollVoteRepository.countByOptionId(option.getId())
-                                .map(count -> option.toBuilder().voteCount(count).build()))
-                        .collectList()
-                        .map(options -> poll.toBuilder().options(options).build()));
+                .switchIfEmpty(Mono.error(new NotFoundException("Poll", id)));
+    }
+
+    private static Poll withCounts(Poll poll, List<PollOption> options, Map<Long, Long> counts) {
+        List<PollOption> counted = options.stream()
+                .map(option -> option.toBuilder().voteCount(counts.getOrDefault(option.getId(), 0L)).build())
+                .toList();
+        return poll.toBuilder().options(counted).build();
     }
     
     /**
@@ -87,7 +116,7 @@ public class PollUseCase {
      * Activa una encuesta (cambia estado a ACTIVE).
      */
     public Mono<Poll> activate(Long id) {
-        return findById(id)
+        return loadPoll(id)
                 .flatMap(poll -> {
                     if (poll.getStatus() != PollStatus.DRAFT) {
                         return Mono.error(new BusinessException("INVALID_STATE", "Solo se pueden activar encuestas en borrador"));
@@ -105,7 +134,7 @@ public class PollUseCase {
      * Cierra una encuesta.
      */
     public Mono<Poll> close(Long id) {
-        return findById(id)
+        return loadPoll(id)
                 .flatMap(poll -> {
                     if (poll.getStatus() != PollStatus.ACTIVE) {
                         return Mono.error(new BusinessException("INVALID_STATE", "Solo se pueden cerrar encuestas activas"));
@@ -115,7 +144,8 @@ public class PollUseCase {
                             .endsAt(Instant.now())
                             .updatedAt(Instant.now())
                             .build();
-                    return pollRepository.save(updatedPoll);
+                    return pollRepository.save(updatedPoll)
+                            .doOnSuccess(saved -> pollVoteCounters.evict(id));
                 });
     }
     
@@ -123,42 +153,32 @@ public class PollUseCase {
      * Emite un voto en una encuesta.
      */
     public Mono<PollVote> vote(Long pollId, Long optionId, Long userId) {
-        return findById(pollId)
+        return loadPoll(pollId)
                 .flatMap(poll -> {
                     if (poll.getStatus() != PollStatus.ACTIVE) {
                         return Mono.error(new BusinessException("POLL_NOT_ACTIVE", "La encuesta no está activa"));
                     }
                     
-                    // Verificar que la opción pertenece a la encuesta
-                    boolean validOption = poll.getOptions().stream()
-                            .anyMatch(opt -> opt.getId().equals(optionId));
-                    if (!validOption) {
-                        return Mono.error(new BusinessException("INVALID_OPTION", "La opción no pertenece a esta encuesta"));
-                    }
-                    
-                    // Verificar si ya votó (solo si no es anónimo y no permite múltiple)
-                    if (!Boolean.TRUE.equals(poll.getAllowMultiple()) && !Boolean.TRUE.equals(poll.getIsAnonymous())) {
-                        return pollVoteRepository.existsByPollIdAndUserId(pollId, userId)
-                                .flatMap(exists -> {
-                                    if (Boolean.TRUE.equals(exists)) {
-                                        return Mono.error(new BusinessException("ALREADY_VOTED", "Ya has votado en esta encuesta"));
-                                    }
-                                    return saveVote(pollId, optionId, userId, poll.getIsAnonymous());
-                                });
-                    }
-                    
-                    return saveVote(pollId, optionId, userId, poll.getIsAnonymous());
+                    // Verificar que la opción pertenece a la encuesta (por PK, sin contar votos)
+                    return pollOptionRepository.findById(optionId)
+                            .filter(option -> pollId.equals(option.getPollId()))
+                            .switchIfEmpty(Mono.error(new BusinessException("INVALID_OPTION", "La opción no pertenece a esta encuesta")))
+                            .flatMap(option -> saveVote(poll, optionId, userId));
                 });
     }
     
-    private Mono<PollVote> saveVote(Long pollId, Long optionId, Long userId, Boolean isAnonymous) {
+    private Mono<PollVote> saveVote(Poll poll, Long optionId, Long userId) {
+        boolean anonymous = Boolean.TRUE.equals(poll.getIsAnonymous());
         PollVote vote = PollVote.builder()
-                .pollId(pollId)
+                .pollId(poll.getId())
                 .optionId(optionId)
-                .userId(Boolean.TRUE.equals(isAnonymous) ? null : userId)
+                .userId(anonymous ? null : userId)
                 .createdAt(Instant.now())
                 .build();
-        return pollVoteRepository.save(vote);
+        // Un voto por usuario (o por opción si es múltiple); los anónimos no se restringen
+        return pollVoteRepository.saveIfAbsent(vote, Boolean.TRUE.equals(poll.getAllowMultiple()))
+                .switchIfEmpty(Mono.error(new BusinessException("ALREADY_VOTED", "Ya has votado en esta encuesta")))
+                .doOnNext(saved -> pollVoteCounters.increment(poll.getId(), optionId));
     }
     
     /**
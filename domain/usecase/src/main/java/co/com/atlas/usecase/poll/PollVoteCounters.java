@@ -0,0 +1,146 @@
+package co.com.atlas.usecase.poll;
+
+import co.com.atlas.model.poll.gateways.PollVoteRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Conteo en vivo de votos por encuesta, en memoria.
+ * <p>
+ * Cada opción tiene un {@link LongAdder} con los votos registrados en esta instancia desde la
+ * última reconciliación, sumado a una base inmutable leída de la base de datos. Registrar un voto
+ * no bloquea ni consulta la base de datos, y leer el conteo tampoco una vez cargada la encuesta.
+ * </p>
+ * <p>
+ * {@link #reconcile()} se ejecuta periódicamente: primero traslada los incrementos locales a la
+ * base (nunca se pierden, {@code sumThenReset} es atómico por celda) y luego reemplaza la base con
+ * el conteo agrupado de la base de datos, que incluye los votos de otras réplicas. Un voto
+ * confirmado mientras se lee puede contarse dos veces hasta la reconciliación siguiente. Las
+ * encuestas sin actividad durante {@code idleTimeout} se descartan y se recargan al consultarlas.
+ * </p>
+ */
+public class PollVoteCounters {
+
+    private final PollVoteRepository pollVoteRepository;
+    private final long idleTimeoutNanos;
+    private final Map<Long, PollTally> polls = new ConcurrentHashMap<>();
+
+    public PollVoteCounters(PollVoteRepository pollVoteRepository, Duration idleTimeout) {
+        this.pollVoteRepository = pollVoteRepository;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+    }
+
+    /**
+     * Suma un voto ya confirmado en la base de datos.
+     */
+    public void increment(Long pollId, Long optionId) {
+        tallyFor(pollId).increment(optionId);
+    }
+
+    /**
+     * Conteo actual por opción; la primera consulta de una encuesta lo carga de la base de datos.
+     *
+     * @return Mapa optionId → votos; las opciones sin votos no aparecen
+     */
+    public Mono<Map<Long, Long>> tally(Long pollId) {
+        PollTally tally = tallyFor(pollId);
+        if (tally.isLoaded()) {
+            return Mono.fromSupplier(tally::counts);
+        }
+        return reconcile(pollId, tally).then(Mono.fromSupplier(tally::counts));
+    }
+
+    /**
+     * Reconcilia todas las encuestas en seguimiento y descarta las inactivas.
+     *
+     * @return Número de encuestas reconciliadas
+     */
+    public Mono<Long> reconcile() {
+        long now = System.nanoTime();
+        polls.entrySet().removeIf(entry -> now - entry.getValue().lastAccess() > idleTimeoutNanos);
+        return Flux.fromIterable(Map.copyOf(polls).entrySet())
+                .flatMap(entry -> reconcile(entry.getKey(), entry.getValue()), 4)
+                .count();
+    }
+
+    /**
+     * Deja de seguir la encuesta (p. ej. al cerrarla).
+     */
+    public void evict(Long pollId) {
+        polls.remove(pollId);
+    }
+
+    public int size() {
+        return polls.size();
+    }
+
+    private Mono<Void> reconcile(Long pollId, PollTally tally) {
+        tally.foldLocal();
+        return pollVoteRepository.countByPollIdGroupByOption(pollId)
+                .doOnNext(tally::replaceBase)
+                .then();
+    }
+
+    private PollTally tallyFor(Long pollId) {
+        PollTally tally = polls.computeIfAbsent(pollId, id -> new PollTally());
+        tally.touch();
+        return tally;
+    }
+
+    private static final class PollTally {
+
+        private final Map<Long, LongAdder> local = new ConcurrentHashMap<>();
+        private volatile Map<Long, Long> base = Map.of();
+        private volatile boolean loaded;
+        private volatile long lastAccess = System.nanoTime();
+
+        void touch() {
+            lastAccess = System.nanoTime();
+        }
+
+        long lastAccess() {
+            return lastAccess;
+        }
+
+        boolean isLoaded() {
+            return loaded;
+        }
+
+        void increment(Long optionId) {
+            local.computeIfAbsent(optionId, id -> new LongAdder()).increment();
+        }
+
+        Map<Long, Long> counts() {
+            Map<Long, Long> counts = new HashMap<>(base);
+            local.forEach((optionId, adder) -> {
+                long pending = adder.sum();
+                if (pending != 0) {
+                    counts.merge(optionId, pending, Long::sum);
+                }
+            });
+            return counts;
+        }
+
+        synchronized void foldLocal() {
+            Map<Long, Long> folded = new HashMap<>(base);
+            local.forEach((optionId, adder) -> {
+                long pending = adder.sumThenReset();
+                if (pending != 0) {
+                    folded.merge(optionId, pending, Long::sum);
+                }
+            });
+            base = Map.copyOf(folded);
+        }
+
+        synchronized void replaceBase(Map<Long, Long> counts) {
+            base = Map.copyOf(counts);
+            loaded = true;
+        }
+    }
+}
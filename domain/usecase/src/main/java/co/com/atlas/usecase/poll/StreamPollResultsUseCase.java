@@ -0,0 +1,104 @@
+package co.com.atlas.usecase.poll;
+
+import co.com.atlas.model.poll.Poll;
+import co.com.atlas.model.poll.PollOption;
+import co.com.atlas.model.poll.PollStatus;
+import co.com.atlas.model.poll.PollTallyUpdate;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caso de uso para los resultados en vivo de una encuesta.
+ * <p>
+ * Por encuesta hay un único flujo caliente compartido por todos los espectadores: cada
+ * {@code interval} lee los resultados una vez y, si cambiaron, calcula el delta una vez. Cada
+ * suscriptor recibe primero el snapshot vigente y luego solo deltas, así que mil espectadores cuestan
+ * una lectura por intervalo. El flujo termina al cerrarse la encuesta (tras emitir el conteo final)
+ * y se libera cuando no quedan suscriptores.
+ * </p>
+ */
+public class StreamPollResultsUseCase {
+
+    private final PollUseCase pollUseCase;
+    private final Duration interval;
+    private final Map<Long, Flux<Frame>> streams = new ConcurrentHashMap<>();
+
+    public StreamPollResultsUseCase(PollUseCase pollUseCase, Duration interval) {
+        this.pollUseCase = pollUseCase;
+        this.interval = interval;
+    }
+
+    private record Tally(PollStatus status, Map<Long, Long> counts, long total) {
+    }
+
+    /**
+     * Último conteo publicado: snapshot para suscriptores nuevos y delta para los existentes.
+     */
+    private record Frame(Tally tally, PollTallyUpdate snapshot, PollTallyUpdate delta) {
+    }
+
+    /**
+     * Abre el flujo de resultados de la encuesta.
+     *
+     * @return snapshot inicial seguido de deltas; completa cuando la encuesta se cierra
+     */
+    public Flux<PollTallyUpdate> execute(Long pollId) {
+        return Flux.defer(() -> shared(pollId)
+                .index()
+                .map(indexed -> indexed.getT1() == 0 ? indexed.getT2().snapshot() : indexed.getT2().delta()));
+    }
+
+    public int activeStreams() {
+        return streams.size();
+    }
+
+    private Flux<Frame> shared(Long pollId) {
+        return streams.computeIfAbsent(pollId, id -> Flux.interval(Duration.ZERO, interval)
+                .onBackpressureDrop()
+                .concatMap(tick -> pollUseCase.getResults(id))
+                .map(StreamPollResultsUseCase::toTally)
+                .takeUntil(tally -> tally.status() == PollStatus.CLOSED)
+                .distinctUntilChanged()
+                .scan(new Frame(null, null, null), (previous, tally) -> next(id, previous, tally))
+                .skip(1)
+                .doFinally(signal -> streams.remove(id))
+                .replay(1)
+                .refCount());
+    }
+
+    private static Tally toTally(Poll poll) {
+        Map<Long, Long> counts = new HashMap<>();
+        long total = 0;
+        if (poll.getOptions() != null) {
+            for (PollOption option : poll.getOptions()) {
+                long votes = option.getVoteCount() != null ? option.getVoteCount() : 0L;
+                if (votes > 0) {
+                    counts.put(option.getId(), votes);
+                }
+                total += votes;
+            }
+        }
+        return new Tally(poll.getStatus(), Map.copyOf(counts), total);
+    }
+
+    private static Frame next(Long pollId, Frame previous, Tally tally) {
+        long sequence = previous.snapshot() != null ? previous.snapshot().sequence() + 1 : 1L;
+        Map<Long, Long> before = previous.tally() != null ? previous.tally().counts() : Map.of();
+        Map<Long, Long> changed = new HashMap<>();
+        tally.counts().forEach((optionId, votes) -> {
+            if (!votes.equals(before.get(optionId))) {
+                changed.put(optionId, votes);
+            }
+        });
+        before.keySet().stream()
+                .filter(optionId -> !tally.counts().containsKey(optionId))
+                .forEach(optionId -> changed.put(optionId, 0L));
+        return new Frame(tally,
+                new PollTallyUpdate(pollId, sequence, true, tally.status(), tally.counts(), tally.total()),
+                new PollTallyUpdate(pollId, sequence, false, tally.status(), Map.copyOf(changed), tally.total()));
+    }
+}
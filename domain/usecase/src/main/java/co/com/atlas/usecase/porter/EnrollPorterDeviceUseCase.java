@@ -12,8 +12,6 @@ import co.com.atlas.model.crypto.gateways.CryptoKeyGeneratorGateway;
 import co.com.atlas.model.crypto.gateways.CryptoKeyRepository;
 import co.com.atlas.model.organization.Organization;
 import co.com.atlas.model.organization.gateways.OrganizationRepository;
-import co.com.atlas.model.permission.Permission;
-import co.com.atlas.model.permission.gateways.PermissionRepository;
 import co.com.atlas.model.porter.DeviceInfo;
 import co.com.atlas.model.porter.EnrollmentResult;
 import co.com.atlas.model.porter.PorterEnrollmentAuditAction;
@@ -22,13 +20,11 @@ import co.com.atlas.model.porter.PorterEnrollmentToken;
 import co.com.atlas.model.porter.PorterEnrollmentTokenStatus;
 import co.com.atlas.model.porter.gateways.PorterEnrollmentAuditRepository;
 import co.com.atlas.model.porter.gateways.PorterEnrollmentTokenRepository;
-import co.com.atlas.model.role.Role;
-import co.com.atlas.model.role.gateways.RoleRepository;
 import co.com.atlas.model.userorganization.UserOrganization;
 import co.com.atlas.model.userorganization.gateways.UserOrganizationRepository;
-import co.com.atlas.model.userrolemulti.gateways.UserRoleMultiRepository;
+import co.com.atlas.usecase.access.VerificationKeyCache;
+import co.com.atlas.usecase.auth.RolePermissionCatalog;
 import lombok.RequiredArgsConstructor;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.security.SecureRandom;
@@ -62,10 +58,9 @@ public class EnrollPorterDeviceUseCase {
     private final CryptoKeyRepository cryptoKeyRepository;
     private final CryptoKeyGeneratorGateway cryptoKeyGeneratorGateway;
     private final JwtTokenGateway jwtTokenGateway;
-    private final UserRoleMultiRepository userRoleMultiRepository;
-    private final RoleRepository roleRepository;
-    private final PermissionRepository permissionRepository;
     private final UserOrganizationRepository userOrganizationRepository;
+    private final VerificationKeyCache verificationKeyCache;
+    private final RolePermissionCatalog rolePermissionCatalog;
 
     /**
      * Comando de enrolamiento con datos del dispositivo.
@@ -170,12 +165,15 @@ public class EnrollPorterDeviceUseCase {
 
     /**
      * Obtiene la clave activa de la organización o genera una nueva (lazy).
+     * Al activarse una clave nueva se invalidan la clave de verificación y las claves de firma en cache.
      */
     private Mono<OrganizationCryptoKey> getOrCreateCryptoKey(Long organizationId) {
         return cryptoKeyRepository.findActiveByOrganizationId(organizationId)
                 .switchIfEmpty(Mono.defer(() ->
                         cryptoKeyGeneratorGateway.generateForOrganization(organizationId)
                                 .flatMap(cryptoKeyRepository::save)
+                                .doOnNext(saved -> verificationKeyCache.invalidate(organizationId))
+                                .flatMap(saved -> cryptoKeyGeneratorGateway.evictSigningKeys().thenReturn(saved))
                 ));
     }
 
@@ -217,32 +215,23 @@ public class EnrollPorterDeviceUseCase {
     }
 
     /**
-     * Genera JWT para el portero recién enrolado, cargando roles y permisos.
+     * Genera JWT para el portero recién enrolado: roles en una sola consulta, permisos del catálogo.
+     * La versión del catálogo viaja al token para que se emita en formato compacto.
      */
     private Mono<AuthToken> generatePorterJwt(AuthUser user, Long organizationId) {
-        return userRoleMultiRepository.findByUserIdAndOrganizationId(user.getId(), organizationId)
-                .flatMap(urm -> roleRepository.findById(urm.getRoleId()))
-                .collectList()
-                .flatMap(roles -> loadPermissionsForRoles(roles)
-                        .map(permissions -> user.toBuilder()
-                                .organizationId(organizationId)
-                                .roles(roles)
-                                .permissions(permissions)
-                                .enabledModules(List.of("ATLAS_CORE"))
-                                .build()))
+        return authUserRepository.findWithAccessProfile(user.getId(), organizationId)
+                .switchIfEmpty(Mono.error(new NotFoundException("Usuario portero no encontrado")))
+                .flatMap(rolePermissionCatalog::resolvePermissions)
+                .map(profile -> user.toBuilder()
+                        .organizationId(organizationId)
+                        .roles(profile.getRoles())
+                        .permissions(profile.getPermissions())
+                        .permissionsVersion(profile.getPermissionsVersion())
+                        .enabledModules(List.of("ATLAS_CORE"))
+                        .build())
                 .flatMap(jwtTokenGateway::generateTokenPair);
     }
 
-    private Mono<List<Permission>> loadPermissionsForRoles(List<Role> roles) {
-        if (roles == null || roles.isEmpty()) {
-            return Mono.just(List.of());
-        }
-        return Flux.fromIterable(roles)
-                .flatMap(role -> permissionRepository.findByRoleId(role.getId()))
-                .distinct(Permission::getCode)
-                .collectList();
-    }
-
     private Mono<PorterEnrollmentAuditLog> saveAuditLog(PorterEnrollmentToken token,
                                                          EnrollCommand command) {
         String details = formatDeviceDetails(command.deviceInfo());
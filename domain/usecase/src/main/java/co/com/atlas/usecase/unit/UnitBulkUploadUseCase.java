@@ -10,8 +10,9 @@ import co.com.atlas.model.invitation.Invitation;
 import co.com.atlas.model.invitation.InvitationStatus;
 import co.com.atlas.model.invitation.InvitationType;
 import co.com.atlas.model.invitation.gateways.InvitationAuditRepository;
-import co.com.atlas.model.invitation.gateways.InvitationRepository;
-import co.com.atlas.model.notification.gateways.NotificationGateway;
+import co.com.atlas.model.notification.EmailTemplate;
+import co.com.atlas.model.notification.OutboundEmail;
+import co.com.atlas.model.notification.gateways.EmailOutboxRepository;
 import co.com.atlas.model.common.NotFoundException;
 import co.com.atlas.model.organization.gateways.OrganizationRepository;
 import co.com.atlas.model.role.gateways.RoleRepository;
@@ -35,6 +36,7 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -53,12 +55,11 @@ public class UnitBulkUploadUseCase {
     private final UnitRepository unitRepository;
     private final OrganizationRepository organizationRepository;
     private final AuthUserRepository authUserRepository;
-    private final InvitationRepository invitationRepository;
     private final InvitationAuditRepository invitationAuditRepository;
     private final UserOrganizationRepository userOrganizationRepository;
     private final UserUnitRepository userUnitRepository;
     private final RoleRepository roleRepository;
-    private final NotificationGateway notificationGateway;
+    private final EmailOutboxRepository emailOutboxRepository;
     private final String frontendUrl;
     
     private static final int DEFAULT_EXPIRATION_DAYS = 7;
@@ -406,7 +407,8 @@ public class UnitBulkUploadUseCase {
     }
     
     /**
-     * Crea y envía invitación de propietario.
+     * Crea la invitación de propietario y encola su correo en el outbox, en la misma transacción.
+     * El envío lo hace el despachador del outbox, de modo que la carga no espera al servidor SMTP.
      */
     private Mono<Void> createAndSendOwnerInvitation(
             AuthUser user, Long organizationId, Long unitId, Long createdBy) {
@@ -431,50 +433,20 @@ public class UnitBulkUploadUseCase {
                     .retryCount(0)
                     .build();
                 
-                return invitationRepository.save(invitation)
-                    .flatMap(savedInvitation -> {
-                        return invitationAuditRepository.logAction(
-                            savedInvitation.getId(),
-                            InvitationAuditRepository.ACTION_CREATED,
-                            createdBy
-                        ).then(Mono.just(savedInvitation));
-                    })
-                    .flatMap(this::sendOwnerInvitationEmail)
-                    .then();
-            });
-    }
-    
-    /**
-     * Envía email de invitación.
-     */
-    private Mono<Invitation> sendOwnerInvitationEmail(Invitation invitation) {
-        String activationUrl = frontendUrl + "/owner/activate?token=" + invitation.getInvitationToken();
-        
-        return notificationGateway.sendOwnerInvitationEmail(
-                invitation.getEmail(),
-                invitation.getInvitationToken(),
-                activationUrl,
-                invitation
-            )
-            .flatMap(v -> invitationRepository.updateMailStatus(
-                invitation.getId(), "SENT", Instant.now()
-            ))
-            .then(invitationAuditRepository.logAction(
-                invitation.getId(),
-                InvitationAuditRepository.ACTION_SENT,
-                null
-            ))
-            .thenReturn(invitation)
-            .onErrorResume(e -> {
-                LOGGER.log(System.Logger.Level.ERROR, 
-                    "Error enviando email de invitación: {0}", e.getMessage());
-                return invitationRepository.updateMailStatus(invitation.getId(), "FAILED", null)
-                    .then(invitationAuditRepository.logAction(
-                        invitation.getId(),
-                        InvitationAuditRepository.ACTION_FAILED,
-                        null
-                    ))
-                    .thenReturn(invitation);
+                OutboundEmail email = OutboundEmail.builder()
+                    .template(EmailTemplate.OWNER_INVITATION)
+                    .recipient(user.getEmail())
+                    .params(Map.of(
+                        "token", token,
+                        "activationUrl", frontendUrl + "/owner/activate?token=" + token))
+                    .build();
+                
+                return emailOutboxRepository.saveInvitationWithEmail(invitation, email)
+                    .flatMap(savedInvitation -> invitationAuditRepository.logAction(
+                        savedInvitation.getId(),
+                        InvitationAuditRepository.ACTION_CREATED,
+                        createdBy
+                    ));
             });
     }
 }
@@ -12,8 +12,9 @@ import co.com.atlas.model.invitation.Invitation;
 import co.com.atlas.model.invitation.InvitationStatus;
 import co.com.atlas.model.invitation.InvitationType;
 import co.com.atlas.model.invitation.gateways.InvitationAuditRepository;
-import co.com.atlas.model.invitation.gateways.InvitationRepository;
-import co.com.atlas.model.notification.gateways.NotificationGateway;
+import co.com.atlas.model.notification.EmailTemplate;
+import co.com.atlas.model.notification.OutboundEmail;
+import co.com.atlas.model.notification.gateways.EmailOutboxRepository;
 import co.com.atlas.model.organization.OrganizationConfiguration;
 import co.com.atlas.model.organization.gateways.OrganizationConfigurationRepository;
 import co.com.atlas.model.organization.gateways.OrganizationRepository;
@@ -40,6 +41,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -63,12 +65,11 @@ public class UnitDistributionUseCase {
     private final OrganizationRepository organizationRepository;
     private final OrganizationConfigurationRepository organizationConfigurationRepository;
     private final AuthUserRepository authUserRepository;
-    private final InvitationRepository invitationRepository;
     private final InvitationAuditRepository invitationAuditRepository;
     private final UserOrganizationRepository userOrganizationRepository;
     private final UserUnitRepository userUnitRepository;
     private final RoleRepository roleRepository;
-    private final NotificationGateway notificationGateway;
+    private final EmailOutboxRepository emailOutboxRepository;
     private final String frontendUrl;
     
     private static final int DEFAULT_EXPIRATION_DAYS = 7;
@@ -386,7 +387,16 @@ public class UnitDistributionUseCase {
             .retryCount(0)
             .build();
         
-        return invitationRepository.save(invitation)
+        // El correo se encola junto con la invitación; lo envía el despachador del outbox
+        OutboundEmail ownerEmail = OutboundEmail.builder()
+            .template(EmailTemplate.OWNER_INVITATION)
+            .recipient(email)
+            .params(Map.of(
+                "token", token,
+                "activationUrl", frontendUrl + "/owner/activate/" + token))
+            .build();
+        
+        return emailOutboxRepository.saveInvitationWithEmail(invitation, ownerEmail)
             .flatMap(savedInvitation -> {
                 // Registrar en auditoría
                 return invitationAuditRepository.logAction(
@@ -394,45 +404,6 @@ public class UnitDistributionUseCase {
                     InvitationAuditRepository.ACTION_CREATED, 
                     createdBy
                 ).then(Mono.just(savedInvitation));
-            })
-            .flatMap(savedInvitation -> {
-                // Enviar email
-                return sendOwnerInvitationEmail(savedInvitation)
-                    .then(Mono.just(savedInvitation));
-            });
-    }
-    
-    /**
-     * Envía email de invitación al propietario.
-     */
-    private Mono<Void> sendOwnerInvitationEmail(Invitation invitation) {
-        String activationUrl = frontendUrl + "/owner/activate/" + invitation.getInvitationToken();
-        
-        return notificationGateway.sendOwnerInvitationEmail(
-                invitation.getEmail(),
-                invitation.getInvitationToken(),
-                activationUrl,
-                invitation
-            )
-            .flatMap(v -> invitationRepository.updateMailStatus(
-                invitation.getId(), "SENT", Instant.now()
-            ))
-            .then(invitationAuditRepository.logAction(
-                invitation.getId(), 
-                InvitationAuditRepository.ACTION_SENT, 
-                null
-            ))
-            .doOnError(e -> {
-                LOGGER.log(System.Logger.Level.ERROR, 
-                    "Error enviando email de invitación: {0}", e.getMessage());
-                // Marcar como fallido
-                invitationRepository.updateMailStatus(invitation.getId(), "FAILED", null)
-                    .then(invitationAuditRepository.logAction(
-                        invitation.getId(), 
-                        InvitationAuditRepository.ACTION_FAILED, 
-                        null
-                    ))
-                    .subscribe();
             });
     }
 }
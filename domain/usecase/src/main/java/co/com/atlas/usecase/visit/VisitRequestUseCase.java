@@ -14,6 +14,7 @@ import co.com.atlas.model.visit.VisitRequest;
 import co.com.atlas.model.visit.VisitStatus;
 import co.com.atlas.model.visit.gateways.VisitApprovalRepository;
 import co.com.atlas.model.visit.gateways.VisitRequestRepository;
+import co.com.atlas.usecase.access.ActiveAccessCodeIndex;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -35,6 +36,7 @@ public class VisitRequestUseCase {
     private final AccessCodeRepository accessCodeRepository;
     private final UnitRepository unitRepository;
     private final UserUnitRepository userUnitRepository;
+    private final ActiveAccessCodeIndex activeCodeIndex;
     
     /**
      * Crea una nueva solicitud de visita.
@@ -176,7 +178,10 @@ public class VisitRequestUseCase {
                                 .next()
                                 .flatMap(code -> {
                                     AccessCode revoked = code.toBuilder().status(AccessCodeStatus.REVOKED).build();
-                                    return accessCodeRepository.save(revoked).then();
+                                    return accessCodeRepository.save(revoked)
+                                            .doOnSuccess(saved -> activeCodeIndex.remove(
+                                                    request.getOrganizationId(), code.getCodeHash()))
+                                            .then();
                                 });
                     }
                     
@@ -234,18 +239,22 @@ public class VisitRequestUseCase {
         String rawCode = UUID.randomUUID().toString();
         String codeHash = hashCode(rawCode);
         
+        // max_entries y la ventana de validez se copian para que el escaneo no consulte la visita
         AccessCode code = AccessCode.builder()
                 .visitRequestId(request.getId())
+                .organizationId(request.getOrganizationId())
                 .codeHash(codeHash)
                 .rawCode(rawCode)
                 .codeType(CodeType.QR)
                 .status(AccessCodeStatus.ACTIVE)
                 .entriesUsed(0)
+                .maxEntries(request.getMaxEntries())
                 .validFrom(request.getValidFrom())
                 .validUntil(request.getValidUntil())
                 .build();
         
-        return accessCodeRepository.save(code);
+        return accessCodeRepository.save(code)
+                .doOnSuccess(saved -> activeCodeIndex.add(request.getOrganizationId(), codeHash));
     }
     
     private String hashCode(String code) {
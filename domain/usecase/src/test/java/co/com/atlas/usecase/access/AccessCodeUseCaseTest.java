@@ -0,0 +1,173 @@
+package co.com.atlas.usecase.access;
+
+import co.com.atlas.model.access.AccessCode;
+import co.com.atlas.model.access.AccessCodeStatus;
+import co.com.atlas.model.access.AccessScanLog;
+import co.com.atlas.model.access.ScanResult;
+import co.com.atlas.model.access.gateways.AccessCodeRepository;
+import co.com.atlas.model.access.gateways.AccessScanLogRepository;
+import co.com.atlas.model.common.NotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccessCodeUseCaseTest {
+
+    @Mock private AccessCodeRepository accessCodeRepository;
+    @Mock private AccessScanLogRepository accessScanLogRepository;
+
+    private AccessCodeUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new AccessCodeUseCase(accessCodeRepository, accessScanLogRepository,
+                new ActiveAccessCodeIndex(false, Duration.ofMinutes(5)));
+    }
+
+    private AccessCode activeCode() {
+        return AccessCode.builder()
+                .id(7L)
+                .visitRequestId(3L)
+                .organizationId(1L)
+                .codeHash(hash("ABC123"))
+                .status(AccessCodeStatus.ACTIVE)
+                .entriesUsed(1)
+                .validFrom(Instant.now().minusSeconds(3600))
+                .validUntil(Instant.now().plusSeconds(3600))
+                .build();
+    }
+
+    private void stubScanLogSave() {
+        when(accessScanLogRepository.save(any(AccessScanLog.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+    }
+
+    @Test
+    void shouldRegisterEntryAtomicallyAndReportExhaustedCode() {
+        AccessCode code = activeCode();
+        when(accessCodeRepository.registerEntry(eq(code.getCodeHash()), any(Instant.class)))
+                .thenReturn(Mono.just(code.toBuilder().status(AccessCodeStatus.USED).build()));
+        stubScanLogSave();
+
+        StepVerifier.create(useCase.validateCode("ABC123", 1L, 5L, "Portería", "gate-1"))
+                .assertNext(log -> {
+                    assertThat(log.getScanResult()).isEqualTo(ScanResult.VALID);
+                    assertThat(log.getNotes()).isEqualTo("Entrada válida - código agotado");
+                })
+                .verifyComplete();
+        verify(accessCodeRepository, never()).findByCodeHash(anyString());
+        verify(accessCodeRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldReportAlreadyUsedWhenConcurrentScanTookTheLastEntry() {
+        AccessCode code = activeCode();
+        when(accessCodeRepository.registerEntry(eq(code.getCodeHash()), any(Instant.class))).thenReturn(Mono.empty());
+        when(accessCodeRepository.findByCodeHash(code.getCodeHash())).thenReturn(Mono.just(code));
+        stubScanLogSave();
+
+        StepVerifier.create(useCase.validateCode("ABC123", 1L, 5L, "Portería", "gate-2"))
+                .assertNext(log -> assertThat(log.getScanResult()).isEqualTo(ScanResult.ALREADY_USED))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldNotTouchCounterForRevokedCode() {
+        AccessCode code = activeCode().toBuilder().status(AccessCodeStatus.REVOKED).build();
+        when(accessCodeRepository.registerEntry(eq(code.getCodeHash()), any(Instant.class))).thenReturn(Mono.empty());
+        when(accessCodeRepository.findByCodeHash(code.getCodeHash())).thenReturn(Mono.just(code));
+        stubScanLogSave();
+
+        StepVerifier.create(useCase.validateCode("ABC123", 1L, 5L, "Portería", "gate-1"))
+                .assertNext(log -> assertThat(log.getScanResult()).isEqualTo(ScanResult.REVOKED))
+                .verifyComplete();
+        verify(accessCodeRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldLogInvalidScanForUnknownCode() {
+        when(accessCodeRepository.registerEntry(anyString(), any(Instant.class))).thenReturn(Mono.empty());
+        when(accessCodeRepository.findByCodeHash(anyString())).thenReturn(Mono.empty());
+        stubScanLogSave();
+
+        StepVerifier.create(useCase.validateCode("UNKNOWN", 1L, 5L, "Portería", "gate-1"))
+                .expectError(NotFoundException.class)
+                .verify();
+        verify(accessScanLogRepository).save(any(AccessScanLog.class));
+    }
+
+    @Test
+    void shouldRejectUnknownCodeFromIndexWithoutLookingItUp() {
+        ActiveAccessCodeIndex index = new ActiveAccessCodeIndex(true, Duration.ofMinutes(5));
+        useCase = new AccessCodeUseCase(accessCodeRepository, accessScanLogRepository, index);
+        when(accessCodeRepository.findActiveCodeHashesByOrganizationId(1L))
+                .thenReturn(Flux.just(hash("ABC123")));
+
+        StepVerifier.create(useCase.validateCode("UNKNOWN", 1L, 5L, "Portería", "gate-1"))
+                .expectError(NotFoundException.class)
+                .verify();
+        StepVerifier.create(useCase.validateCode("OTHER", 1L, 5L, "Portería", "gate-1"))
+                .expectError(NotFoundException.class)
+                .verify();
+
+        verify(accessCodeRepository, times(1)).findActiveCodeHashesByOrganizationId(1L);
+        verify(accessCodeRepository, never()).registerEntry(anyString(), any());
+        verify(accessScanLogRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldDropExhaustedCodeFromIndex() {
+        ActiveAccessCodeIndex index = new ActiveAccessCodeIndex(true, Duration.ofMinutes(5));
+        index.load(1L, List.of(hash("ABC123")), index.epoch(1L));
+        useCase = new AccessCodeUseCase(accessCodeRepository, accessScanLogRepository, index);
+        AccessCode code = activeCode();
+        when(accessCodeRepository.registerEntry(eq(hash("ABC123")), any(Instant.class)))
+                .thenReturn(Mono.just(code.toBuilder().status(AccessCodeStatus.USED).build()));
+        stubScanLogSave();
+
+        StepVerifier.create(useCase.validateCode("ABC123", 1L, 5L, "Portería", "gate-1"))
+                .assertNext(log -> assertThat(log.getScanResult()).isEqualTo(ScanResult.VALID))
+                .verifyComplete();
+        assertThat(index.contains(1L, hash("ABC123"))).isFalse();
+    }
+
+    @Test
+    void shouldDiscardIndexLoadThatRacedWithAMutation() {
+        ActiveAccessCodeIndex index = new ActiveAccessCodeIndex(true, Duration.ofMinutes(5));
+        long epoch = index.epoch(1L);
+        index.add(1L, "approved-during-load");
+
+        assertThat(index.load(1L, List.of("stale"), epoch)).isFalse();
+        assertThat(index.contains(1L, "stale")).isNull();
+        assertThat(index.load(1L, List.of("approved-during-load"), index.epoch(1L))).isTrue();
+        assertThat(index.contains(1L, "approved-during-load")).isTrue();
+    }
+
+    private static String hash(String rawCode) {
+        try {
+            return java.util.Base64.getEncoder().encodeToString(
+                    java.security.MessageDigest.getInstance("SHA-256").digest(rawCode.getBytes()));
+        } catch (java.security.NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package co.com.atlas.usecase.access;
+
+import co.com.atlas.model.access.AccessAction;
+import co.com.atlas.model.access.AccessStatsBucket;
+import co.com.atlas.model.access.AccessStatsGranularity;
+import co.com.atlas.model.access.ScanResult;
+import co.com.atlas.model.access.gateways.AccessEventRollupRepository;
+import co.com.atlas.model.common.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetAccessStatsUseCaseTest {
+
+    @Mock private AccessEventRollupRepository accessEventRollupRepository;
+
+    private GetAccessStatsUseCase useCase;
+    private static final Long ORG_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetAccessStatsUseCase(accessEventRollupRepository);
+    }
+
+    @Test
+    void shouldAlignFromToBucketStartAndReturnRollups() {
+        Instant from = Instant.parse("2026-03-01T10:25:00Z");
+        Instant to = Instant.parse("2026-03-01T13:00:00Z");
+        Instant alignedFrom = Instant.parse("2026-03-01T10:00:00Z");
+        AccessStatsBucket bucket = new AccessStatsBucket(alignedFrom, "gate-1", AccessAction.ENTRY, ScanResult.VALID, 42);
+        when(accessEventRollupRepository.findBuckets(ORG_ID, AccessStatsGranularity.HOUR, alignedFrom, to, null))
+                .thenReturn(Flux.just(bucket));
+
+        StepVerifier.create(useCase.execute(ORG_ID, null, from, to, null))
+                .assertNext(stats -> {
+                    assertThat(stats.granularity()).isEqualTo(AccessStatsGranularity.HOUR);
+                    assertThat(stats.from()).isEqualTo(alignedFrom);
+                    assertThat(stats.buckets()).containsExactly(bucket);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldAlignDailyRangesToUtcMidnight() {
+        Instant to = Instant.parse("2026-03-10T00:00:00Z");
+        Instant alignedFrom = Instant.parse("2026-03-01T00:00:00Z");
+        when(accessEventRollupRepository.findBuckets(ORG_ID, AccessStatsGranularity.DAY, alignedFrom, to, "gate-2"))
+                .thenReturn(Flux.empty());
+
+        StepVerifier.create(useCase.execute(ORG_ID, AccessStatsGranularity.DAY,
+                        Instant.parse("2026-03-01T15:00:00Z"), to, "gate-2"))
+                .assertNext(stats -> assertThat(stats.buckets()).isEmpty())
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldRejectRangesAboveTheGranularityLimit() {
+        StepVerifier.create(useCase.execute(ORG_ID, AccessStatsGranularity.HOUR,
+                        Instant.parse("2026-01-01T00:00:00Z"), Instant.parse("2026-03-01T00:00:00Z"), null))
+                .expectErrorSatisfies(error -> {
+                    assertThat(error).isInstanceOf(BusinessException.class);
+                    assertThat(((BusinessException) error).getErrorCode()).isEqualTo("INVALID_RANGE");
+                })
+                .verify();
+        verifyNoInteractions(accessEventRollupRepository);
+    }
+}
@@ -0,0 +1,95 @@
+package co.com.atlas.usecase.access;
+
+import co.com.atlas.model.authorization.RevocationEntry;
+import co.com.atlas.model.authorization.gateways.VisitorAuthorizationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetRevocationFilterUseCaseTest {
+
+    @Mock private VisitorAuthorizationRepository visitorAuthorizationRepository;
+
+    private RevocationFilterIndex index;
+    private GetRevocationFilterUseCase useCase;
+    private static final Long ORG_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        index = new RevocationFilterIndex(0.01, 64);
+        useCase = new GetRevocationFilterUseCase(visitorAuthorizationRepository, index);
+    }
+
+    @Test
+    void shouldBuildFilterFromRevocationLog() {
+        Instant now = Instant.now();
+        when(visitorAuthorizationRepository.findRevocationsAfter(eq(ORG_ID), eq(0L), anyInt()))
+                .thenReturn(Flux.just(new RevocationEntry(1L, 100L, now), new RevocationEntry(2L, 200L, now)));
+
+        StepVerifier.create(useCase.execute(ORG_ID))
+                .assertNext(filter -> {
+                    assertThat(filter.version()).isEqualTo(2L);
+                    assertThat(filter.count()).isEqualTo(2);
+                    assertThat(filter.bits()).hasSize((int) (filter.numBits() / 8));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldOnlyFetchRevocationsAfterCurrentVersion() {
+        Instant now = Instant.now();
+        when(visitorAuthorizationRepository.findRevocationsAfter(eq(ORG_ID), eq(0L), anyInt()))
+                .thenReturn(Flux.just(new RevocationEntry(5L, 100L, now)));
+        when(visitorAuthorizationRepository.findRevocationsAfter(eq(ORG_ID), eq(5L), anyInt()))
+                .thenReturn(Flux.just(new RevocationEntry(6L, 101L, now)));
+
+        StepVerifier.create(useCase.execute(ORG_ID)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(useCase.execute(ORG_ID))
+                .assertNext(filter -> {
+                    assertThat(filter.version()).isEqualTo(6L);
+                    assertThat(filter.count()).isEqualTo(2);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldRebuildWithLargerCapacityWhenFull() {
+        Instant now = Instant.now();
+        RevocationEntry[] entries = LongStream.rangeClosed(1, 100)
+                .mapToObj(v -> new RevocationEntry(v, 1000 + v, now))
+                .toArray(RevocationEntry[]::new);
+        when(visitorAuthorizationRepository.findRevocationsAfter(eq(ORG_ID), eq(0L), anyInt()))
+                .thenAnswer(invocation -> Flux.just(entries));
+
+        StepVerifier.create(useCase.execute(ORG_ID))
+                .assertNext(filter -> {
+                    assertThat(filter.version()).isEqualTo(100L);
+                    assertThat(filter.count()).isEqualTo(100);
+                    assertThat(filter.falsePositiveRate()).isLessThan(0.02);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void bloomFilterShouldContainInsertedIdsWithBoundedFalsePositives() {
+        RevocationBloomFilter filter = RevocationBloomFilter.create(10_000, 0.01);
+        LongStream.range(0, 10_000).forEach(filter::put);
+
+        assertThat(LongStream.range(0, 10_000).allMatch(filter::mightContain)).isTrue();
+        long falsePositives = LongStream.range(1_000_000, 1_100_000).filter(filter::mightContain).count();
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+}
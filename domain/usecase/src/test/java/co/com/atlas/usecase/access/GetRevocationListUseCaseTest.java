@@ -1,7 +1,6 @@
 package co.com.atlas.usecase.access;
 
-import co.com.atlas.model.authorization.AuthorizationStatus;
-import co.com.atlas.model.authorization.VisitorAuthorization;
+import co.com.atlas.model.authorization.RevocationEntry;
 import co.com.atlas.model.authorization.gateways.VisitorAuthorizationRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +11,7 @@ import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
 import java.time.Instant;
+import java.util.List;
 
 import static org.mockito.Mockito.when;
 
@@ -30,10 +30,8 @@ class GetRevocationListUseCaseTest {
 
     @Test
     void shouldReturnEmptyWhenNoRevocations() {
-        when(visitorAuthorizationRepository.findByOrganizationId(ORG_ID))
-                .thenReturn(Flux.just(
-                        VisitorAuthorization.builder().id(1L).status(AuthorizationStatus.ACTIVE).build()
-                ));
+        when(visitorAuthorizationRepository.findRevokedIdsSince(ORG_ID, null))
+                .thenReturn(Flux.empty());
 
         StepVerifier.create(useCase.execute(ORG_ID, null))
                 .verifyComplete();
@@ -41,13 +39,8 @@ class GetRevocationListUseCaseTest {
 
     @Test
     void shouldReturnRevokedAuthorizationIds() {
-        Instant now = Instant.now();
-        when(visitorAuthorizationRepository.findByOrganizationId(ORG_ID))
-                .thenReturn(Flux.just(
-                        VisitorAuthorization.builder().id(1L).status(AuthorizationStatus.REVOKED).revokedAt(now).build(),
-                        VisitorAuthorization.builder().id(2L).status(AuthorizationStatus.ACTIVE).build(),
-                        VisitorAuthorization.builder().id(3L).status(AuthorizationStatus.REVOKED).revokedAt(now).build()
-                ));
+        when(visitorAuthorizationRepository.findRevokedIdsSince(ORG_ID, null))
+                .thenReturn(Flux.just(1L, 3L));
 
         StepVerifier.create(useCase.execute(ORG_ID, null))
                 .expectNext(1L)
@@ -56,20 +49,57 @@ class GetRevocationListUseCaseTest {
     }
 
     @Test
-    void shouldFilterBySinceTimestamp() {
-        Instant hourAgo = Instant.now().minusSeconds(3600);
-        Instant dayAgo = Instant.now().minusSeconds(86400);
+    void shouldDelegateSinceTimestampToRepository() {
         Instant since = Instant.now().minusSeconds(7200);
-
-        when(visitorAuthorizationRepository.findByOrganizationId(ORG_ID))
-                .thenReturn(Flux.just(
-                        VisitorAuthorization.builder().id(1L).status(AuthorizationStatus.REVOKED).revokedAt(hourAgo).build(),
-                        VisitorAuthorization.builder().id(2L).status(AuthorizationStatus.REVOKED).revokedAt(dayAgo).build()
-                ));
+        when(visitorAuthorizationRepository.findRevokedIdsSince(ORG_ID, since))
+                .thenReturn(Flux.just(1L));
 
         StepVerifier.create(useCase.execute(ORG_ID, since))
                 .expectNext(1L)
-                .expectNext(2L)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnDeltaWithNextCursor() {
+        Instant now = Instant.now();
+        when(visitorAuthorizationRepository.findRevocationsAfter(ORG_ID, 10L, 3))
+                .thenReturn(Flux.just(
+                        new RevocationEntry(11L, 100L, now),
+                        new RevocationEntry(14L, 101L, now)));
+
+        StepVerifier.create(useCase.getDelta(ORG_ID, 10L, 2))
+                .expectNextMatches(delta -> delta.revokedIds().equals(List.of(100L, 101L))
+                        && delta.nextCursor() == 14L
+                        && !delta.hasMore())
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldFlagHasMoreWhenPageIsFull() {
+        Instant now = Instant.now();
+        when(visitorAuthorizationRepository.findRevocationsAfter(ORG_ID, 0L, 3))
+                .thenReturn(Flux.just(
+                        new RevocationEntry(1L, 100L, now),
+                        new RevocationEntry(2L, 101L, now),
+                        new RevocationEntry(3L, 102L, now)));
+
+        StepVerifier.create(useCase.getDelta(ORG_ID, null, 2))
+                .expectNextMatches(delta -> delta.revokedIds().equals(List.of(100L, 101L))
+                        && delta.nextCursor() == 2L
+                        && delta.hasMore())
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldKeepCursorWhenNoNewRevocations() {
+        when(visitorAuthorizationRepository.findRevocationsAfter(
+                ORG_ID, 42L, GetRevocationListUseCase.DEFAULT_LIMIT + 1))
+                .thenReturn(Flux.empty());
+
+        StepVerifier.create(useCase.getDelta(ORG_ID, 42L, null))
+                .expectNextMatches(delta -> delta.revokedIds().isEmpty()
+                        && delta.nextCursor() == 42L
+                        && !delta.hasMore())
                 .verifyComplete();
     }
 }
@@ -0,0 +1,70 @@
+package co.com.atlas.usecase.access;
+
+import co.com.atlas.model.authorization.RevocationEntry;
+import co.com.atlas.model.authorization.gateways.VisitorAuthorizationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StreamRevocationsUseCaseTest {
+
+    @Mock private VisitorAuthorizationRepository visitorAuthorizationRepository;
+
+    private RevocationBroadcaster broadcaster;
+    private StreamRevocationsUseCase useCase;
+    private static final Long ORG_ID = 1L;
+    private static final Instant NOW = Instant.now();
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new RevocationBroadcaster();
+        useCase = new StreamRevocationsUseCase(visitorAuthorizationRepository, broadcaster, 4);
+    }
+
+    @Test
+    void shouldEmitBacklogThenLiveRevocations() {
+        when(visitorAuthorizationRepository.findRevocationsAfter(eq(ORG_ID), eq(5L), anyInt()))
+                .thenReturn(Flux.just(new RevocationEntry(6L, 100L, NOW)));
+
+        StepVerifier.create(useCase.execute(ORG_ID, 5L))
+                .expectNextMatches(entry -> entry.version() == 6L)
+                .then(() -> {
+                    broadcaster.publish(ORG_ID, new RevocationEntry(6L, 100L, NOW));
+                    broadcaster.publish(ORG_ID, new RevocationEntry(7L, 101L, NOW));
+                    broadcaster.publish(2L, new RevocationEntry(8L, 200L, NOW));
+                })
+                .expectNextMatches(entry -> entry.version() == 7L && entry.authorizationId() == 101L)
+                .thenCancel()
+                .verify();
+
+        assertThat(broadcaster.subscriberCount(ORG_ID)).isZero();
+    }
+
+    @Test
+    void shouldTerminateSlowSubscriberWhenBufferOverflows() {
+        when(visitorAuthorizationRepository.findRevocationsAfter(eq(ORG_ID), eq(0L), anyInt()))
+                .thenReturn(Flux.empty());
+
+        StepVerifier.create(useCase.execute(ORG_ID, null), 0)
+                .then(() -> {
+                    for (long v = 1; v <= 10; v++) {
+                        broadcaster.publish(ORG_ID, new RevocationEntry(v, v, NOW));
+                    }
+                })
+                .expectErrorMatches(Exceptions::isOverflow)
+                .verify();
+    }
+}
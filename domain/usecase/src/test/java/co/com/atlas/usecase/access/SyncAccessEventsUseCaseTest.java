@@ -28,7 +28,7 @@ class SyncAccessEventsUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        useCase = new SyncAccessEventsUseCase(accessEventRepository);
+        useCase = new SyncAccessEventsUseCase(accessEventRepository, 2);
     }
 
     @Test
@@ -66,4 +66,24 @@ class SyncAccessEventsUseCaseTest {
                 .assertNext(event -> assertThat(event.getSyncedAt()).isNotNull())
                 .verifyComplete();
     }
+
+    @Test
+    void shouldPersistStreamInBoundedWindows() {
+        Flux<AccessEvent> events = Flux.range(0, 5)
+                .map(i -> AccessEvent.builder().clientEventId("uuid-" + i).organizationId(1L)
+                        .porterUserId(10L).scanResult(ScanResult.VALID).scannedAt(Instant.now()).build());
+        List<Integer> windowSizes = new java.util.ArrayList<>();
+
+        when(accessEventRepository.saveBatch(anyList()))
+                .thenAnswer(inv -> {
+                    List<AccessEvent> window = inv.getArgument(0);
+                    windowSizes.add(window.size());
+                    return Flux.fromIterable(window);
+                });
+
+        StepVerifier.create(useCase.sync(events))
+                .expectNextCount(5)
+                .verifyComplete();
+        assertThat(windowSizes).containsExactly(2, 2, 1);
+    }
 }
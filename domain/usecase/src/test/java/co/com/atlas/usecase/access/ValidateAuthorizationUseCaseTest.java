@@ -18,12 +18,20 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Base64;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +41,7 @@ class ValidateAuthorizationUseCaseTest {
     @Mock private VisitorAuthorizationRepository visitorAuthorizationRepository;
     @Mock private AccessEventRepository accessEventRepository;
 
+    private VerificationKeyCache verificationKeyCache;
     private ValidateAuthorizationUseCase useCase;
 
     private static final Long ORG_ID = 1L;
@@ -41,8 +50,9 @@ class ValidateAuthorizationUseCaseTest {
 
     @BeforeEach
     void setUp() {
+        verificationKeyCache = new VerificationKeyCache(16, Duration.ofMinutes(10));
         useCase = new ValidateAuthorizationUseCase(
-                cryptoKeyRepository, visitorAuthorizationRepository, accessEventRepository);
+                cryptoKeyRepository, visitorAuthorizationRepository, accessEventRepository, verificationKeyCache);
     }
 
     @Test
@@ -83,7 +93,7 @@ class ValidateAuthorizationUseCaseTest {
                 .isActive(true).build();
 
         when(cryptoKeyRepository.findActiveByOrganizationId(ORG_ID)).thenReturn(Mono.just(cryptoKey));
-        when(accessEventRepository.save(any(AccessEvent.class)))
+        when(accessEventRepository.recordScan(any(AccessEvent.class)))
                 .thenAnswer(inv -> Mono.just(((AccessEvent) inv.getArgument(0)).toBuilder().id(1L).build()));
 
         StepVerifier.create(useCase.execute(signedQr, PORTER_ID, DEVICE_ID, ORG_ID))
@@ -107,7 +117,7 @@ class ValidateAuthorizationUseCaseTest {
                 .isActive(true).build();
 
         when(cryptoKeyRepository.findActiveByOrganizationId(ORG_ID)).thenReturn(Mono.just(cryptoKey));
-        when(accessEventRepository.save(any(AccessEvent.class)))
+        when(accessEventRepository.recordScan(any(AccessEvent.class)))
                 .thenAnswer(inv -> Mono.just(((AccessEvent) inv.getArgument(0)).toBuilder().id(1L).build()));
 
         StepVerifier.create(useCase.execute(signedQr, PORTER_ID, DEVICE_ID, ORG_ID))
@@ -117,6 +127,99 @@ class ValidateAuthorizationUseCaseTest {
                 .verifyComplete();
     }
 
+    @Test
+    void shouldReuseCachedVerificationKeyAcrossScans() throws Exception {
+        KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        OrganizationCryptoKey cryptoKey = buildCryptoKey(keyPair, "kid-1");
+        String signedQr = buildSignedQr(keyPair, 1L, "kid-1");
+
+        when(cryptoKeyRepository.findActiveByOrganizationId(ORG_ID)).thenReturn(Mono.just(cryptoKey));
+        when(visitorAuthorizationRepository.findById(1L)).thenReturn(Mono.just(
+                VisitorAuthorization.builder().id(1L).status(AuthorizationStatus.ACTIVE).build()));
+        when(accessEventRepository.recordScan(any(AccessEvent.class)))
+                .thenAnswer(inv -> Mono.just(((AccessEvent) inv.getArgument(0)).toBuilder().id(1L).build()));
+
+        StepVerifier.create(useCase.execute(signedQr, PORTER_ID, DEVICE_ID, ORG_ID))
+                .assertNext(event -> assertThat(event.getScanResult()).isEqualTo(ScanResult.VALID))
+                .verifyComplete();
+        StepVerifier.create(useCase.execute(signedQr, PORTER_ID, DEVICE_ID, ORG_ID))
+                .assertNext(event -> assertThat(event.getScanResult()).isEqualTo(ScanResult.VALID))
+                .verifyComplete();
+
+        verify(cryptoKeyRepository, times(1)).findActiveByOrganizationId(ORG_ID);
+    }
+
+    @Test
+    void shouldReloadKeyAfterInvalidation() throws Exception {
+        KeyPair oldPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        KeyPair newPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        String oldQr = buildSignedQr(oldPair, 1L, "kid-old");
+
+        when(cryptoKeyRepository.findActiveByOrganizationId(ORG_ID))
+                .thenReturn(Mono.just(buildCryptoKey(oldPair, "kid-old")))
+                .thenReturn(Mono.just(buildCryptoKey(newPair, "kid-new")));
+        when(visitorAuthorizationRepository.findById(1L)).thenReturn(Mono.just(
+                VisitorAuthorization.builder().id(1L).status(AuthorizationStatus.ACTIVE).build()));
+        when(accessEventRepository.recordScan(any(AccessEvent.class)))
+                .thenAnswer(inv -> Mono.just(((AccessEvent) inv.getArgument(0)).toBuilder().id(1L).build()));
+
+        StepVerifier.create(useCase.execute(oldQr, PORTER_ID, DEVICE_ID, ORG_ID))
+                .assertNext(event -> assertThat(event.getScanResult()).isEqualTo(ScanResult.VALID))
+                .verifyComplete();
+
+        verificationKeyCache.invalidate(ORG_ID);
+
+        StepVerifier.create(useCase.execute(oldQr, PORTER_ID, DEVICE_ID, ORG_ID))
+                .assertNext(event -> assertThat(event.getScanResult()).isEqualTo(ScanResult.INVALID))
+                .verifyComplete();
+
+        verify(cryptoKeyRepository, times(2)).findActiveByOrganizationId(ORG_ID);
+    }
+
+    @Test
+    void shouldNotReloadKeyForRepeatedUnknownKid() throws Exception {
+        KeyPair activePair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        KeyPair retiredPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        String retiredQr = buildSignedQr(retiredPair, 1L, "kid-retired");
+
+        when(cryptoKeyRepository.findActiveByOrganizationId(ORG_ID))
+                .thenReturn(Mono.just(buildCryptoKey(activePair, "kid-active")));
+        when(accessEventRepository.recordScan(any(AccessEvent.class)))
+                .thenAnswer(inv -> Mono.just(((AccessEvent) inv.getArgument(0)).toBuilder().id(1L).build()));
+
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(useCase.execute(retiredQr, PORTER_ID, DEVICE_ID, ORG_ID))
+                    .assertNext(event -> assertThat(event.getScanResult()).isEqualTo(ScanResult.INVALID))
+                    .verifyComplete();
+        }
+
+        verify(cryptoKeyRepository, times(1)).findActiveByOrganizationId(ORG_ID);
+    }
+
+    private OrganizationCryptoKey buildCryptoKey(KeyPair keyPair, String keyId) {
+        byte[] encoded = keyPair.getPublic().getEncoded();
+        String x = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length));
+        return OrganizationCryptoKey.builder()
+                .id(1L).organizationId(ORG_ID).keyId(keyId)
+                .publicKeyJwk("{\"kty\":\"OKP\",\"crv\":\"Ed25519\",\"x\":\"" + x + "\"}")
+                .isActive(true).build();
+    }
+
+    private String buildSignedQr(KeyPair keyPair, Long authId, String keyId) throws Exception {
+        String from = Instant.now().minus(1, ChronoUnit.HOURS).toString();
+        String to = Instant.now().plus(1, ChronoUnit.HOURS).toString();
+        String json = String.format(
+                "{\"authId\":%d,\"orgId\":%d,\"personName\":\"Test User\",\"personDoc\":\"123456\",\"validFrom\":\"%s\",\"validTo\":\"%s\",\"kid\":\"%s\"}",
+                authId, ORG_ID, from, to, keyId);
+        String payload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(json.getBytes(StandardCharsets.UTF_8));
+        Signature signer = Signature.getInstance("Ed25519");
+        signer.initSign(keyPair.getPrivate());
+        signer.update(payload.getBytes(StandardCharsets.UTF_8));
+        return payload + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signer.sign());
+    }
+
     private String buildPayloadBase64(Long authId, String validFrom, String validTo) {
         String json = String.format(
                 "{\"authId\":%d,\"orgId\":%d,\"personName\":\"Test User\",\"personDoc\":\"123456\",\"validFrom\":\"%s\",\"validTo\":\"%s\"}",
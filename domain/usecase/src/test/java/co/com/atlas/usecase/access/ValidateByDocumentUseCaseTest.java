@@ -1,6 +1,8 @@
 package co.com.atlas.usecase.access;
 
 import co.com.atlas.model.access.AccessEvent;
+import co.com.atlas.model.access.AccessEventCursor;
+import co.com.atlas.model.access.AccessEventQuery;
 import co.com.atlas.model.access.ScanResult;
 import co.com.atlas.model.access.gateways.AccessEventRepository;
 import co.com.atlas.model.authorization.AuthorizationStatus;
@@ -10,6 +12,7 @@ import co.com.atlas.model.common.BusinessException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
@@ -21,6 +24,8 @@ import java.time.temporal.ChronoUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,7 +52,7 @@ class ValidateByDocumentUseCaseTest {
                 .validTo(now.plus(1, ChronoUnit.HOURS))
                 .build();
 
-        when(visitorAuthorizationRepository.findByOrganizationId(ORG_ID))
+        when(visitorAuthorizationRepository.findActiveByDocument(eq(ORG_ID), eq("123456"), any(Instant.class)))
                 .thenReturn(Flux.just(activeAuth));
 
         StepVerifier.create(useCase.findActiveByDocument("123456", ORG_ID))
@@ -59,37 +64,19 @@ class ValidateByDocumentUseCaseTest {
     }
 
     @Test
-    void shouldFilterOutRevokedAuthorizations() {
-        Instant now = Instant.now();
-        VisitorAuthorization revokedAuth = VisitorAuthorization.builder()
-                .id(1L).organizationId(ORG_ID).personDocument("123456")
-                .status(AuthorizationStatus.REVOKED)
-                .validFrom(now.minus(1, ChronoUnit.HOURS))
-                .validTo(now.plus(1, ChronoUnit.HOURS))
-                .build();
-
-        when(visitorAuthorizationRepository.findByOrganizationId(ORG_ID))
-                .thenReturn(Flux.just(revokedAuth));
+    void shouldQueryNormalizedDocumentWithClockSkewTolerance() {
+        when(visitorAuthorizationRepository.findActiveByDocument(eq(ORG_ID), eq("12345678"), any(Instant.class)))
+                .thenReturn(Flux.empty());
+        Instant before = Instant.now();
 
-        StepVerifier.create(useCase.findActiveByDocument("123456", ORG_ID))
+        StepVerifier.create(useCase.findActiveByDocument(" 1.234.567-8 ", ORG_ID))
                 .verifyComplete();
-    }
-
-    @Test
-    void shouldFilterOutExpiredAuthorizations() {
-        Instant now = Instant.now();
-        VisitorAuthorization expiredAuth = VisitorAuthorization.builder()
-                .id(1L).organizationId(ORG_ID).personDocument("123456")
-                .status(AuthorizationStatus.ACTIVE)
-                .validFrom(now.minus(3, ChronoUnit.HOURS))
-                .validTo(now.minus(2, ChronoUnit.HOURS))
-                .build();
-
-        when(visitorAuthorizationRepository.findByOrganizationId(ORG_ID))
-                .thenReturn(Flux.just(expiredAuth));
 
-        StepVerifier.create(useCase.findActiveByDocument("123456", ORG_ID))
-                .verifyComplete();
+        ArgumentCaptor<Instant> validToFrom = ArgumentCaptor.forClass(Instant.class);
+        verify(visitorAuthorizationRepository).findActiveByDocument(eq(ORG_ID), eq("12345678"), validToFrom.capture());
+        assertThat(validToFrom.getValue())
+                .isBeforeOrEqualTo(before.minus(9, ChronoUnit.MINUTES))
+                .isAfter(before.minus(11, ChronoUnit.MINUTES));
     }
 
     @Test
@@ -110,7 +97,7 @@ class ValidateByDocumentUseCaseTest {
                 .validTo(now.plus(36, ChronoUnit.HOURS))
                 .build();
 
-        when(visitorAuthorizationRepository.findByOrganizationId(ORG_ID))
+        when(visitorAuthorizationRepository.findActiveByDocument(eq(ORG_ID), eq("123456"), any(Instant.class)))
                 .thenReturn(Flux.just(upcomingAuth));
 
         StepVerifier.create(useCase.findActiveByDocument("123456", ORG_ID))
@@ -132,7 +119,7 @@ class ValidateByDocumentUseCaseTest {
                 .build();
 
         when(visitorAuthorizationRepository.findById(5L)).thenReturn(Mono.just(auth));
-        when(accessEventRepository.save(any(AccessEvent.class)))
+        when(accessEventRepository.recordScan(any(AccessEvent.class)))
                 .thenAnswer(inv -> Mono.just(((AccessEvent) inv.getArgument(0)).toBuilder().id(1L).build()));
 
         StepVerifier.create(useCase.validateAndRegister(5L, 10L, "device-001", ORG_ID))
@@ -143,4 +130,36 @@ class ValidateByDocumentUseCaseTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    void shouldReturnAccessEventPageWithNextCursor() {
+        Instant now = Instant.now();
+        when(accessEventRepository.findByOrganizationIdAndQuery(any(), any()))
+                .thenReturn(Flux.just(
+                        AccessEvent.builder().id(3L).scannedAt(now).build(),
+                        AccessEvent.builder().id(2L).scannedAt(now.minusSeconds(60)).build(),
+                        AccessEvent.builder().id(1L).scannedAt(now.minusSeconds(120)).build()));
+
+        StepVerifier.create(useCase.getAccessEventsPage(ORG_ID, AccessEventQuery.builder().limit(2).build()))
+                .assertNext(page -> {
+                    assertThat(page.events()).extracting(AccessEvent::getId).containsExactly(3L, 2L);
+                    AccessEventCursor cursor = AccessEventCursor.decode(page.nextCursor());
+                    assertThat(cursor.id()).isEqualTo(2L);
+                    assertThat(cursor.scannedAt()).isEqualTo(now.minusSeconds(60));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnLastAccessEventPageWithoutCursor() {
+        when(accessEventRepository.findByOrganizationIdAndQuery(any(), any()))
+                .thenReturn(Flux.just(AccessEvent.builder().id(1L).scannedAt(Instant.now()).build()));
+
+        StepVerifier.create(useCase.getAccessEventsPage(ORG_ID, AccessEventQuery.builder().build()))
+                .assertNext(page -> {
+                    assertThat(page.events()).hasSize(1);
+                    assertThat(page.nextCursor()).isNull();
+                })
+                .verifyComplete();
+    }
 }
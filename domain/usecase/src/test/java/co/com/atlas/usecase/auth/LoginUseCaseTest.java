@@ -0,0 +1,115 @@
+package co.com.atlas.usecase.auth;
+
+import co.com.atlas.model.auth.AuthCredentials;
+import co.com.atlas.model.auth.AuthToken;
+import co.com.atlas.model.auth.AuthUser;
+import co.com.atlas.model.auth.gateways.AuthUserRepository;
+import co.com.atlas.model.auth.gateways.JwtTokenGateway;
+import co.com.atlas.model.permission.Permission;
+import co.com.atlas.model.permission.RolePermission;
+import co.com.atlas.model.permission.gateways.PermissionRepository;
+import co.com.atlas.model.role.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LoginUseCaseTest {
+
+    @Mock private AuthUserRepository authUserRepository;
+    @Mock private JwtTokenGateway jwtTokenGateway;
+    @Mock private PermissionRepository permissionRepository;
+
+    private LoginUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new LoginUseCase(authUserRepository, jwtTokenGateway, new RolePermissionCatalog(permissionRepository));
+    }
+
+    private AuthUser account() {
+        return AuthUser.builder().id(10L).email("porter@atlas.co").passwordHash("$2a$hash").active(true).build();
+    }
+
+    private AuthCredentials credentials(String password) {
+        return AuthCredentials.builder().email("porter@atlas.co").password(password).build();
+    }
+
+    @Test
+    @DisplayName("Should resolve roles with the profile query and permissions from the catalog")
+    void shouldLoadAccessProfileInOneQuery() {
+        AuthUser profile = account().toBuilder()
+                .organizationId(100L)
+                .roles(List.of(Role.builder().id(1L).code("PORTERO_GENERAL").build()))
+                .build();
+        when(permissionRepository.findCatalogVersion()).thenReturn(Mono.just(3L));
+        when(permissionRepository.findAllRolePermissions()).thenReturn(Flux.just(
+                new RolePermission(1L, "PORTERO_GENERAL", Permission.builder().code("ACCESS_SCAN").build()),
+                new RolePermission(2L, "ADMIN_ATLAS", Permission.builder().code("UNITS_ADMIN").build())));
+        when(authUserRepository.findCredentialsByEmailOrUsername("porter@atlas.co")).thenReturn(Mono.just(account()));
+        when(authUserRepository.validatePassword("secret", "$2a$hash")).thenReturn(Mono.just(true));
+        when(authUserRepository.findWithAccessProfile(10L, null)).thenReturn(Mono.just(profile));
+        when(authUserRepository.updateLastLogin(10L)).thenReturn(Mono.empty());
+        when(jwtTokenGateway.generateTokenPair(any(AuthUser.class)))
+                .thenReturn(Mono.just(AuthToken.builder().accessToken("jwt").build()));
+
+        StepVerifier.create(useCase.execute(credentials("secret")))
+                .assertNext(token -> assertThat(token.getAccessToken()).isEqualTo("jwt"))
+                .verifyComplete();
+
+        ArgumentCaptor<AuthUser> issued = ArgumentCaptor.forClass(AuthUser.class);
+        verify(jwtTokenGateway).generateTokenPair(issued.capture());
+        assertThat(issued.getValue().getOrganizationId()).isEqualTo(100L);
+        assertThat(issued.getValue().getPermissions()).extracting(Permission::getCode).containsExactly("ACCESS_SCAN");
+        assertThat(issued.getValue().getEnabledModules()).containsExactly("ATLAS_CORE");
+    }
+
+    @Test
+    @DisplayName("Should not load the access profile when the password is wrong")
+    void shouldSkipProfileOnInvalidPassword() {
+        when(authUserRepository.findCredentialsByEmailOrUsername("porter@atlas.co")).thenReturn(Mono.just(account()));
+        when(authUserRepository.validatePassword("wrong", "$2a$hash")).thenReturn(Mono.just(false));
+
+        StepVerifier.create(useCase.execute(credentials("wrong")))
+                .expectError(AuthenticationException.class)
+                .verify();
+        verify(authUserRepository, never()).findWithAccessProfile(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should reload the catalog only when its version changes")
+    void shouldReloadCatalogOnVersionChange() {
+        RolePermissionCatalog catalog = new RolePermissionCatalog(permissionRepository);
+        when(permissionRepository.findCatalogVersion()).thenReturn(Mono.just(3L), Mono.just(3L), Mono.just(4L));
+        when(permissionRepository.findAllRolePermissions()).thenReturn(
+                Flux.just(new RolePermission(1L, "PORTERO_GENERAL", Permission.builder().code("ACCESS_SCAN").build())),
+                Flux.just(new RolePermission(1L, "PORTERO_GENERAL", Permission.builder().code("ACCESS_REVOKE").build())));
+        AuthUser porter = account().toBuilder().roles(List.of(Role.builder().id(1L).build())).build();
+
+        StepVerifier.create(catalog.refreshIfChanged()).expectNext(true).verifyComplete();
+        StepVerifier.create(catalog.refreshIfChanged()).expectNext(false).verifyComplete();
+        StepVerifier.create(catalog.refreshIfChanged()).expectNext(true).verifyComplete();
+
+        StepVerifier.create(catalog.resolvePermissions(porter))
+                .assertNext(user -> assertThat(user.getPermissions())
+                        .extracting(Permission::getCode).containsExactly("ACCESS_REVOKE"))
+                .verifyComplete();
+        assertThat(catalog.version()).isEqualTo(4L);
+    }
+}
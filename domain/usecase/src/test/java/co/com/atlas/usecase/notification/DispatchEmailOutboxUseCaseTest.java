@@ -0,0 +1,119 @@
+package co.com.atlas.usecase.notification;
+
+import co.com.atlas.model.invitation.gateways.InvitationAuditRepository;
+import co.com.atlas.model.notification.EmailDeliveryResult;
+import co.com.atlas.model.notification.EmailTemplate;
+import co.com.atlas.model.notification.OutboundEmail;
+import co.com.atlas.model.notification.gateways.EmailOutboxRepository;
+import co.com.atlas.model.notification.gateways.NotificationGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DispatchEmailOutboxUseCaseTest {
+
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(30);
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Mock private EmailOutboxRepository emailOutboxRepository;
+    @Mock private NotificationGateway notificationGateway;
+    @Mock private InvitationAuditRepository invitationAuditRepository;
+
+    private DispatchEmailOutboxUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new DispatchEmailOutboxUseCase(emailOutboxRepository, notificationGateway,
+                invitationAuditRepository, 2, 3, BASE_BACKOFF, MAX_BACKOFF, LEASE);
+    }
+
+    private OutboundEmail email(Long id, int retryCount) {
+        return OutboundEmail.builder()
+                .id(id)
+                .template(EmailTemplate.OWNER_INVITATION)
+                .recipient("owner" + id + "@atlas.com")
+                .invitationId(100L + id)
+                .params(Map.of("token", "t" + id, "activationUrl", "http://localhost/owner/activate/t" + id))
+                .retryCount(retryCount)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should confirm the delivered emails of a batch with a single update")
+    void shouldMarkDeliveredBatchAsSent() {
+        List<OutboundEmail> batch = List.of(email(1L, 0), email(2L, 0));
+        when(emailOutboxRepository.claimBatch(2, BASE_BACKOFF, MAX_BACKOFF, LEASE)).thenReturn(Flux.fromIterable(batch));
+        when(notificationGateway.deliver(batch)).thenReturn(Flux.just(
+                EmailDeliveryResult.delivered(1L), EmailDeliveryResult.delivered(2L)));
+        when(emailOutboxRepository.markSent(eq(List.of(1L, 2L)), any())).thenReturn(Mono.empty());
+        when(invitationAuditRepository.logAction(anyLong(), eq(InvitationAuditRepository.ACTION_SENT), any()))
+                .thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.dispatchBatch())
+                .expectNext(2)
+                .verifyComplete();
+        verify(emailOutboxRepository, times(1)).markSent(eq(List.of(1L, 2L)), any());
+        verify(emailOutboxRepository, never()).markFailed(anyLong(), anyString(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Should schedule a retry and give up after the last attempt")
+    void shouldRetryFailedEmailsUntilExhausted() {
+        List<OutboundEmail> batch = List.of(email(1L, 0), email(2L, 2));
+        when(emailOutboxRepository.claimBatch(2, BASE_BACKOFF, MAX_BACKOFF, LEASE)).thenReturn(Flux.fromIterable(batch));
+        when(notificationGateway.deliver(batch)).thenReturn(Flux.just(
+                EmailDeliveryResult.failed(1L, "421 try later"), EmailDeliveryResult.failed(2L, "550 no such user")));
+        when(emailOutboxRepository.markSent(eq(List.of()), any())).thenReturn(Mono.empty());
+        when(emailOutboxRepository.markFailed(anyLong(), anyString(), anyBoolean())).thenReturn(Mono.empty());
+        when(invitationAuditRepository.logAction(102L, InvitationAuditRepository.ACTION_FAILED, null))
+                .thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.dispatchBatch())
+                .expectNext(2)
+                .verifyComplete();
+        verify(emailOutboxRepository).markFailed(1L, "421 try later", false);
+        verify(emailOutboxRepository).markFailed(2L, "550 no such user", true);
+        verify(invitationAuditRepository, never()).logAction(101L, InvitationAuditRepository.ACTION_FAILED, null);
+    }
+
+    @Test
+    @DisplayName("Should keep claiming batches until the outbox is drained")
+    void shouldDrainUntilPartialBatch() {
+        List<OutboundEmail> first = List.of(email(1L, 0), email(2L, 0));
+        List<OutboundEmail> second = List.of(email(3L, 0));
+        when(emailOutboxRepository.claimBatch(anyInt(), any(), any(), any()))
+                .thenReturn(Flux.fromIterable(first), Flux.fromIterable(second));
+        when(notificationGateway.deliver(any())).thenAnswer(inv -> Flux.fromIterable(inv.<List<OutboundEmail>>getArgument(0))
+                .map(email -> EmailDeliveryResult.delivered(email.getId())));
+        when(emailOutboxRepository.markSent(any(), any())).thenReturn(Mono.empty());
+        when(invitationAuditRepository.logAction(anyLong(), anyString(), any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.drain())
+                .expectNext(3L)
+                .verifyComplete();
+        verify(emailOutboxRepository, times(2)).claimBatch(anyInt(), any(), any(), any());
+    }
+}
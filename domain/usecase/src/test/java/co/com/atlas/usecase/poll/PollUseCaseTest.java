@@ -0,0 +1,159 @@
+package co.com.atlas.usecase.poll;
+
+import co.com.atlas.model.common.BusinessException;
+import co.com.atlas.model.poll.Poll;
+import co.com.atlas.model.poll.PollOption;
+import co.com.atlas.model.poll.PollStatus;
+import co.com.atlas.model.poll.PollVote;
+import co.com.atlas.model.poll.gateways.PollOptionRepository;
+import co.com.atlas.model.poll.gateways.PollRepository;
+import co.com.atlas.model.poll.gateways.PollVoteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PollUseCaseTest {
+
+    @Mock private PollRepository pollRepository;
+    @Mock private PollOptionRepository pollOptionRepository;
+    @Mock private PollVoteRepository pollVoteRepository;
+
+    private ClosedPollResultsCache closedPollResultsCache;
+    private PollVoteCounters pollVoteCounters;
+    private PollUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        closedPollResultsCache = new ClosedPollResultsCache(16);
+        pollVoteCounters = new PollVoteCounters(pollVoteRepository, Duration.ofMinutes(15));
+        useCase = new PollUseCase(pollRepository, pollOptionRepository, pollVoteRepository,
+                closedPollResultsCache, pollVoteCounters);
+    }
+
+    private Poll poll(PollStatus status) {
+        return Poll.builder().id(7L).organizationId(100L).status(status).allowMultiple(true).build();
+    }
+
+    private PollOption option(Long id) {
+        return PollOption.builder().id(id).pollId(7L).optionText("Opción " + id).build();
+    }
+
+    @Test
+    @DisplayName("Should tally every option with a single grouped count")
+    void shouldTallyWithOneGroupedQuery() {
+        when(pollRepository.findById(7L)).thenReturn(Mono.just(poll(PollStatus.ACTIVE)));
+        when(pollOptionRepository.findByPollId(7L)).thenReturn(Flux.just(option(1L), option(2L), option(3L)));
+        when(pollVoteRepository.countByPollIdGroupByOption(7L)).thenReturn(Mono.just(Map.of(1L, 4L, 3L, 2L)));
+
+        StepVerifier.create(useCase.findById(7L))
+                .assertNext(result -> assertThat(result.getOptions())
+                        .extracting(PollOption::getVoteCount).containsExactly(4L, 0L, 2L))
+                .verifyComplete();
+        verify(pollVoteRepository, never()).countByOptionId(anyLong());
+        assertThat(closedPollResultsCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should validate the voted option without counting votes")
+    void shouldVoteWithoutCounting() {
+        when(pollRepository.findById(7L)).thenReturn(Mono.just(poll(PollStatus.ACTIVE)));
+        when(pollOptionRepository.findById(2L)).thenReturn(Mono.just(option(2L)));
+        when(pollVoteRepository.saveIfAbsent(any(PollVote.class), eq(true)))
+                .thenAnswer(inv -> Mono.just(inv.getArgument(0)));
+
+        StepVerifier.create(useCase.vote(7L, 2L, 55L))
+                .assertNext(vote -> assertThat(vote.getOptionId()).isEqualTo(2L))
+                .verifyComplete();
+        verify(pollOptionRepository, never()).findByPollId(anyLong());
+        verify(pollVoteRepository, never()).countByPollIdGroupByOption(anyLong());
+        verify(pollVoteRepository, never()).existsByPollIdAndUserId(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should reject a duplicate vote ignored by the unique index")
+    void shouldRejectDuplicateVote() {
+        Poll singleChoice = poll(PollStatus.ACTIVE).toBuilder().allowMultiple(false).build();
+        when(pollRepository.findById(7L)).thenReturn(Mono.just(singleChoice));
+        when(pollOptionRepository.findById(2L)).thenReturn(Mono.just(option(2L)));
+        when(pollVoteRepository.saveIfAbsent(any(PollVote.class), eq(false))).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.vote(7L, 2L, 55L))
+                .expectErrorMatches(e -> e instanceof BusinessException)
+                .verify();
+        assertThat(pollVoteCounters.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should count live votes in memory and reconcile with the database")
+    void shouldCountLiveVotesInMemory() {
+        when(pollVoteRepository.countByPollIdGroupByOption(7L))
+                .thenReturn(Mono.just(Map.of(1L, 10L)), Mono.just(Map.of(1L, 12L, 2L, 1L)));
+
+        StepVerifier.create(pollVoteCounters.tally(7L))
+                .expectNext(Map.of(1L, 10L))
+                .verifyComplete();
+        pollVoteCounters.increment(7L, 1L);
+        pollVoteCounters.increment(7L, 2L);
+        StepVerifier.create(pollVoteCounters.tally(7L))
+                .expectNext(Map.of(1L, 11L, 2L, 1L))
+                .verifyComplete();
+
+        // La base de datos ya incluye esos votos y uno de otra instancia
+        StepVerifier.create(pollVoteCounters.reconcile()).expectNext(1L).verifyComplete();
+        StepVerifier.create(pollVoteCounters.tally(7L))
+                .expectNext(Map.of(1L, 12L, 2L, 1L))
+                .verifyComplete();
+        verify(pollVoteRepository, times(2)).countByPollIdGroupByOption(7L);
+    }
+
+    @Test
+    @DisplayName("Should reject an option from another poll")
+    void shouldRejectForeignOption() {
+        when(pollRepository.findById(7L)).thenReturn(Mono.just(poll(PollStatus.ACTIVE)));
+        when(pollOptionRepository.findById(9L))
+                .thenReturn(Mono.just(option(9L).toBuilder().pollId(8L).build()));
+
+        StepVerifier.create(useCase.vote(7L, 9L, 55L))
+                .expectError(BusinessException.class)
+                .verify();
+        verify(pollVoteRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should serve closed poll results from the snapshot")
+    void shouldCacheClosedPollResults() {
+        when(pollRepository.findById(7L)).thenReturn(Mono.just(poll(PollStatus.CLOSED)));
+        when(pollOptionRepository.findByPollId(7L)).thenReturn(Flux.just(option(1L), option(2L)));
+        when(pollVoteRepository.countByPollIdGroupByOption(7L)).thenReturn(Mono.just(Map.of(2L, 5L)));
+
+        StepVerifier.create(useCase.getResults(7L))
+                .assertNext(result -> assertThat(result.getOptions())
+                        .extracting(PollOption::getVoteCount).containsExactly(0L, 5L))
+                .verifyComplete();
+        StepVerifier.create(useCase.getResults(7L))
+                .assertNext(result -> assertThat(result.getOptions()).isUnmodifiable())
+                .verifyComplete();
+
+        verify(pollRepository, times(1)).findById(7L);
+        verify(pollVoteRepository, times(1)).countByPollIdGroupByOption(7L);
+    }
+}
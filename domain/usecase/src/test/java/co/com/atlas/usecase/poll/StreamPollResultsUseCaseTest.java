@@ -0,0 +1,83 @@
+package co.com.atlas.usecase.poll;
+
+import co.com.atlas.model.poll.Poll;
+import co.com.atlas.model.poll.PollOption;
+import co.com.atlas.model.poll.PollStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StreamPollResultsUseCaseTest {
+
+    private static final Duration INTERVAL = Duration.ofSeconds(1);
+
+    @Mock private PollUseCase pollUseCase;
+
+    private Poll results(PollStatus status, long first, long second) {
+        return Poll.builder().id(7L).status(status).options(List.of(
+                PollOption.builder().id(1L).voteCount(first).build(),
+                PollOption.builder().id(2L).voteCount(second).build())).build();
+    }
+
+    @Test
+    @DisplayName("Should emit a snapshot, then only changed options, and complete when the poll closes")
+    void shouldStreamSnapshotThenDeltas() {
+        StreamPollResultsUseCase useCase = new StreamPollResultsUseCase(pollUseCase, INTERVAL);
+        when(pollUseCase.getResults(7L)).thenReturn(
+                Mono.just(results(PollStatus.ACTIVE, 3, 1)),
+                Mono.just(results(PollStatus.ACTIVE, 3, 1)),
+                Mono.just(results(PollStatus.ACTIVE, 4, 1)),
+                Mono.just(results(PollStatus.CLOSED, 4, 1)));
+
+        StepVerifier.withVirtualTime(() -> useCase.execute(7L))
+                .assertNext(update -> {
+                    assertThat(update.snapshot()).isTrue();
+                    assertThat(update.counts()).isEqualTo(Map.of(1L, 3L, 2L, 1L));
+                    assertThat(update.totalVotes()).isEqualTo(4L);
+                })
+                .thenAwait(INTERVAL.multipliedBy(2))
+                .assertNext(update -> {
+                    assertThat(update.snapshot()).isFalse();
+                    assertThat(update.counts()).isEqualTo(Map.of(1L, 4L));
+                    assertThat(update.totalVotes()).isEqualTo(5L);
+                })
+                .thenAwait(INTERVAL)
+                .assertNext(update -> {
+                    assertThat(update.status()).isEqualTo(PollStatus.CLOSED);
+                    assertThat(update.counts()).isEmpty();
+                })
+                .verifyComplete();
+        assertThat(useCase.activeStreams()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should compute results once per interval for all viewers")
+    void shouldShareOneComputationAcrossViewers() {
+        StreamPollResultsUseCase useCase = new StreamPollResultsUseCase(pollUseCase, INTERVAL);
+        when(pollUseCase.getResults(7L)).thenReturn(
+                Mono.just(results(PollStatus.ACTIVE, 3, 1)),
+                Mono.just(results(PollStatus.CLOSED, 3, 2)));
+
+        StepVerifier.withVirtualTime(() -> Flux.merge(useCase.execute(7L), useCase.execute(7L), useCase.execute(7L)))
+                .expectNextCount(3)
+                .thenAwait(INTERVAL)
+                .expectNextCount(3)
+                .verifyComplete();
+        verify(pollUseCase, times(2)).getResults(7L);
+    }
+}
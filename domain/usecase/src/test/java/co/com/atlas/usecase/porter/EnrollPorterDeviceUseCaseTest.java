@@ -1,8 +1,10 @@
 package co.com.atlas.usecase.porter;
 
+import co.com.atlas.model.auth.AuthToken;
 import co.com.atlas.model.auth.AuthUser;
 import co.com.atlas.model.auth.UserStatus;
 import co.com.atlas.model.auth.gateways.AuthUserRepository;
+import co.com.atlas.model.auth.gateways.JwtTokenGateway;
 import co.com.atlas.model.common.BusinessException;
 import co.com.atlas.model.common.NotFoundException;
 import co.com.atlas.model.crypto.OrganizationCryptoKey;
@@ -10,12 +12,17 @@ import co.com.atlas.model.crypto.gateways.CryptoKeyGeneratorGateway;
 import co.com.atlas.model.crypto.gateways.CryptoKeyRepository;
 import co.com.atlas.model.organization.Organization;
 import co.com.atlas.model.organization.gateways.OrganizationRepository;
+import co.com.atlas.model.permission.Permission;
 import co.com.atlas.model.porter.DeviceInfo;
 import co.com.atlas.model.porter.PorterEnrollmentAuditLog;
 import co.com.atlas.model.porter.PorterEnrollmentToken;
 import co.com.atlas.model.porter.PorterEnrollmentTokenStatus;
 import co.com.atlas.model.porter.gateways.PorterEnrollmentAuditRepository;
 import co.com.atlas.model.porter.gateways.PorterEnrollmentTokenRepository;
+import co.com.atlas.model.role.Role;
+import co.com.atlas.model.userorganization.gateways.UserOrganizationRepository;
+import co.com.atlas.usecase.access.VerificationKeyCache;
+import co.com.atlas.usecase.auth.RolePermissionCatalog;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,8 +33,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -46,6 +55,9 @@ class EnrollPorterDeviceUseCaseTest {
     @Mock private OrganizationRepository organizationRepository;
     @Mock private CryptoKeyRepository cryptoKeyRepository;
     @Mock private CryptoKeyGeneratorGateway cryptoKeyGeneratorGateway;
+    @Mock private JwtTokenGateway jwtTokenGateway;
+    @Mock private UserOrganizationRepository userOrganizationRepository;
+    @Mock private RolePermissionCatalog rolePermissionCatalog;
 
     private EnrollPorterDeviceUseCase useCase;
 
@@ -53,12 +65,15 @@ class EnrollPorterDeviceUseCaseTest {
     private static final Long ORG_ID = 100L;
     private static final String RAW_TOKEN = "enroll-abc123-token";
     private static final String TOKEN_HASH = ValidateEnrollmentTokenUseCase.hashToken(RAW_TOKEN);
+    private static final Long CATALOG_VERSION = 7L;
 
     @BeforeEach
     void setUp() {
         useCase = new EnrollPorterDeviceUseCase(
                 tokenRepository, auditRepository, authUserRepository,
-                organizationRepository, cryptoKeyRepository, cryptoKeyGeneratorGateway);
+                organizationRepository, cryptoKeyRepository, cryptoKeyGeneratorGateway,
+                jwtTokenGateway, userOrganizationRepository,
+                new VerificationKeyCache(16, Duration.ofMinutes(5)), rolePermissionCatalog);
     }
 
     @Test
@@ -81,6 +96,8 @@ class EnrollPorterDeviceUseCaseTest {
         when(auditRepository.save(any(PorterEnrollmentAuditLog.class)))
                 .thenReturn(Mono.just(PorterEnrollmentAuditLog.builder().id(1L).build()));
 
+        stubPorterSession();
+
         var command = new EnrollPorterDeviceUseCase.EnrollCommand(
                 RAW_TOKEN,
                 new DeviceInfo("Android", "Samsung SM-T510", "1.0.0", "Mozilla/5.0"),
@@ -122,11 +139,14 @@ class EnrollPorterDeviceUseCaseTest {
         when(cryptoKeyRepository.findActiveByOrganizationId(ORG_ID)).thenReturn(Mono.empty());
         when(cryptoKeyGeneratorGateway.generateForOrganization(ORG_ID)).thenReturn(Mono.just(newKey));
         when(cryptoKeyRepository.save(newKey)).thenReturn(Mono.just(newKey));
+        when(cryptoKeyGeneratorGateway.evictSigningKeys()).thenReturn(Mono.empty());
         when(authUserRepository.findById(USER_ID)).thenReturn(Mono.just(user));
         when(authUserRepository.save(any())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
         when(organizationRepository.findById(ORG_ID)).thenReturn(Mono.just(org));
         when(auditRepository.save(any())).thenReturn(Mono.just(PorterEnrollmentAuditLog.builder().id(1L).build()));
 
+        stubPorterSession();
+
         var command = new EnrollPorterDeviceUseCase.EnrollCommand(
                 RAW_TOKEN, new DeviceInfo("iOS", "iPad", "1.0.0", "Safari"), "10.0.0.1", "Safari");
 
@@ -139,6 +159,7 @@ class EnrollPorterDeviceUseCaseTest {
 
         verify(cryptoKeyGeneratorGateway).generateForOrganization(ORG_ID);
         verify(cryptoKeyRepository).save(newKey);
+        verify(cryptoKeyGeneratorGateway).evictSigningKeys();
     }
 
     @Test
@@ -158,6 +179,8 @@ class EnrollPorterDeviceUseCaseTest {
         when(organizationRepository.findById(ORG_ID)).thenReturn(Mono.just(org));
         when(auditRepository.save(any())).thenReturn(Mono.just(PorterEnrollmentAuditLog.builder().id(1L).build()));
 
+        stubPorterSession();
+
         var command = new EnrollPorterDeviceUseCase.EnrollCommand(
                 RAW_TOKEN, null, "10.0.0.1", "Mozilla/5.0");
 
@@ -242,6 +265,8 @@ class EnrollPorterDeviceUseCaseTest {
         when(organizationRepository.findById(ORG_ID)).thenReturn(Mono.just(org));
         when(auditRepository.save(any())).thenReturn(Mono.just(PorterEnrollmentAuditLog.builder().id(1L).build()));
 
+        stubPorterSession();
+
         var command = new EnrollPorterDeviceUseCase.EnrollCommand(
                 RAW_TOKEN,
                 new DeviceInfo("Android", "Pixel 7", "2.0.0", "Chrome"),
@@ -261,8 +286,55 @@ class EnrollPorterDeviceUseCaseTest {
         assertThat(log.getDetails()).contains("Pixel 7");
     }
 
+    @Test
+    @DisplayName("Should issue the porter token with the permission catalog version")
+    void shouldIssueCompactPorterToken() {
+        PorterEnrollmentToken token = buildPendingToken();
+        AuthUser user = buildPreRegisteredUser();
+        Organization org = Organization.builder().id(ORG_ID).name("Conjunto El Bosque").build();
+
+        when(tokenRepository.findByTokenHash(TOKEN_HASH)).thenReturn(Mono.just(token));
+        when(tokenRepository.save(any())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
+        when(cryptoKeyRepository.findActiveByOrganizationId(ORG_ID)).thenReturn(Mono.just(buildCryptoKey()));
+        when(authUserRepository.findById(USER_ID)).thenReturn(Mono.just(user));
+        when(authUserRepository.save(any())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
+        when(organizationRepository.findById(ORG_ID)).thenReturn(Mono.just(org));
+        when(auditRepository.save(any())).thenReturn(Mono.just(PorterEnrollmentAuditLog.builder().id(1L).build()));
+        stubPorterSession();
+
+        var command = new EnrollPorterDeviceUseCase.EnrollCommand(RAW_TOKEN, null, "10.0.0.1", "UA");
+
+        StepVerifier.create(useCase.execute(command))
+                .assertNext(result -> assertThat(result.accessToken()).isEqualTo("access-token"))
+                .verifyComplete();
+
+        ArgumentCaptor<AuthUser> userCaptor = ArgumentCaptor.forClass(AuthUser.class);
+        verify(jwtTokenGateway).generateTokenPair(userCaptor.capture());
+        assertThat(userCaptor.getValue().getPermissionsVersion()).isEqualTo(CATALOG_VERSION);
+        assertThat(userCaptor.getValue().getOrganizationId()).isEqualTo(ORG_ID);
+    }
+
     // ---- Helpers ----
 
+    private void stubPorterSession() {
+        when(userOrganizationRepository.findByUserIdAndOrganizationId(USER_ID, ORG_ID)).thenReturn(Mono.empty());
+        when(userOrganizationRepository.save(any())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
+        when(authUserRepository.updateLastOrganization(USER_ID, ORG_ID)).thenReturn(Mono.empty());
+        when(authUserRepository.findWithAccessProfile(USER_ID, ORG_ID)).thenReturn(Mono.just(AuthUser.builder()
+                .id(USER_ID)
+                .roles(List.of(Role.builder().id(5L).code("PORTERO_GENERAL").build()))
+                .build()));
+        when(rolePermissionCatalog.resolvePermissions(any())).thenAnswer(inv -> Mono.just(
+                inv.<AuthUser>getArgument(0).toBuilder()
+                        .permissions(List.of(Permission.builder().code("ACCESS_VALIDATE").build()))
+                        .permissionsVersion(CATALOG_VERSION)
+                        .build()));
+        when(jwtTokenGateway.generateTokenPair(any())).thenReturn(Mono.just(AuthToken.builder()
+                .accessToken("access-token")
+                .refreshToken("refresh-token")
+                .build()));
+    }
+
     private PorterEnrollmentToken buildPendingToken() {
         return PorterEnrollmentToken.builder()
                 .id(1L)
@@ -0,0 +1,94 @@
+package co.com.atlas.notification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Plantilla HTML precompilada.
+ * <p>
+ * El texto se analiza una sola vez: queda dividido en segmentos estáticos ya codificados en UTF-8
+ * y huecos {@code {{nombre}}} resueltos a la posición del parámetro correspondiente. Renderizar
+ * solo copia los segmentos y escribe cada valor escapado para HTML en un {@link TemplateBuffer},
+ * sin interpretar formato ni crear cadenas intermedias.
+ * </p>
+ */
+final class CompiledTemplate {
+
+    private static final String SLOT_OPEN = "{{";
+    private static final String SLOT_CLOSE = "}}";
+
+    private final byte[][] segments;
+    private final int[] slots;
+    private final int parameterCount;
+    private final int staticLength;
+
+    private CompiledTemplate(byte[][] segments, int[] slots, int parameterCount) {
+        this.segments = segments;
+        this.slots = slots;
+        this.parameterCount = parameterCount;
+        this.staticLength = Arrays.stream(segments).mapToInt(segment -> segment.length).sum();
+    }
+
+    /**
+     * Compila la plantilla.
+     *
+     * @param source     Texto con huecos {@code {{nombre}}}; un mismo nombre puede repetirse
+     * @param parameters Nombres de los parámetros, en el orden en que se pasan a {@link #renderTo}
+     * @throws IllegalArgumentException si un hueco no corresponde a ningún parámetro o no está cerrado
+     */
+    static CompiledTemplate compile(String source, String... parameters) {
+        List<String> names = List.of(parameters);
+        List<byte[]> segments = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        int position = 0;
+        int open;
+        while ((open = source.indexOf(SLOT_OPEN, position)) >= 0) {
+            int close = source.indexOf(SLOT_CLOSE, open + SLOT_OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed template slot at offset " + open);
+            }
+            String name = source.substring(open + SLOT_OPEN.length(), close).trim();
+            int index = names.indexOf(name);
+            if (index < 0) {
+                throw new IllegalArgumentException("Unknown template slot: " + name);
+            }
+            segments.add(source.substring(position, open).getBytes(StandardCharsets.UTF_8));
+            slots.add(index);
+            position = close + SLOT_CLOSE.length();
+        }
+        segments.add(source.substring(position).getBytes(StandardCharsets.UTF_8));
+        return new CompiledTemplate(segments.toArray(byte[][]::new),
+                slots.stream().mapToInt(Integer::intValue).toArray(), parameters.length);
+    }
+
+    /**
+     * Escribe la plantilla en el buffer; los valores {@code null} se escriben vacíos.
+     *
+     * @param values Un valor por parámetro, en el orden declarado al compilar
+     */
+    void renderTo(TemplateBuffer buffer, String... values) {
+        if (values.length != parameterCount) {
+            throw new IllegalArgumentException(
+                    "Expected " + parameterCount + " template values but got " + values.length);
+        }
+        buffer.ensureCapacity(buffer.length() + staticLength + 256);
+        for (int i = 0; i < slots.length; i++) {
+            buffer.write(segments[i]);
+            buffer.writeHtmlEscaped(values[slots[i]]);
+        }
+        buffer.write(segments[slots.length]);
+    }
+
+    /**
+     * Renderiza en el buffer reutilizable del hilo actual.
+     *
+     * @return HTML codificado en UTF-8
+     */
+    byte[] render(String... values) {
+        TemplateBuffer buffer = TemplateBuffer.local();
+        renderTo(buffer, values);
+        return buffer.toByteArray();
+    }
+}
@@ -1,11 +1,16 @@
 package co.com.atlas.notification;
 
+import co.com.atlas.model.notification.EmailDeliveryResult;
+import co.com.atlas.model.notification.OutboundEmail;
 import co.com.atlas.model.notification.gateways.NotificationGateway;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Implementación no-op del gateway de notificaciones.
  * Se usa cuando las notificaciones están deshabilitadas.
@@ -57,4 +62,10 @@ public class NoOpNotificationAdapter implements NotificationGateway {
         log.info("NoOp: sendOwnerInvitationEmail to={}, token={}, url={}", to, token, activationUrl);
         return Mono.empty();
     }
+
+    @Override
+    public Flux<EmailDeliveryResult> deliver(List<OutboundEmail> batch) {
+        log.debug("NoOp: deliver {} outbox emails", batch.size());
+        return Flux.fromIterable(batch).map(email -> EmailDeliveryResult.delivered(email.getId()));
+    }
 }
@@ -0,0 +1,165 @@
+package co.com.atlas.notification;
+
+import co.com.atlas.model.notification.EmailDeliveryResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool fijo de sesiones SMTP reutilizables.
+ * <p>
+ * Cada envío toma una conexión ({@link Transport}) abierta del pool, envía todos los mensajes
+ * del lote por ella y la devuelve sin cerrarla; solo se reconecta si el servidor la cerró.
+ * Los envíos corren en un scheduler con tantos hilos como sesiones, de modo que nunca hay más
+ * de {@code pool-size} conexiones abiertas ni se bloquea el event loop.
+ * </p>
+ * <p>Publica {@code notification.email.sent}, {@code notification.email.failed} y
+ * {@code notification.email.batch.duration}.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.enabled", havingValue = "true")
+public class SmtpSessionPool implements DisposableBean {
+
+    /** Mensaje listo para enviar junto con el ID de su correo en el outbox. */
+    public record PooledMessage(Long emailId, MimeMessage message) {
+    }
+
+    private final JavaMailSenderImpl mailSender;
+    private final int poolSize;
+    private final BlockingQueue<Transport> idle;
+    private final Scheduler scheduler;
+    private final Counter sent;
+    private final Counter failed;
+    private final Timer batchDuration;
+
+    public SmtpSessionPool(
+            JavaMailSenderImpl mailSender,
+            MeterRegistry meterRegistry,
+            @Value("${notification.smtp.pool-size:4}") int poolSize) {
+        this.mailSender = mailSender;
+        this.poolSize = Math.max(1, poolSize);
+        this.idle = new ArrayBlockingQueue<>(this.poolSize);
+        this.scheduler = Schedulers.newBoundedElastic(this.poolSize, Integer.MAX_VALUE, "smtp-session");
+        this.sent = Counter.builder("notification.email.sent")
+                .description("Correos aceptados por el servidor SMTP")
+                .register(meterRegistry);
+        this.failed = Counter.builder("notification.email.failed")
+                .description("Correos rechazados o con error de envío")
+                .register(meterRegistry);
+        this.batchDuration = Timer.builder("notification.email.batch.duration")
+                .description("Tiempo de envío de un lote por una sesión SMTP")
+                .register(meterRegistry);
+        log.info("SMTP session pool: size={}, host={}", this.poolSize, mailSender.getHost());
+    }
+
+    public int size() {
+        return poolSize;
+    }
+
+    public MimeMessage createMimeMessage() {
+        return mailSender.createMimeMessage();
+    }
+
+    /**
+     * Envía los mensajes por una sesión del pool. Un fallo de un mensaje no detiene el lote.
+     */
+    public Mono<List<EmailDeliveryResult>> send(List<PooledMessage> messages) {
+        return Mono.fromCallable(() -> sendOnSession(messages))
+                .subscribeOn(scheduler);
+    }
+
+    private List<EmailDeliveryResult> sendOnSession(List<PooledMessage> messages) throws MessagingException {
+        long startedAt = System.nanoTime();
+        Transport transport = borrow();
+        List<EmailDeliveryResult> results = new ArrayList<>(messages.size());
+        try {
+            // La conexión se verifica al inicio del lote y tras cada fallo, no por mensaje
+            boolean verify = true;
+            for (PooledMessage pooled : messages) {
+                EmailDeliveryResult result = sendOne(transport, pooled, verify);
+                verify = !result.delivered();
+                results.add(result);
+            }
+        } finally {
+            release(transport);
+            batchDuration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        return results;
+    }
+
+    private EmailDeliveryResult sendOne(Transport transport, PooledMessage pooled, boolean verifyConnection) {
+        MimeMessage message = pooled.message();
+        try {
+            if (verifyConnection) {
+                ensureConnected(transport);
+            }
+            if (message.getSentDate() == null) {
+                message.setSentDate(new Date());
+            }
+            message.saveChanges();
+            transport.sendMessage(message, message.getAllRecipients());
+            sent.increment();
+            return EmailDeliveryResult.delivered(pooled.emailId());
+        } catch (MessagingException e) {
+            failed.increment();
+            log.warn("SMTP delivery failed for outbox email {}: {}", pooled.emailId(), e.getMessage());
+            return EmailDeliveryResult.failed(pooled.emailId(), e.getMessage());
+        }
+    }
+
+    private Transport borrow() throws MessagingException {
+        Transport transport = idle.poll();
+        return transport != null ? transport : mailSender.getSession().getTransport(mailSender.getProtocol());
+    }
+
+    private void ensureConnected(Transport transport) throws MessagingException {
+        // SMTPTransport.isConnected() envía un NOOP: detecta conexiones cerradas por inactividad
+        if (!transport.isConnected()) {
+            transport.connect(mailSender.getHost(), mailSender.getPort(),
+                    mailSender.getUsername(), mailSender.getPassword());
+        }
+    }
+
+    private void release(Transport transport) {
+        if (!idle.offer(transport)) {
+            close(transport);
+        }
+    }
+
+    private static void close(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("Error closing SMTP session: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        Transport transport;
+        while ((transport = idle.poll()) != null) {
+            close(transport);
+        }
+        scheduler.dispose();
+    }
+}
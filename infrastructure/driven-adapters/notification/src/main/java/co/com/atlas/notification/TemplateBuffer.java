@@ -0,0 +1,132 @@
+package co.com.atlas.notification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Buffer de bytes reutilizable para renderizar plantillas.
+ * <p>
+ * Los valores se codifican a UTF-8 y se escapan para HTML en una sola pasada, directamente sobre
+ * el arreglo. Cada hilo reutiliza su propio buffer ({@link #local()}); si un render lo hizo crecer
+ * más allá de {@link #MAX_RETAINED_CAPACITY} se descarta para no retener memoria.
+ * </p>
+ */
+final class TemplateBuffer {
+
+    private static final int INITIAL_CAPACITY = 8 * 1024;
+    private static final int MAX_RETAINED_CAPACITY = 256 * 1024;
+    private static final ThreadLocal<TemplateBuffer> LOCAL = ThreadLocal.withInitial(TemplateBuffer::new);
+
+    private static final byte[] AMP = "&amp;".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LT = "&lt;".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] GT = "&gt;".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] QUOT = "&quot;".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] APOS = "&#39;".getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] bytes;
+    private int length;
+
+    TemplateBuffer() {
+        this(INITIAL_CAPACITY);
+    }
+
+    TemplateBuffer(int capacity) {
+        this.bytes = new byte[Math.max(16, capacity)];
+    }
+
+    /**
+     * Buffer del hilo actual, vacío.
+     */
+    static TemplateBuffer local() {
+        TemplateBuffer buffer = LOCAL.get();
+        if (buffer.bytes.length > MAX_RETAINED_CAPACITY) {
+            buffer = new TemplateBuffer();
+            LOCAL.set(buffer);
+        }
+        buffer.reset();
+        return buffer;
+    }
+
+    void reset() {
+        length = 0;
+    }
+
+    int length() {
+        return length;
+    }
+
+    void ensureCapacity(int capacity) {
+        if (capacity > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+        }
+    }
+
+    void write(byte[] segment) {
+        ensureCapacity(length + segment.length);
+        System.arraycopy(segment, 0, bytes, length, segment.length);
+        length += segment.length;
+    }
+
+    /**
+     * Escribe el valor en UTF-8 escapando {@code & < > " '}.
+     */
+    void writeHtmlEscaped(String value) {
+        if (value == null) {
+            return;
+        }
+        // Peor caso: 6 bytes por carácter (&quot;)
+        ensureCapacity(length + value.length() * 6);
+        byte[] out = bytes;
+        int pos = length;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                byte[] entity = entity(c);
+                if (entity == null) {
+                    out[pos++] = (byte) c;
+                } else {
+                    System.arraycopy(entity, 0, out, pos, entity.length);
+                    pos += entity.length;
+                }
+            } else if (c < 0x800) {
+                out[pos++] = (byte) (0xC0 | (c >> 6));
+                out[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                out[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                out[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                out[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                out[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Surrogate huérfano: mismo reemplazo que String.getBytes
+                out[pos++] = '?';
+            } else {
+                out[pos++] = (byte) (0xE0 | (c >> 12));
+                out[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                out[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        length = pos;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, length);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] entity(char c) {
+        return switch (c) {
+            case '&' -> AMP;
+            case '<' -> LT;
+            case '>' -> GT;
+            case '"' -> QUOT;
+            case '\'' -> APOS;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,67 @@
+package co.com.atlas.notification;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompiledTemplateTest {
+
+    @Test
+    @DisplayName("Should fill repeated slots by parameter name")
+    void shouldFillRepeatedSlots() {
+        CompiledTemplate template = CompiledTemplate.compile(
+                "<a href=\"{{url}}\">{{ url }}</a> para {{name}}", "name", "url");
+
+        assertThat(new String(template.render("Ana", "https://atlas/x"), StandardCharsets.UTF_8))
+                .isEqualTo("<a href=\"https://atlas/x\">https://atlas/x</a> para Ana");
+    }
+
+    @Test
+    @DisplayName("Should escape HTML and encode non-ASCII values as UTF-8")
+    void shouldEscapeAndEncodeValues() {
+        CompiledTemplate template = CompiledTemplate.compile("<p>{{value}}</p>", "value");
+        String value = "Torre <B> & \"Ñandú\" 'apto' 🏠";
+
+        assertThat(new String(template.render(value), StandardCharsets.UTF_8))
+                .isEqualTo("<p>Torre &lt;B&gt; &amp; &quot;Ñandú&quot; &#39;apto&#39; 🏠</p>");
+        assertThat(new String(template.render((String) null), StandardCharsets.UTF_8)).isEqualTo("<p></p>");
+    }
+
+    @Test
+    @DisplayName("Should reject unknown slots and wrong value counts")
+    void shouldRejectInvalidTemplates() {
+        assertThatThrownBy(() -> CompiledTemplate.compile("{{missing}}", "value"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompiledTemplate.compile("{{value", "value"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompiledTemplate.compile("{{value}}", "value").render("a", "b"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should render the owner invitation exactly like the previous String.formatted version")
+    void shouldMatchPreviousOwnerInvitationOutput() {
+        String email = "owner@atlas.com";
+        String token = "6f1c2d3e-4b5a-4c6d-8e7f-901a2b3c4d5e";
+        String activationUrl = "https://app.atlasplatform.com/owner/activate";
+
+        byte[] rendered = EmailTemplates.OWNER_INVITATION.render(email, activationUrl + "?token=" + token);
+
+        assertThat(new String(rendered, StandardCharsets.UTF_8))
+                .isEqualTo(EmailTemplateRenderBenchmark.legacyOwnerInvitation(email, token, activationUrl));
+    }
+
+    @Test
+    @DisplayName("Should grow the reusable buffer when a render does not fit")
+    void shouldGrowBuffer() {
+        TemplateBuffer buffer = new TemplateBuffer(16);
+        CompiledTemplate.compile("{{value}}-{{value}}", "value").renderTo(buffer, "x".repeat(100));
+
+        assertThat(buffer.length()).isEqualTo(201);
+        assertThat(buffer.toString()).startsWith("xxx").contains("x-x");
+    }
+}
@@ -0,0 +1,140 @@
+package co.com.atlas.notification;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH: HTML de la invitación de propietario con {@code String.formatted} (implementación
+ * anterior) vs la plantilla precompilada.
+ * <p>
+ * Se ejecuta manualmente; {@code -prof gc} reporta además los bytes asignados por render:
+ * <pre>
+ * ./gradlew :notification:test --tests '*EmailTemplateRenderBenchmark' -Datlas.benchmark.jmh=true
+ * </pre>
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailTemplateRenderBenchmark {
+
+    private static final String EMAIL = "propietario.torre-b.apto-1204@example.com";
+    private static final String TOKEN = "6f1c2d3e-4b5a-4c6d-8e7f-901a2b3c4d5e";
+    private static final String ACTIVATION_URL = "https://app.atlasplatform.com/owner/activate";
+
+    private final TemplateBuffer buffer = new TemplateBuffer();
+
+    /** Implementación anterior: formatted sobre el text block y codificación a UTF-8 al armar el MIME. */
+    @Benchmark
+    public byte[] formatted() {
+        return legacyOwnerInvitation(EMAIL, TOKEN, ACTIVATION_URL).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** Plantilla precompilada con el buffer del hilo y copia final del resultado. */
+    @Benchmark
+    public byte[] compiled() {
+        return EmailTemplates.OWNER_INVITATION.render(EMAIL, ACTIVATION_URL + "?token=" + TOKEN);
+    }
+
+    /** Plantilla precompilada sin la copia final: costo del render en sí. */
+    @Benchmark
+    public int compiledIntoReusedBuffer() {
+        buffer.reset();
+        EmailTemplates.OWNER_INVITATION.renderTo(buffer, EMAIL, ACTIVATION_URL + "?token=" + TOKEN);
+        return buffer.length();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "atlas.benchmark.jmh", matches = "true")
+    void runBenchmarks() throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EmailTemplateRenderBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+
+    /** Copia de la implementación anterior de {@code buildOwnerInvitationEmail}, como línea base. */
+    static String legacyOwnerInvitation(String email, String token, String activationUrl) {
+        String fullActivationUrl = activationUrl + "?token=" + token;
+        
+        return """
+            <!DOCTYPE html>
+            <html>
+            <head>
+                <meta charset="UTF-8">
+                <style>
+                    body { font-family: Arial, sans-serif; background-color: #f4f4f4; margin: 0; padding: 20px; }
+                    .container { max-width: 600px; margin: 0 auto; background: white; border-radius: 8px; overflow: hidden; box-shadow: 0 2px 10px rgba(0,0,0,0.1); }
+                    .header { background: linear-gradient(135deg, #2E7D32, #43A047); color: white; padding: 30px; text-align: center; }
+                    .header h1 { margin: 0; font-size: 24px; }
+                    .content { padding: 30px; color: #333; }
+                    .btn { display: inline-block; background: #2E7D32; color: white !important; padding: 15px 30px; text-decoration: none; border-radius: 5px; margin: 20px 0; font-weight: bold; }
+                    .btn:hover { background: #1B5E20; }
+                    .info-box { background: #E8F5E9; padding: 15px; border-radius: 5px; margin: 20px 0; border-left: 4px solid #43A047; }
+                    .footer { background: #f8f8f8; padding: 20px; text-align: center; font-size: 12px; color: #666; }
+                </style>
+            </head>
+            <body>
+                <div class="container">
+                    <div class="header">
+                        <h1>🏠 Bienvenido a tu nuevo hogar</h1>
+                    </div>
+                    <div class="content">
+                        <h2>¡Has sido invitado como propietario!</h2>
+                        <p>Te damos la bienvenida a la plataforma de gestión de tu residencia.</p>
+                        
+                        <div class="info-box">
+                            <p><strong>Email:</strong> %s</p>
+                        </div>
+                        
+                        <p>Para activar tu cuenta y comenzar a usar la plataforma:</p>
+                        
+                        <div style="text-align: center;">
+                            <a href="%s" class="btn">Activar mi cuenta</a>
+                        </div>
+                        
+                        <p style="font-size: 12px; color: #666;">
+                            Si no puedes hacer clic en el botón, copia y pega este enlace en tu navegador:<br>
+                            <span style="word-break: break-all;">%s</span>
+                        </p>
+                        
+                        <div class="info-box">
+                            <h3>¿Qué podrás hacer?</h3>
+                            <ul>
+                                <li>Gestionar tu unidad residencial</li>
+                                <li>Registrar vehículos</li>
+                                <li>Autorizar visitas</li>
+                                <li>Recibir notificaciones de la administración</li>
+                            </ul>
+                        </div>
+                    </div>
+                    <div class="footer">
+                        <p>Este correo fue enviado automáticamente. Por favor no responder.</p>
+                        <p>© 2026 Atlas Platform. Todos los derechos reservados.</p>
+                    </div>
+                </div>
+            </body>
+            </html>
+            """.formatted(email, fullActivationUrl, fullActivationUrl);
+    }
+}
@@ -17,7 +17,7 @@ import java.time.Instant;
 @Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
-@Table("access_code")
+@Table("access_codes")
 public class AccessCodeEntity {
     
     @Id
@@ -26,6 +26,9 @@ public class AccessCodeEntity {
     @Column("visit_request_id")
     private Long visitRequestId;
     
+    @Column("organization_id")
+    private Long organizationId;
+    
     @Column("code_hash")
     private String codeHash;
     
@@ -37,6 +40,9 @@ public class AccessCodeEntity {
     @Column("entries_used")
     private Integer entriesUsed;
     
+    @Column("max_entries")
+    private Integer maxEntries;
+    
     @Column("valid_from")
     private Instant validFrom;
     
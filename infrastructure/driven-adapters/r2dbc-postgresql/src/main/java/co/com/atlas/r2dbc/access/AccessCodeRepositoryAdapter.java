@@ -5,6 +5,7 @@ import co.com.atlas.model.access.AccessCodeStatus;
 import co.com.atlas.model.access.CodeType;
 import co.com.atlas.model.access.gateways.AccessCodeRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -18,7 +19,33 @@ import java.time.Instant;
 @RequiredArgsConstructor
 public class AccessCodeRepositoryAdapter implements AccessCodeRepository {
 
+    /**
+     * Incremento condicional en una sola sentencia y sin joins (max_entries está copiado en el código).
+     * MySQL evalúa las asignaciones de un UPDATE de una tabla de izquierda a derecha, así que la última
+     * asignación ve el contador ya incrementado.
+     * <p>
+     * MySQL no tiene RETURNING: la última asignación calcula el resultado de la entrada como
+     * {@code id * 2 + (1 si el código quedó agotado)} y lo guarda con {@code LAST_INSERT_ID(expr)}, que
+     * viaja en el OK packet del UPDATE; el bit bajo decide además el nuevo {@code status}. Si ninguna
+     * fila cumple la condición la expresión no se evalúa y el valor devuelto es 0
+     * (ver {@link #toAdmittedCode}).
+     * </p>
+     */
+    static final String REGISTER_ENTRY_SQL = """
+            UPDATE access_codes
+            SET entries_used = entries_used + 1,
+                updated_at = :now,
+                status = IF(LAST_INSERT_ID(id * 2 + (entries_used >= COALESCE(max_entries, 2147483647))) % 2 = 1,
+                            'USED', status)
+            WHERE code_hash = :codeHash
+              AND status = 'ACTIVE'
+              AND valid_from <= :now
+              AND valid_until >= :now
+              AND entries_used < COALESCE(max_entries, 2147483647)
+            """;
+
     private final AccessCodeReactiveRepository repository;
+    private final DatabaseClient databaseClient;
 
     @Override
     public Mono<AccessCode> findById(Long id) {
@@ -55,6 +82,42 @@ public class AccessCodeRepositoryAdapter implements AccessCodeRepository {
                 .map(this::toDomain);
     }
 
+    @Override
+    public Flux<String> findActiveCodeHashesByOrganizationId(Long organizationId) {
+        return databaseClient.sql("""
+                        SELECT code_hash FROM access_codes
+                        WHERE organization_id = :organizationId AND status = 'ACTIVE'
+                        """)
+                .bind("organizationId", organizationId)
+                .map((row, metadata) -> row.get("code_hash", String.class))
+                .all();
+    }
+
+    @Override
+    public Mono<AccessCode> registerEntry(String codeHash, Instant now) {
+        return databaseClient.sql(REGISTER_ENTRY_SQL)
+                .bind("codeHash", codeHash)
+                .bind("now", now)
+                .filter((statement, next) -> next.execute(statement.returnGeneratedValues("entry_state")))
+                .map((row, metadata) -> row.get(0, Long.class))
+                .first()
+                .filter(state -> state != null && state > 0)
+                .map(state -> toAdmittedCode(state, codeHash, now));
+    }
+
+    /**
+     * Decodifica el valor de {@code LAST_INSERT_ID} de {@link #REGISTER_ENTRY_SQL}:
+     * {@code id * 2 + (1 si quedó USED)}.
+     */
+    static AccessCode toAdmittedCode(long entryState, String codeHash, Instant now) {
+        return AccessCode.builder()
+                .id(entryState >> 1)
+                .codeHash(codeHash)
+                .status((entryState & 1) == 1 ? AccessCodeStatus.USED : AccessCodeStatus.ACTIVE)
+                .updatedAt(now)
+                .build();
+    }
+
     @Override
     public Mono<Void> delete(Long id) {
         return repository.deleteById(id);
@@ -69,11 +132,13 @@ public class AccessCodeRepositoryAdapter implements AccessCodeRepository {
         return AccessCode.builder()
                 .id(entity.getId())
                 .visitRequestId(entity.getVisitRequestId())
+                .organizationId(entity.getOrganizationId())
                 .codeHash(entity.getCodeHash())
                 .rawCode(null) // Never store raw code, only hash
                 .codeType(entity.getCodeType() != null ? CodeType.valueOf(entity.getCodeType()) : null)
                 .status(entity.getStatus() != null ? AccessCodeStatus.valueOf(entity.getStatus()) : null)
                 .entriesUsed(entity.getEntriesUsed())
+                .maxEntries(entity.getMaxEntries())
                 .validFrom(entity.getValidFrom())
                 .validUntil(entity.getValidUntil())
                 .createdAt(entity.getCreatedAt())
@@ -85,10 +150,12 @@ public class AccessCodeRepositoryAdapter implements AccessCodeRepository {
         return AccessCodeEntity.builder()
                 .id(accessCode.getId())
                 .visitRequestId(accessCode.getVisitRequestId())
+                .organizationId(accessCode.getOrganizationId())
                 .codeHash(accessCode.getCodeHash())
                 .codeType(accessCode.getCodeType() != null ? accessCode.getCodeType().name() : null)
                 .status(accessCode.getStatus() != null ? accessCode.getStatus().name() : null)
                 .entriesUsed(accessCode.getEntriesUsed())
+                .maxEntries(accessCode.getMaxEntries())
                 .validFrom(accessCode.getValidFrom())
                 .validUntil(accessCode.getValidUntil())
                 .createdAt(accessCode.getCreatedAt())
@@ -0,0 +1,280 @@
+package co.com.atlas.r2dbc.access;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Escritor por lotes para access_events basado en INSERT multi-fila.
+ * <p>
+ * Cada chunk de hasta {@code chunkSize} eventos se inserta con una sola sentencia
+ * {@code INSERT ... VALUES (...), (...), ...}: un round-trip y una transacción implícita por chunk
+ * (la sentencia es atómica). Los IDs se obtienen de LAST_INSERT_ID, que MySQL reporta para la
+ * primera fila; las filas de una misma sentencia reciben IDs consecutivos con
+ * {@code auto_increment_increment = 1}.
+ * </p>
+ * <p>
+ * Los eventos con {@code client_event_id} se deduplican con la tabla no particionada
+ * {@code access_event_client_ids} (V25), por organización y UUID: los reintentos del dispositivo no
+ * duplican filas y reciben el evento original, en el orden en que se enviaron.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AccessEventBatchWriter {
+
+    static final String[] COLUMNS = {
+            "client_event_id", "organization_id", "authorization_id", "porter_user_id", "device_id", "action", "scan_result",
+            "person_name", "person_document", "vehicle_plate", "vehicle_match", "offline_validated", "notes",
+            "scanned_at", "synced_at", "created_at"
+    };
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final int chunkSize;
+
+    public AccessEventBatchWriter(
+            DatabaseClient databaseClient,
+            TransactionalOperator transactionalOperator,
+            @Value("${adapters.r2dbc.batch.access-events-chunk-size:500}") int chunkSize) {
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = transactionalOperator;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Inserta las entidades en chunks secuenciales y las retorna con el ID asignado, en el mismo orden.
+     */
+    public Flux<AccessEventEntity> insertAll(List<AccessEventEntity> entities) {
+        if (entities.isEmpty()) {
+            return Flux.empty();
+        }
+        List<List<AccessEventEntity>> chunks = new ArrayList<>();
+        for (int i = 0; i < entities.size(); i += chunkSize) {
+            chunks.add(entities.subList(i, Math.min(i + chunkSize, entities.size())));
+        }
+        return Flux.fromIterable(chunks)
+                .concatMap(this::insertChunk);
+    }
+
+    private Flux<AccessEventEntity> insertChunk(List<AccessEventEntity> chunk) {
+        List<AccessEventEntity> keyed = chunk.stream().filter(e -> e.getClientEventId() != null).toList();
+        List<AccessEventEntity> unkeyed = chunk.stream().filter(e -> e.getClientEventId() == null).toList();
+        return Flux.concat(
+                keyed.isEmpty() ? Flux.empty() : insertIdempotent(keyed),
+                unkeyed.isEmpty() ? Flux.empty() : insertWithGeneratedIds(unkeyed));
+    }
+
+    private Flux<AccessEventEntity> insertIdempotent(List<AccessEventEntity> chunk) {
+        Map<Long, List<AccessEventEntity>> byOrganization = chunk.stream()
+                .collect(Collectors.groupingBy(AccessEventEntity::getOrganizationId, LinkedHashMap::new, Collectors.toList()));
+        return Flux.fromIterable(byOrganization.entrySet())
+                .concatMap(entry -> insertIdempotent(entry.getKey(), entry.getValue()))
+                .collectList()
+                .flatMapIterable(stored -> inSubmissionOrder(chunk, stored));
+    }
+
+    /**
+     * Inserta los eventos nuevos de una organización y relee todos por UUID, en una transacción.
+     * <p>
+     * Primero reserva los UUID en {@code access_event_client_ids} (PK organización + UUID) con un
+     * upsert no-op y un token propio; solo los que quedan con ese token son nuevos y se insertan en
+     * access_events. Un reintento concurrente del mismo UUID espera el bloqueo de la fila y luego la
+     * encuentra reservada. La relectura pasa por la tabla de deduplicación, así que siempre retorna
+     * una fila por UUID aunque el reintento traiga otro {@code scanned_at}.
+     * </p>
+     */
+    private Flux<AccessEventEntity> insertIdempotent(Long organizationId, List<AccessEventEntity> events) {
+        Map<String, AccessEventEntity> firstByClientId = new LinkedHashMap<>();
+        events.forEach(event -> firstByClientId.putIfAbsent(event.getClientEventId(), event));
+        List<String> clientEventIds = List.copyOf(firstByClientId.keySet());
+        String token = UUID.randomUUID().toString();
+        return claim(organizationId, clientEventIds, token)
+                .thenMany(databaseClient.sql("SELECT client_event_id FROM access_event_client_ids WHERE claim_token = :token")
+                        .bind("token", token)
+                        .map((row, metadata) -> row.get("client_event_id", String.class))
+                        .all())
+                .collect(Collectors.toSet())
+                .flatMapMany(claimed -> {
+                    List<AccessEventEntity> fresh = firstByClientId.values().stream()
+                            .filter(event -> claimed.contains(event.getClientEventId()))
+                            .toList();
+                    log.debug("Inserting {} of {} access events ({} duplicates ignored)",
+                            fresh.size(), events.size(), events.size() - fresh.size());
+                    return fresh.isEmpty() ? Flux.empty() : insertWithGeneratedIds(fresh);
+                })
+                .collectList()
+                .flatMap(inserted -> inserted.isEmpty() ? Mono.<Void>empty() : recordEventIds(organizationId, inserted))
+                .thenMany(databaseClient.sql("""
+                                SELECT e.* FROM access_event_client_ids d
+                                JOIN access_events e ON e.id = d.access_event_id AND e.scanned_at = d.scanned_at
+                                WHERE d.organization_id = :organizationId AND d.client_event_id IN (:ids)
+                                """)
+                        .bind("organizationId", organizationId)
+                        .bind("ids", clientEventIds)
+                        .map((row, metadata) -> AccessEventRows.toEntity(row))
+                        .all())
+                .as(transactionalOperator::transactional);
+    }
+
+    private Mono<Void> claim(Long organizationId, List<String> clientEventIds, String token) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(buildClaim(clientEventIds.size()))
+                .bind("organizationId", organizationId)
+                .bind("token", token);
+        for (int i = 0; i < clientEventIds.size(); i++) {
+            spec = spec.bind("c" + i, clientEventIds.get(i));
+        }
+        return spec.then();
+    }
+
+    private Mono<Void> recordEventIds(Long organizationId, List<AccessEventEntity> inserted) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(buildRecordEventIds(inserted.size()))
+                .bind("organizationId", organizationId);
+        for (int i = 0; i < inserted.size(); i++) {
+            AccessEventEntity event = inserted.get(i);
+            spec = spec.bind("c" + i, event.getClientEventId())
+                    .bind("e" + i, event.getId());
+            spec = event.getScannedAt() != null
+                    ? spec.bind("s" + i, event.getScannedAt())
+                    : spec.bindNull("s" + i, Instant.class);
+        }
+        return spec.then();
+    }
+
+    /**
+     * Reserva de UUID: las filas existentes quedan intactas ({@code claim_token = claim_token}).
+     */
+    static String buildClaim(int rows) {
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO access_event_client_ids (organization_id, client_event_id, claim_token) VALUES ");
+        for (int row = 0; row < rows; row++) {
+            sql.append(row > 0 ? ", " : "").append("(:organizationId, :c").append(row).append(", :token)");
+        }
+        return sql.append(" ON DUPLICATE KEY UPDATE claim_token = claim_token").toString();
+    }
+
+    /**
+     * Asocia cada UUID reservado con el evento insertado y libera la reserva.
+     */
+    static String buildRecordEventIds(int rows) {
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO access_event_client_ids (organization_id, client_event_id, access_event_id, scanned_at) VALUES ");
+        for (int row = 0; row < rows; row++) {
+            sql.append(row > 0 ? ", " : "")
+                    .append("(:organizationId, :c").append(row).append(", :e").append(row).append(", :s").append(row).append(')');
+        }
+        return sql.append(" ON DUPLICATE KEY UPDATE access_event_id = VALUES(access_event_id),")
+                .append(" scanned_at = VALUES(scanned_at), claim_token = NULL")
+                .toString();
+    }
+
+    /**
+     * Ordena los eventos releídos según el lote enviado (la relectura llega en orden de índice);
+     * un UUID repetido dentro del lote se retorna una sola vez, en su primera posición.
+     */
+    static List<AccessEventEntity> inSubmissionOrder(List<AccessEventEntity> submitted,
+                                                     List<AccessEventEntity> stored) {
+        Map<String, AccessEventEntity> byKey = new HashMap<>();
+        stored.forEach(event -> byKey.putIfAbsent(key(event), event));
+        List<AccessEventEntity> ordered = new ArrayList<>(stored.size());
+        for (AccessEventEntity event : submitted) {
+            AccessEventEntity match = byKey.remove(key(event));
+            if (match != null) {
+                ordered.add(match);
+            }
+        }
+        return ordered;
+    }
+
+    private static String key(AccessEventEntity event) {
+        return event.getOrganizationId() + ":" + event.getClientEventId();
+    }
+
+    private Flux<AccessEventEntity> insertWithGeneratedIds(List<AccessEventEntity> chunk) {
+        DatabaseClient.GenericExecuteSpec spec = bindRows(databaseClient.sql(buildInsert(chunk.size())), chunk)
+                .filter((statement, next) -> next.execute(statement.returnGeneratedValues("id")));
+        return spec.map((row, metadata) -> row.get("id", Long.class))
+                .first()
+                .switchIfEmpty(Mono.error(new IllegalStateException("INSERT sin ID generado")))
+                .flatMapMany(firstId -> Flux.range(0, chunk.size())
+                        .map(assignId(chunk, firstId)))
+                .doOnComplete(() -> log.debug("Inserted {} access events in one statement", chunk.size()));
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindRows(DatabaseClient.GenericExecuteSpec spec,
+                                                              List<AccessEventEntity> chunk) {
+        for (int row = 0; row < chunk.size(); row++) {
+            Object[] values = values(chunk.get(row));
+            for (int col = 0; col < COLUMNS.length; col++) {
+                String name = paramName(row, col);
+                spec = values[col] != null
+                        ? spec.bind(name, values[col])
+                        : spec.bindNull(name, columnType(col));
+            }
+        }
+        return spec;
+    }
+
+    private static Function<Integer, AccessEventEntity> assignId(List<AccessEventEntity> chunk, Long firstId) {
+        return index -> chunk.get(index).toBuilder().id(firstId + index).build();
+    }
+
+    /**
+     * Construye la sentencia INSERT multi-fila con parámetros nombrados {@code :p<fila>_<columna>}.
+     */
+    static String buildInsert(int rows) {
+        StringBuilder sql = new StringBuilder("INSERT INTO access_events (")
+                .append(String.join(", ", COLUMNS))
+                .append(") VALUES ");
+        for (int row = 0; row < rows; row++) {
+            if (row > 0) {
+                sql.append(", ");
+            }
+            sql.append('(');
+            for (int col = 0; col < COLUMNS.length; col++) {
+                if (col > 0) {
+                    sql.append(", ");
+                }
+                sql.append(':').append(paramName(row, col));
+            }
+            sql.append(')');
+        }
+        return sql.toString();
+    }
+
+    private static String paramName(int row, int col) {
+        return "p" + row + "_" + col;
+    }
+
+    private static Object[] values(AccessEventEntity e) {
+        return new Object[]{
+                e.getClientEventId(), e.getOrganizationId(), e.getAuthorizationId(), e.getPorterUserId(), e.getDeviceId(),
+                e.getAction(), e.getScanResult(), e.getPersonName(), e.getPersonDocument(),
+                e.getVehiclePlate(), e.getVehicleMatch(), e.isOfflineValidated(), e.getNotes(),
+                e.getScannedAt(), e.getSyncedAt(), e.getCreatedAt()
+        };
+    }
+
+    private static Class<?> columnType(int col) {
+        return switch (COLUMNS[col]) {
+            case "organization_id", "authorization_id", "porter_user_id" -> Long.class;
+            case "vehicle_match", "offline_validated" -> Boolean.class;
+            case "scanned_at", "synced_at", "created_at" -> Instant.class;
+            default -> String.class;
+        };
+    }
+}
@@ -24,6 +24,9 @@ public class AccessEventEntity {
     @Id
     private Long id;
 
+    @Column("client_event_id")
+    private String clientEventId;
+
     @Column("organization_id")
     private Long organizationId;
 
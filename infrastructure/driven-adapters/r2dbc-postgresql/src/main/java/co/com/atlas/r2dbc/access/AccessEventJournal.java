@@ -0,0 +1,488 @@
+package co.com.atlas.r2dbc.access;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Journal write-behind de eventos de acceso para el hot path de validación en portería.
+ * <p>
+ * Los eventos se agregan a segmentos de tamaño fijo mapeados en memoria
+ * ({@code segment-<n>.journal}); cada registro es {@code [longitud][crc32][payload]}. Un hilo
+ * de fsync fuerza los segmentos sucios cada {@code fsync-interval} y completa en bloque a todos
+ * los escritores que esperaban: el veredicto del portero depende de un fsync agrupado y no de la
+ * latencia de MySQL. Un segundo hilo drena lo ya durable con {@link AccessEventBatchWriter} y
+ * avanza el archivo {@code checkpoint}; los segmentos drenados se eliminan.
+ * </p>
+ * <p>
+ * Tras una caída, el journal reanuda desde el checkpoint y descarta la cola de registros
+ * incompletos (CRC inválido). Cada evento lleva {@code client_event_id}, así que reinsertar
+ * registros ya drenados (checkpoint perdido o caída entre el INSERT y el checkpoint) no duplica filas.
+ * </p>
+ * <p>
+ * El journal está acotado a {@code max-segments}: si está lleno {@link #append} retorna
+ * {@code false} y el llamador debe persistir el evento de forma síncrona.
+ * Publica {@code access.journal.appended}, {@code access.journal.drained},
+ * {@code access.journal.rejected}, {@code access.journal.drain.failures},
+ * {@code access.journal.segments} y {@code access.journal.fsync.batch}.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AccessEventJournal implements DisposableBean {
+
+    static final String SEGMENT_PREFIX = "segment-";
+    static final String SEGMENT_SUFFIX = ".journal";
+    static final String CHECKPOINT_FILE = "checkpoint";
+    private static final int HEADER_BYTES = 8;
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final AccessEventBatchWriter batchWriter;
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final int drainBatchSize;
+
+    private final NavigableMap<Long, MappedByteBuffer> segments = new TreeMap<>();
+    private final Set<Long> dirtySegments = new HashSet<>();
+    private List<MonoSink<Boolean>> pendingFsync = new ArrayList<>();
+    private long writeSeq;
+    private int writePosition;
+    private long durableSeq;
+    private int durablePosition;
+    private boolean closed;
+
+    // Estado del lector: solo lo usa el hilo de drenado (y la recuperación antes de iniciarlo).
+    private long readSeq;
+    private int readPosition;
+
+    private final ScheduledExecutorService scheduler;
+    private final Counter appended;
+    private final Counter drained;
+    private final Counter rejected;
+    private final Counter drainFailures;
+    private final DistributionSummary fsyncBatch;
+
+    public AccessEventJournal(
+            AccessEventBatchWriter batchWriter,
+            MeterRegistry meterRegistry,
+            @Value("${atlas.porter.write-behind.enabled:false}") boolean enabled,
+            @Value("${atlas.porter.write-behind.directory:./data/access-journal}") String directory,
+            @Value("${atlas.porter.write-behind.segment-size:8MB}") DataSize segmentSize,
+            @Value("${atlas.porter.write-behind.max-segments:16}") int maxSegments,
+            @Value("${atlas.porter.write-behind.fsync-interval:PT0.01S}") Duration fsyncInterval,
+            @Value("${atlas.porter.write-behind.drain-interval:PT0.5S}") Duration drainInterval,
+            @Value("${atlas.porter.write-behind.drain-batch-size:500}") int drainBatchSize) {
+        this.batchWriter = batchWriter;
+        this.enabled = enabled;
+        this.directory = Path.of(directory);
+        this.segmentSize = (int) Math.min(Integer.MAX_VALUE, segmentSize.toBytes());
+        this.maxSegments = Math.max(2, maxSegments);
+        this.drainBatchSize = Math.max(1, drainBatchSize);
+        this.appended = Counter.builder("access.journal.appended")
+                .description("Eventos de acceso escritos en el journal write-behind")
+                .register(meterRegistry);
+        this.drained = Counter.builder("access.journal.drained")
+                .description("Eventos del journal insertados en base de datos")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("access.journal.rejected")
+                .description("Eventos persistidos de forma síncrona por journal lleno o con error")
+                .register(meterRegistry);
+        this.drainFailures = Counter.builder("access.journal.drain.failures")
+                .description("Intentos de drenado fallidos")
+                .register(meterRegistry);
+        this.fsyncBatch = DistributionSummary.builder("access.journal.fsync.batch")
+                .description("Escrituras confirmadas por cada fsync")
+                .register(meterRegistry);
+        Gauge.builder("access.journal.segments", this, AccessEventJournal::pendingSegments)
+                .description("Segmentos del journal pendientes de drenar")
+                .register(meterRegistry);
+
+        if (!enabled) {
+            this.scheduler = null;
+            return;
+        }
+        try {
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir el journal de eventos de acceso en " + directory, e);
+        }
+        this.scheduler = Executors.newScheduledThreadPool(2, namedThreadFactory());
+        scheduler.scheduleAtFixedRate(this::flushSafely,
+                fsyncInterval.toNanos(), fsyncInterval.toNanos(), TimeUnit.NANOSECONDS);
+        scheduler.scheduleWithFixedDelay(this::drainSafely,
+                drainInterval.toNanos(), drainInterval.toNanos(), TimeUnit.NANOSECONDS);
+        log.info("Access event journal enabled: directory={}, segmentSize={}, maxSegments={}",
+                this.directory.toAbsolutePath(), this.segmentSize, this.maxSegments);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Agrega el evento al journal. Completa con {@code true} cuando el registro es durable
+     * (tras el siguiente fsync agrupado) o con {@code false} si el llamador debe persistirlo
+     * directamente (journal deshabilitado, lleno o con error de E/S).
+     */
+    public Mono<Boolean> append(AccessEventEntity entity) {
+        if (!enabled) {
+            return Mono.just(false);
+        }
+        return Mono.create(sink -> {
+            byte[] payload = AccessEventJournalCodec.encode(entity);
+            if (!tryWrite(payload, sink)) {
+                rejected.increment();
+                sink.success(false);
+            }
+        });
+    }
+
+    private synchronized boolean tryWrite(byte[] payload, MonoSink<Boolean> sink) {
+        int recordSize = HEADER_BYTES + payload.length;
+        if (closed || recordSize > segmentSize) {
+            return false;
+        }
+        MappedByteBuffer buffer = segments.get(writeSeq);
+        if (writePosition + recordSize > buffer.capacity()) {
+            if (segments.size() >= maxSegments) {
+                log.warn("Access event journal full: segments={}, falling back to synchronous insert",
+                        segments.size());
+                return false;
+            }
+            try {
+                buffer = openSegment(writeSeq + 1);
+            } catch (IOException e) {
+                log.error("Could not roll access event journal segment: {}", e.getMessage());
+                return false;
+            }
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        buffer.putInt(writePosition + 4, (int) crc.getValue());
+        buffer.put(writePosition + HEADER_BYTES, payload);
+        // La longitud se escribe al final: un registro sin longitud no existe para el lector.
+        buffer.putInt(writePosition, payload.length);
+        writePosition += recordSize;
+        dirtySegments.add(writeSeq);
+        pendingFsync.add(sink);
+        appended.increment();
+        return true;
+    }
+
+    /**
+     * Fuerza a disco los segmentos modificados y confirma a los escritores en espera.
+     */
+    void flush() {
+        List<MonoSink<Boolean>> waiting;
+        List<MappedByteBuffer> toForce;
+        long seq;
+        int position;
+        synchronized (this) {
+            if (pendingFsync.isEmpty() && dirtySegments.isEmpty()) {
+                return;
+            }
+            waiting = pendingFsync;
+            pendingFsync = new ArrayList<>();
+            toForce = dirtySegments.stream().map(segments::get).filter(Objects::nonNull).toList();
+            dirtySegments.clear();
+            seq = writeSeq;
+            position = writePosition;
+        }
+        try {
+            toForce.forEach(MappedByteBuffer::force);
+        } catch (UncheckedIOException e) {
+            log.error("Access event journal fsync failed, {} events fall back to synchronous insert: {}",
+                    waiting.size(), e.getMessage());
+            rejected.increment(waiting.size());
+            waiting.forEach(sink -> sink.success(false));
+            return;
+        }
+        synchronized (this) {
+            durableSeq = seq;
+            durablePosition = position;
+        }
+        fsyncBatch.record(waiting.size());
+        waiting.forEach(sink -> sink.success(true));
+    }
+
+    /**
+     * Inserta en base de datos hasta {@code drain-batch-size} registros durables y avanza el checkpoint.
+     *
+     * @return registros drenados; 0 si no había pendientes o la inserción falló
+     */
+    int drain() {
+        long limitSeq;
+        int limitPosition;
+        MappedByteBuffer buffer;
+        synchronized (this) {
+            limitSeq = durableSeq;
+            limitPosition = durablePosition;
+            buffer = segments.get(readSeq);
+        }
+        long seq = readSeq;
+        int position = readPosition;
+        List<Long> finished = new ArrayList<>();
+        List<AccessEventEntity> batch = new ArrayList<>();
+        while (batch.size() < drainBatchSize && buffer != null) {
+            int limit = seq == limitSeq ? limitPosition : buffer.capacity();
+            int length = recordLength(buffer, position, limit);
+            if (length > 0) {
+                batch.add(AccessEventJournalCodec.decode(
+                        buffer.slice(position + HEADER_BYTES, length)));
+                position += HEADER_BYTES + length;
+            } else if (seq < limitSeq) {
+                finished.add(seq);
+                synchronized (this) {
+                    Long next = segments.higherKey(seq);
+                    seq = next != null ? next : seq;
+                    buffer = next != null ? segments.get(next) : null;
+                }
+                position = 0;
+            } else {
+                break;
+            }
+        }
+        if (batch.isEmpty() && finished.isEmpty()) {
+            return 0;
+        }
+        if (!batch.isEmpty()) {
+            try {
+                batchWriter.insertAll(batch).then().block(DRAIN_TIMEOUT);
+            } catch (RuntimeException e) {
+                drainFailures.increment();
+                log.warn("Access event journal drain failed, {} events will be retried: {}",
+                        batch.size(), e.getMessage());
+                return 0;
+            }
+        }
+        readSeq = seq;
+        readPosition = position;
+        writeCheckpoint();
+        finished.forEach(this::deleteSegment);
+        drained.increment(batch.size());
+        return batch.size();
+    }
+
+    /**
+     * Longitud del payload del registro en {@code position}, o 0 si no hay un registro completo y válido.
+     */
+    private static int recordLength(ByteBuffer buffer, int position, int limit) {
+        if (position + HEADER_BYTES > limit) {
+            return 0;
+        }
+        int length = buffer.getInt(position);
+        if (length <= 0 || position + HEADER_BYTES + length > limit) {
+            return 0;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(position + HEADER_BYTES, length));
+        return (int) crc.getValue() == buffer.getInt(position + 4) ? length : 0;
+    }
+
+    private void recover() throws IOException {
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                String name = file.getFileName().toString();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    long seq = Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                            name.length() - SEGMENT_SUFFIX.length()));
+                    segments.put(seq, map(file, Math.max(Files.size(file), segmentSize)));
+                }
+            }
+        }
+        long[] checkpoint = readCheckpoint();
+        if (checkpoint != null) {
+            // Segmentos anteriores al checkpoint ya fueron drenados (caída antes de eliminarlos).
+            for (Long seq : List.copyOf(segments.headMap(checkpoint[0]).keySet())) {
+                deleteSegment(seq);
+            }
+        }
+        if (segments.isEmpty()) {
+            openSegment(checkpoint != null ? checkpoint[0] : 1L);
+            readSeq = writeSeq;
+            readPosition = 0;
+        } else {
+            writeSeq = segments.lastKey();
+            MappedByteBuffer last = segments.get(writeSeq);
+            writePosition = validEnd(last);
+            // Limpia restos de registros incompletos para que no reaparezcan tras nuevas escrituras.
+            for (int i = writePosition; i < last.capacity(); i++) {
+                last.put(i, (byte) 0);
+            }
+            last.force();
+            if (checkpoint != null && segments.containsKey(checkpoint[0])) {
+                readSeq = checkpoint[0];
+                readPosition = (int) checkpoint[1];
+            } else {
+                readSeq = segments.firstKey();
+                readPosition = 0;
+            }
+            if (readSeq == writeSeq && readPosition > writePosition) {
+                readPosition = writePosition;
+            }
+        }
+        durableSeq = writeSeq;
+        durablePosition = writePosition;
+        log.info("Access event journal recovered: segments={}, resuming at segment {} offset {}",
+                segments.size(), readSeq, readPosition);
+    }
+
+    private static int validEnd(ByteBuffer buffer) {
+        int position = 0;
+        int length;
+        while ((length = recordLength(buffer, position, buffer.capacity())) > 0) {
+            position += HEADER_BYTES + length;
+        }
+        return position;
+    }
+
+    private MappedByteBuffer openSegment(long seq) throws IOException {
+        MappedByteBuffer buffer = map(segmentPath(seq), segmentSize);
+        segments.put(seq, buffer);
+        writeSeq = seq;
+        writePosition = 0;
+        return buffer;
+    }
+
+    private static MappedByteBuffer map(Path file, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private void deleteSegment(long seq) {
+        synchronized (this) {
+            if (seq == writeSeq) {
+                return;
+            }
+            segments.remove(seq);
+            dirtySegments.remove(seq);
+        }
+        try {
+            Files.deleteIfExists(segmentPath(seq));
+        } catch (IOException e) {
+            log.warn("Could not delete drained journal segment {}: {}", seq, e.getMessage());
+        }
+    }
+
+    private Path segmentPath(long seq) {
+        return directory.resolve(SEGMENT_PREFIX + String.format("%020d", seq) + SEGMENT_SUFFIX);
+    }
+
+    private long[] readCheckpoint() throws IOException {
+        Path file = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (data.remaining() < Long.BYTES + Integer.BYTES) {
+            log.warn("Ignoring truncated journal checkpoint, replaying from the oldest segment");
+            return null;
+        }
+        return new long[]{data.getLong(), data.getInt()};
+    }
+
+    private void writeCheckpoint() {
+        Path tmp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        ByteBuffer data = ByteBuffer.allocate(Long.BYTES + Integer.BYTES).putLong(readSeq).putInt(readPosition).flip();
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(data);
+            channel.force(true);
+        } catch (IOException e) {
+            // Sin checkpoint se reinsertan registros ya drenados; client_event_id evita duplicados.
+            log.warn("Could not write journal checkpoint: {}", e.getMessage());
+            return;
+        }
+        try {
+            Files.move(tmp, directory.resolve(CHECKPOINT_FILE),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("Could not replace journal checkpoint: {}", e.getMessage());
+        }
+    }
+
+    synchronized int pendingSegments() {
+        return segments.size();
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Unexpected error flushing access event journal", e);
+        }
+    }
+
+    private void drainSafely() {
+        try {
+            while (drain() == drainBatchSize) {
+                // Continúa mientras haya lotes completos pendientes.
+            }
+        } catch (RuntimeException e) {
+            log.error("Unexpected error draining access event journal", e);
+        }
+    }
+
+    private static ThreadFactory namedThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "access-journal-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Detiene los hilos y confirma las escrituras pendientes; lo no drenado se reanuda al reiniciar.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            closed = true;
+        }
+        scheduler.shutdown();
+        scheduler.awaitTermination(DRAIN_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        flush();
+    }
+}
@@ -0,0 +1,120 @@
+package co.com.atlas.r2dbc.access;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Codificación binaria compacta de {@link AccessEventEntity} para el journal write-behind.
+ * <p>
+ * Campos en orden fijo; cada campo anulable va precedido de un byte de presencia.
+ * Cualquier cambio de formato debe incrementar {@link #VERSION}.
+ * </p>
+ */
+final class AccessEventJournalCodec {
+
+    static final byte VERSION = 1;
+
+    private AccessEventJournalCodec() {
+    }
+
+    static byte[] encode(AccessEventEntity e) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            writeString(out, e.getClientEventId());
+            writeLong(out, e.getOrganizationId());
+            writeLong(out, e.getAuthorizationId());
+            writeLong(out, e.getPorterUserId());
+            writeString(out, e.getDeviceId());
+            writeString(out, e.getAction());
+            writeString(out, e.getScanResult());
+            writeString(out, e.getPersonName());
+            writeString(out, e.getPersonDocument());
+            writeString(out, e.getVehiclePlate());
+            out.writeByte(e.getVehicleMatch() == null ? -1 : (e.getVehicleMatch() ? 1 : 0));
+            out.writeBoolean(e.isOfflineValidated());
+            writeString(out, e.getNotes());
+            writeInstant(out, e.getScannedAt());
+            writeInstant(out, e.getSyncedAt());
+            writeInstant(out, e.getCreatedAt());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    static AccessEventEntity decode(ByteBuffer in) {
+        byte version = in.get();
+        if (version != VERSION) {
+            throw new IllegalStateException("Versión de registro de journal no soportada: " + version);
+        }
+        AccessEventEntity.AccessEventEntityBuilder builder = AccessEventEntity.builder()
+                .clientEventId(readString(in))
+                .organizationId(readLong(in))
+                .authorizationId(readLong(in))
+                .porterUserId(readLong(in))
+                .deviceId(readString(in))
+                .action(readString(in))
+                .scanResult(readString(in))
+                .personName(readString(in))
+                .personDocument(readString(in))
+                .vehiclePlate(readString(in));
+        byte vehicleMatch = in.get();
+        return builder
+                .vehicleMatch(vehicleMatch < 0 ? null : vehicleMatch == 1)
+                .offlineValidated(in.get() == 1)
+                .notes(readString(in))
+                .scannedAt(readInstant(in))
+                .syncedAt(readInstant(in))
+                .createdAt(readInstant(in))
+                .build();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static void writeLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static void writeInstant(DataOutputStream out, Instant value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.getEpochSecond());
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] utf8 = new byte[length];
+        in.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static Long readLong(ByteBuffer in) {
+        return in.get() == 1 ? in.getLong() : null;
+    }
+
+    private static Instant readInstant(ByteBuffer in) {
+        return in.get() == 1 ? Instant.ofEpochSecond(in.getLong(), in.getInt()) : null;
+    }
+}
@@ -2,15 +2,21 @@ package co.com.atlas.r2dbc.access;
 
 import co.com.atlas.model.access.AccessAction;
 import co.com.atlas.model.access.AccessEvent;
+import co.com.atlas.model.access.AccessEventCursor;
+import co.com.atlas.model.access.AccessEventQuery;
 import co.com.atlas.model.access.ScanResult;
 import co.com.atlas.model.access.gateways.AccessEventRepository;
+import co.com.atlas.r2dbc.common.DynamicQueryBuilder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * Implementación del gateway AccessEventRepository usando R2DBC.
@@ -20,6 +26,9 @@ import java.util.List;
 public class AccessEventRepositoryAdapter implements AccessEventRepository {
 
     private final AccessEventReactiveRepository repository;
+    private final DatabaseClient databaseClient;
+    private final AccessEventBatchWriter batchWriter;
+    private final AccessEventJournal journal;
 
     @Override
     public Mono<AccessEvent> save(AccessEvent accessEvent) {
@@ -30,6 +39,31 @@ public class AccessEventRepositoryAdapter implements AccessEventRepository {
         return repository.save(entity).map(this::toDomain);
     }
 
+    /**
+     * Con el journal write-behind habilitado, el evento se confirma al quedar durable en el journal y se
+     * inserta en segundo plano; se le asigna un client_event_id para que el drenado sea idempotente.
+     * El evento retornado tiene {@code id} nulo y su identidad es el {@code clientEventId}.
+     * Si el journal no acepta el evento se inserta de forma síncrona con el escritor por lotes, que
+     * registra el client_event_id en access_event_client_ids igual que el drenado.
+     */
+    @Override
+    public Mono<AccessEvent> recordScan(AccessEvent accessEvent) {
+        if (!journal.isEnabled()) {
+            return save(accessEvent);
+        }
+        AccessEventEntity entity = toEntity(accessEvent);
+        if (entity.getClientEventId() == null) {
+            entity.setClientEventId(UUID.randomUUID().toString());
+        }
+        if (entity.getCreatedAt() == null) {
+            entity.setCreatedAt(Instant.now());
+        }
+        return journal.append(entity)
+                .flatMap(journaled -> journaled
+                        ? Mono.just(toDomain(entity))
+                        : batchWriter.insertAll(List.of(entity)).next().map(this::toDomain));
+    }
+
     @Override
     public Flux<AccessEvent> saveBatch(List<AccessEvent> events) {
         Instant now = Instant.now();
@@ -37,7 +71,7 @@ public class AccessEventRepositoryAdapter implements AccessEventRepository {
                 .map(this::toEntity)
                 .map(e -> e.getCreatedAt() == null ? e.toBuilder().createdAt(now).build() : e)
                 .toList();
-        return repository.saveAll(entities).map(this::toDomain);
+        return batchWriter.insertAll(entities).map(this::toDomain);
     }
 
     @Override
@@ -58,17 +92,43 @@ public class AccessEventRepositoryAdapter implements AccessEventRepository {
     @Override
     public Flux<AccessEvent> findByOrganizationIdAndFilters(Long organizationId, Instant from, Instant to,
                                                              AccessAction action, ScanResult scanResult) {
-        return repository.findByOrganizationId(organizationId)
-                .map(this::toDomain)
-                .filter(event -> from == null || !event.getScannedAt().isBefore(from))
-                .filter(event -> to == null || !event.getScannedAt().isAfter(to))
-                .filter(event -> action == null || event.getAction() == action)
-                .filter(event -> scanResult == null || event.getScanResult() == scanResult);
+        return findByOrganizationIdAndQuery(organizationId, AccessEventQuery.builder()
+                .from(from)
+                .to(to)
+                .action(action)
+                .scanResult(scanResult)
+                .build());
+    }
+
+    @Override
+    public Flux<AccessEvent> findByOrganizationIdAndQuery(Long organizationId, AccessEventQuery query) {
+        AccessEventCursor after = query.getAfter();
+        DynamicQueryBuilder builder = DynamicQueryBuilder.from("access_events")
+                .where("organization_id", organizationId)
+                .whereOptionalBetween("scanned_at", query.getFrom(), query.getTo())
+                .whereOptional("action", query.getAction() != null ? query.getAction().name() : null)
+                .whereOptional("scan_result", query.getScanResult() != null ? query.getScanResult().name() : null)
+                .whereOptionalKeysetBefore("scanned_at", "id",
+                        after != null ? after.scannedAt() : null, after != null ? after.id() : null)
+                .orderBy("scanned_at", "DESC")
+                .thenOrderBy("id", "DESC");
+        if (query.getLimit() != null) {
+            builder.limit(query.getLimit());
+        }
+
+        var spec = databaseClient.sql(builder.buildSelect());
+        for (Map.Entry<String, Object> entry : builder.getBindings().entrySet()) {
+            spec = spec.bind(entry.getKey(), entry.getValue());
+        }
+        return spec.map((row, metadata) -> AccessEventRows.toEntity(row))
+                .all()
+                .map(this::toDomain);
     }
 
     private AccessEvent toDomain(AccessEventEntity entity) {
         return AccessEvent.builder()
                 .id(entity.getId())
+                .clientEventId(entity.getClientEventId())
                 .organizationId(entity.getOrganizationId())
                 .authorizationId(entity.getAuthorizationId())
                 .porterUserId(entity.getPorterUserId())
@@ -90,6 +150,7 @@ public class AccessEventRepositoryAdapter implements AccessEventRepository {
     private AccessEventEntity toEntity(AccessEvent event) {
         return AccessEventEntity.builder()
                 .id(event.getId())
+                .clientEventId(event.getClientEventId())
                 .organizationId(event.getOrganizationId())
                 .authorizationId(event.getAuthorizationId())
                 .porterUserId(event.getPorterUserId())
@@ -0,0 +1,59 @@
+package co.com.atlas.r2dbc.access;
+
+import co.com.atlas.model.access.AccessAction;
+import co.com.atlas.model.access.AccessStatsBucket;
+import co.com.atlas.model.access.AccessStatsGranularity;
+import co.com.atlas.model.access.ScanResult;
+import co.com.atlas.model.access.gateways.AccessEventRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+
+/**
+ * Implementación del gateway AccessEventRollupRepository sobre access_event_rollups (V27).
+ * La consulta recorre un rango de la PK (organization_id, granularity, bucket_start, ...).
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccessEventRollupRepositoryAdapter implements AccessEventRollupRepository {
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Flux<AccessStatsBucket> findBuckets(Long organizationId, AccessStatsGranularity granularity,
+                                               Instant from, Instant to, String deviceId) {
+        String sql = """
+                SELECT bucket_start, device_id, action, scan_result, event_count
+                FROM access_event_rollups
+                WHERE organization_id = :organizationId
+                  AND granularity = :granularity
+                  AND bucket_start >= :from
+                  AND bucket_start < :to
+                """
+                + (deviceId != null ? "  AND device_id = :deviceId\n" : "")
+                + "ORDER BY bucket_start, device_id, action, scan_result";
+
+        var spec = databaseClient.sql(sql)
+                .bind("organizationId", organizationId)
+                .bind("granularity", granularity.name())
+                .bind("from", from)
+                .bind("to", to);
+        if (deviceId != null) {
+            spec = spec.bind("deviceId", deviceId);
+        }
+        return spec.map((row, metadata) -> {
+                    String device = row.get("device_id", String.class);
+                    Long count = row.get("event_count", Long.class);
+                    return new AccessStatsBucket(
+                            row.get("bucket_start", Instant.class),
+                            device == null || device.isEmpty() ? null : device,
+                            AccessAction.valueOf(row.get("action", String.class)),
+                            ScanResult.valueOf(row.get("scan_result", String.class)),
+                            count != null ? count : 0L);
+                })
+                .all();
+    }
+}
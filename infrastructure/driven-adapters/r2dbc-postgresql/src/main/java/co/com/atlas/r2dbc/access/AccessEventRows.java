@@ -0,0 +1,36 @@
+package co.com.atlas.r2dbc.access;
+
+import io.r2dbc.spi.Row;
+
+import java.time.Instant;
+
+/**
+ * Mapeo de filas de access_events para consultas construidas con DatabaseClient.
+ */
+final class AccessEventRows {
+
+    private AccessEventRows() {
+    }
+
+    static AccessEventEntity toEntity(Row row) {
+        return AccessEventEntity.builder()
+                .id(row.get("id", Long.class))
+                .clientEventId(row.get("client_event_id", String.class))
+                .organizationId(row.get("organization_id", Long.class))
+                .authorizationId(row.get("authorization_id", Long.class))
+                .porterUserId(row.get("porter_user_id", Long.class))
+                .deviceId(row.get("device_id", String.class))
+                .action(row.get("action", String.class))
+                .scanResult(row.get("scan_result", String.class))
+                .personName(row.get("person_name", String.class))
+                .personDocument(row.get("person_document", String.class))
+                .vehiclePlate(row.get("vehicle_plate", String.class))
+                .vehicleMatch(row.get("vehicle_match", Boolean.class))
+                .offlineValidated(Boolean.TRUE.equals(row.get("offline_validated", Boolean.class)))
+                .notes(row.get("notes", String.class))
+                .scannedAt(row.get("scanned_at", Instant.class))
+                .syncedAt(row.get("synced_at", Instant.class))
+                .createdAt(row.get("created_at", Instant.class))
+                .build();
+    }
+}
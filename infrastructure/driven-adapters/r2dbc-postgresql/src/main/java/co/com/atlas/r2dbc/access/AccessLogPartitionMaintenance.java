@@ -0,0 +1,278 @@
+package co.com.atlas.r2dbc.access;
+
+import co.com.atlas.r2dbc.access.MonthlyPartitionPlan.Partition;
+import io.r2dbc.spi.ColumnMetadata;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.connection.SingleConnectionFactory;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Mantenimiento periódico de las particiones mensuales de access_events y access_scan_log (V26).
+ * <p>
+ * En cada ejecución crea por adelantado las particiones de los próximos {@code premake-months}
+ * meses (dividiendo {@code p_future}, que se mantiene vacía) y aplica la retención: las particiones
+ * completamente anteriores a {@code retention-months} se exportan a
+ * {@code <archive-directory>/<tabla>/<tabla>-<partición>.csv.gz} y luego se eliminan con
+ * {@code DROP PARTITION}. Si el archivo no se puede escribir la partición no se elimina.
+ * Con la retención también se purgan de {@code access_event_client_ids} los UUID de eventos eliminados.
+ * </p>
+ * <p>
+ * Todas las instancias programan el mantenimiento, pero solo una lo ejecuta a la vez: la corrida
+ * toma {@code GET_LOCK} sin espera y las demás la omiten. El bloqueo es de sesión, así que toda la
+ * corrida usa una única conexión tomada del pool (sin transacción: el DDL de particiones hace commit
+ * implícito); si la conexión se cae, MySQL libera el bloqueo.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AccessLogPartitionMaintenance implements InitializingBean, DisposableBean {
+
+    static final List<String> TABLES = List.of("access_events", "access_scan_log");
+    static final String LOCK_NAME = "atlas.access_log_partition_maintenance";
+    private static final Duration INITIAL_DELAY = Duration.ofMinutes(1);
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z0-9_]+");
+
+    private final ConnectionFactory connectionFactory;
+    private final boolean enabled;
+    private final Duration interval;
+    private final int premakeMonths;
+    private final int retentionMonths;
+    private final boolean archiveEnabled;
+    private final Path archiveDirectory;
+    private Disposable schedule;
+
+    public AccessLogPartitionMaintenance(
+            ConnectionFactory connectionFactory,
+            @Value("${adapters.r2dbc.partitions.enabled:true}") boolean enabled,
+            @Value("${adapters.r2dbc.partitions.maintenance-interval:PT6H}") Duration interval,
+            @Value("${adapters.r2dbc.partitions.premake-months:3}") int premakeMonths,
+            @Value("${adapters.r2dbc.partitions.retention-months:0}") int retentionMonths,
+            @Value("${adapters.r2dbc.partitions.archive.enabled:true}") boolean archiveEnabled,
+            @Value("${adapters.r2dbc.partitions.archive.directory:./data/archive}") String archiveDirectory) {
+        this.connectionFactory = connectionFactory;
+        this.enabled = enabled;
+        this.interval = interval;
+        this.premakeMonths = premakeMonths;
+        this.retentionMonths = retentionMonths;
+        this.archiveEnabled = archiveEnabled;
+        this.archiveDirectory = Path.of(archiveDirectory);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            return;
+        }
+        schedule = Flux.interval(INITIAL_DELAY, interval)
+                .onBackpressureDrop()
+                .concatMap(tick -> runMaintenance())
+                .subscribe();
+        log.info("Access log partition maintenance: interval={}, premakeMonths={}, retentionMonths={}, archive={}",
+                interval, premakeMonths, retentionMonths, archiveEnabled ? archiveDirectory.toAbsolutePath() : "off");
+    }
+
+    /**
+     * Ejecuta el mantenimiento de todas las tablas si esta instancia obtiene el bloqueo;
+     * el fallo de una tabla no detiene las demás.
+     */
+    public Mono<Void> runMaintenance() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        return Mono.usingWhen(
+                connectionFactory.create(),
+                connection -> {
+                    DatabaseClient session = DatabaseClient.create(
+                            new SingleConnectionFactory(connection, connectionFactory.getMetadata(), true));
+                    return Mono.usingWhen(
+                            acquireLock(session),
+                            acquired -> acquired ? maintainAll(session, current) : skip(),
+                            acquired -> acquired ? releaseLock(session) : Mono.empty());
+                },
+                Connection::close);
+    }
+
+    private Mono<Boolean> acquireLock(DatabaseClient session) {
+        return session.sql("SELECT GET_LOCK(:name, 0) AS acquired")
+                .bind("name", LOCK_NAME)
+                .map((row, metadata) -> Long.valueOf(1L).equals(row.get("acquired", Long.class)))
+                .one()
+                .defaultIfEmpty(false);
+    }
+
+    private Mono<Void> releaseLock(DatabaseClient session) {
+        return session.sql("SELECT RELEASE_LOCK(:name)")
+                .bind("name", LOCK_NAME)
+                .then();
+    }
+
+    private Mono<Void> skip() {
+        return Mono.fromRunnable(() -> log.debug("Partition maintenance running on another instance, skipping"));
+    }
+
+    private Mono<Void> maintainAll(DatabaseClient session, YearMonth current) {
+        return Flux.fromIterable(TABLES)
+                .concatMap(table -> maintain(session, table, current)
+                        .onErrorResume(e -> {
+                            log.error("Partition maintenance failed for {}: {}", table, e.getMessage(), e);
+                            return Mono.empty();
+                        }))
+                .then(purgeClientEventIds(session, current))
+                .onErrorResume(e -> {
+                    log.error("Client event id purge failed: {}", e.getMessage(), e);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Elimina los UUID de deduplicación de eventos ya fuera de la retención (sus filas ya no existen).
+     */
+    private Mono<Void> purgeClientEventIds(DatabaseClient session, YearMonth current) {
+        if (retentionMonths <= 0) {
+            return Mono.empty();
+        }
+        return session.sql("DELETE FROM access_event_client_ids WHERE scanned_at < :cutoff")
+                .bind("cutoff", MonthlyPartitionPlan.retentionCutoff(current, retentionMonths))
+                .fetch()
+                .rowsUpdated()
+                .filter(purged -> purged > 0)
+                .doOnNext(purged -> log.info("Purged {} expired client event ids", purged))
+                .then();
+    }
+
+    private Mono<Void> maintain(DatabaseClient session, String table, YearMonth current) {
+        return listPartitions(session, table)
+                .collectList()
+                .flatMap(partitions -> {
+                    if (partitions.isEmpty()) {
+                        log.warn("Table {} is not partitioned, skipping maintenance", table);
+                        return Mono.empty();
+                    }
+                    return createUpcoming(session, table, partitions, current)
+                            .then(applyRetention(session, table, partitions, current));
+                });
+    }
+
+    private Flux<Partition> listPartitions(DatabaseClient session, String table) {
+        return session.sql("""
+                        SELECT PARTITION_NAME, PARTITION_DESCRIPTION
+                        FROM INFORMATION_SCHEMA.PARTITIONS
+                        WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = :table AND PARTITION_NAME IS NOT NULL
+                        ORDER BY PARTITION_ORDINAL_POSITION
+                        """)
+                .bind("table", table)
+                .map((row, metadata) -> {
+                    String description = row.get("PARTITION_DESCRIPTION", String.class);
+                    return new Partition(row.get("PARTITION_NAME", String.class),
+                            description == null || "MAXVALUE".equalsIgnoreCase(description)
+                                    ? null : Long.parseLong(description.trim()));
+                })
+                .all();
+    }
+
+    private Mono<Void> createUpcoming(DatabaseClient session, String table, List<Partition> partitions, YearMonth current) {
+        List<YearMonth> months = MonthlyPartitionPlan.monthsToCreate(partitions, current, premakeMonths);
+        if (months.isEmpty()) {
+            return Mono.empty();
+        }
+        boolean hasFuture = partitions.stream()
+                .anyMatch(p -> MonthlyPartitionPlan.FUTURE_PARTITION.equals(p.name()));
+        if (!hasFuture) {
+            log.warn("Table {} has no {} partition, cannot create upcoming partitions",
+                    table, MonthlyPartitionPlan.FUTURE_PARTITION);
+            return Mono.empty();
+        }
+        return session.sql(MonthlyPartitionPlan.reorganizeSql(table, months))
+                .then()
+                .doOnSuccess(v -> log.info("Created partitions {} on {}",
+                        months.stream().map(MonthlyPartitionPlan::partitionName).toList(), table));
+    }
+
+    private Mono<Void> applyRetention(DatabaseClient session, String table, List<Partition> partitions, YearMonth current) {
+        return Flux.fromIterable(MonthlyPartitionPlan.partitionsToDrop(partitions, current, retentionMonths))
+                .filter(partition -> IDENTIFIER.matcher(partition).matches())
+                .concatMap(partition -> (archiveEnabled ? archive(session, table, partition) : Mono.<Long>empty())
+                        .then(session.sql("ALTER TABLE " + table + " DROP PARTITION " + partition).then())
+                        .doOnSuccess(v -> log.info("Dropped partition {} of {}", partition, table)))
+                .then();
+    }
+
+    private Mono<Long> archive(DatabaseClient session, String table, String partition) {
+        Path target = archiveDirectory.resolve(table).resolve(table + "-" + partition + ".csv.gz");
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        return Mono.using(
+                        () -> {
+                            Files.createDirectories(target.getParent());
+                            return new PartitionArchiveWriter(tmp);
+                        },
+                        writer -> session.sql("SELECT * FROM " + table + " PARTITION (" + partition + ")")
+                                .map(AccessLogPartitionMaintenance::toArchivedRow)
+                                .all()
+                                .publishOn(Schedulers.boundedElastic())
+                                .doOnNext(row -> write(writer, row))
+                                .then(Mono.fromCallable(writer::rows)),
+                        AccessLogPartitionMaintenance::close)
+                .flatMap(rows -> Mono.fromCallable(() -> {
+                    Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                    log.info("Archived {} rows of {}.{} to {}", rows, table, partition, target.toAbsolutePath());
+                    return rows;
+                }).subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    private record ArchivedRow(List<String> columns, List<Object> values) {
+    }
+
+    private static ArchivedRow toArchivedRow(Row row, RowMetadata metadata) {
+        List<String> columns = metadata.getColumnMetadatas().stream().map(ColumnMetadata::getName).toList();
+        List<Object> values = new ArrayList<>(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            values.add(row.get(i));
+        }
+        return new ArchivedRow(columns, values);
+    }
+
+    private static void write(PartitionArchiveWriter writer, ArchivedRow row) {
+        try {
+            writer.write(row.columns(), row.values());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void close(PartitionArchiveWriter writer) {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (schedule != null) {
+            schedule.dispose();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package co.com.atlas.r2dbc.access;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Cálculo de particiones mensuales RANGE (UNIX_TIMESTAMP) a crear y a eliminar.
+ * <p>
+ * Convención (ver V26): {@code pYYYYMM} contiene las filas anteriores al primer día del mes
+ * siguiente en UTC y {@code p_future} ({@code MAXVALUE}) recibe todo lo posterior.
+ * </p>
+ */
+final class MonthlyPartitionPlan {
+
+    static final String FUTURE_PARTITION = "p_future";
+
+    /**
+     * Partición existente; {@code upperBound} es null para {@code MAXVALUE}.
+     */
+    record Partition(String name, Long upperBound) {
+    }
+
+    private MonthlyPartitionPlan() {
+    }
+
+    static String partitionName(YearMonth month) {
+        return String.format("p%04d%02d", month.getYear(), month.getMonthValue());
+    }
+
+    /**
+     * Segundos epoch (UTC) del límite superior exclusivo de la partición del mes.
+     */
+    static long upperBound(YearMonth month) {
+        return month.plusMonths(1).atDay(1).atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Meses sin partición desde el último límite existente hasta {@code current + premakeMonths}.
+     */
+    static List<YearMonth> monthsToCreate(List<Partition> existing, YearMonth current, int premakeMonths) {
+        Long lastBound = existing.stream()
+                .map(Partition::upperBound)
+                .filter(Objects::nonNull)
+                .max(Long::compare)
+                .orElse(null);
+        YearMonth month = lastBound != null
+                ? YearMonth.from(Instant.ofEpochSecond(lastBound).atOffset(ZoneOffset.UTC))
+                : current;
+        YearMonth last = current.plusMonths(Math.max(0, premakeMonths));
+        List<YearMonth> months = new ArrayList<>();
+        for (; !month.isAfter(last); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+
+    /**
+     * Particiones cuyas filas son todas anteriores al inicio de {@code current - retentionMonths}.
+     * Con {@code retentionMonths <= 0} no se elimina nada.
+     */
+    static List<String> partitionsToDrop(List<Partition> existing, YearMonth current, int retentionMonths) {
+        if (retentionMonths <= 0) {
+            return List.of();
+        }
+        long cutoff = retentionCutoff(current, retentionMonths).getEpochSecond();
+        return existing.stream()
+                .filter(p -> p.upperBound() != null && p.upperBound() <= cutoff)
+                .map(Partition::name)
+                .toList();
+    }
+
+    /**
+     * Inicio (UTC) del primer mes que se conserva: todo lo anterior puede eliminarse.
+     */
+    static Instant retentionCutoff(YearMonth current, int retentionMonths) {
+        return current.minusMonths(retentionMonths).atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+    }
+
+    /**
+     * Divide {@code p_future} en las particiones mensuales indicadas más un nuevo {@code p_future}.
+     */
+    static String reorganizeSql(String table, List<YearMonth> months) {
+        StringBuilder sql = new StringBuilder("ALTER TABLE ").append(table)
+                .append(" REORGANIZE PARTITION ").append(FUTURE_PARTITION).append(" INTO (");
+        for (YearMonth month : months) {
+            sql.append("PARTITION ").append(partitionName(month))
+                    .append(" VALUES LESS THAN (").append(upperBound(month)).append("), ");
+        }
+        return sql.append("PARTITION ").append(FUTURE_PARTITION).append(" VALUES LESS THAN MAXVALUE)").toString();
+    }
+}
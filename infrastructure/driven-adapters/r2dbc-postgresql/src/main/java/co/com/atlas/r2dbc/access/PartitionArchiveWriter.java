@@ -0,0 +1,66 @@
+package co.com.atlas.r2dbc.access;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Escribe las filas de una partición como CSV (RFC 4180) comprimido con gzip.
+ * La primera línea contiene los nombres de columna; los valores nulos quedan vacíos.
+ */
+final class PartitionArchiveWriter implements Closeable {
+
+    private final BufferedWriter writer;
+    private boolean headerWritten;
+    private long rows;
+
+    PartitionArchiveWriter(Path file) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8));
+    }
+
+    void write(List<String> columns, List<Object> values) throws IOException {
+        if (!headerWritten) {
+            writeLine(List.copyOf(columns));
+            headerWritten = true;
+        }
+        writeLine(values);
+        rows++;
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    private void writeLine(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csv(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
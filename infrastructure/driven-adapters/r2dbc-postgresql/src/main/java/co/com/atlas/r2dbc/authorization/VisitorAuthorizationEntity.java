@@ -38,6 +38,9 @@ public class VisitorAuthorizationEntity {
     @Column("person_document")
     private String personDocument;
 
+    @Column("person_document_norm")
+    private String personDocumentNorm;
+
     @Column("service_type")
     private String serviceType;
 
@@ -1,8 +1,11 @@
 package co.com.atlas.r2dbc.authorization;
 
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Flux;
 
+import java.time.Instant;
+
 /**
  * Repositorio reactivo R2DBC para visitor_authorizations.
  */
@@ -17,4 +20,14 @@ public interface VisitorAuthorizationReactiveRepository
             Long unitId, Long createdByUserId);
 
     Flux<VisitorAuthorizationEntity> findByCreatedByUserIdOrderByCreatedAtDesc(Long createdByUserId);
+
+    @Query("""
+            SELECT * FROM visitor_authorizations
+            WHERE organization_id = :organizationId
+              AND person_document_norm = :documentNorm
+              AND status = 'ACTIVE'
+              AND valid_to >= :validToFrom
+            ORDER BY valid_from
+            """)
+    Flux<VisitorAuthorizationEntity> findActiveByDocument(Long organizationId, String documentNorm, Instant validToFrom);
 }
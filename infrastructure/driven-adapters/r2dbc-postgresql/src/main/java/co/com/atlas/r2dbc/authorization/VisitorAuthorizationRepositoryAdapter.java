@@ -1,12 +1,15 @@
 package co.com.atlas.r2dbc.authorization;
 
 import co.com.atlas.model.authorization.AuthorizationStatus;
+import co.com.atlas.model.authorization.PersonDocuments;
+import co.com.atlas.model.authorization.RevocationEntry;
 import co.com.atlas.model.authorization.ServiceType;
 import co.com.atlas.model.authorization.VisitorAuthorization;
 import co.com.atlas.model.authorization.gateways.VisitorAuthorizationRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -21,6 +24,7 @@ public class VisitorAuthorizationRepositoryAdapter implements VisitorAuthorizati
 
     private final VisitorAuthorizationReactiveRepository repository;
     private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
 
     @Override
     public Mono<VisitorAuthorization> save(VisitorAuthorization authorization) {
@@ -63,6 +67,13 @@ public class VisitorAuthorizationRepositoryAdapter implements VisitorAuthorizati
                 .map(this::toDomain);
     }
 
+    @Override
+    public Flux<VisitorAuthorization> findActiveByDocument(Long organizationId, String normalizedDocument,
+                                                           Instant validToFrom) {
+        return repository.findActiveByDocument(organizationId, normalizedDocument, validToFrom)
+                .map(this::toDomain);
+    }
+
     @Override
     public Mono<VisitorAuthorization> updateStatus(Long id, AuthorizationStatus status, Long revokedBy) {
         String sql = """
@@ -79,9 +90,99 @@ public class VisitorAuthorizationRepositoryAdapter implements VisitorAuthorizati
                 .bind("id", id)
                 .fetch()
                 .rowsUpdated()
+                .flatMap(updated -> status == AuthorizationStatus.REVOKED && updated > 0
+                        ? appendRevocationLog(id) : Mono.just(updated))
+                .as(transactionalOperator::transactional)
                 .then(findById(id));
     }
 
+    /**
+     * Registra la revocación en el log versionado que consumen los dispositivos de portería,
+     * en la misma transacción que el cambio de estado.
+     * <p>
+     * La versión sale de authorization_revocation_sequence (V22) y no del momento del INSERT: el UPDATE
+     * bloquea la fila del contador hasta el commit, así que la versión N+1 solo se asigna cuando N
+     * ya es visible. Un dispositivo que avanzó su cursor hasta N+1 nunca se salta N.
+     * </p>
+     */
+    private Mono<Long> appendRevocationLog(Long authorizationId) {
+        String nextVersion = """
+            UPDATE authorization_revocation_sequence
+            SET version = LAST_INSERT_ID(version + 1)
+            WHERE id = 1
+            """;
+        String insert = """
+            INSERT INTO authorization_revocations (version, organization_id, authorization_id, revoked_at)
+            SELECT LAST_INSERT_ID(), organization_id, id, revoked_at
+            FROM visitor_authorizations
+            WHERE id = :id AND status = 'REVOKED'
+            """;
+        return databaseClient.sql(nextVersion)
+                .then()
+                .then(databaseClient.sql(insert)
+                        .bind("id", authorizationId)
+                        .fetch()
+                        .rowsUpdated());
+    }
+
+    @Override
+    public Flux<Long> findRevokedIdsSince(Long organizationId, Instant since) {
+        String sql = since != null
+                ? """
+                  SELECT id FROM visitor_authorizations
+                  WHERE organization_id = :orgId AND status = 'REVOKED' AND revoked_at >= :since
+                  """
+                : """
+                  SELECT id FROM visitor_authorizations
+                  WHERE organization_id = :orgId AND status = 'REVOKED'
+                  """;
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql)
+                .bind("orgId", organizationId);
+        if (since != null) {
+            spec = spec.bind("since", since);
+        }
+        return spec.map((row, meta) -> row.get("id", Long.class)).all();
+    }
+
+    @Override
+    public Flux<RevocationEntry> findRevocationsAfter(Long organizationId, Long cursor, int limit) {
+        String sql = """
+            SELECT version, authorization_id, revoked_at
+            FROM authorization_revocations
+            WHERE organization_id = :orgId AND version > :cursor
+            ORDER BY version
+            LIMIT :limit
+            """;
+        return databaseClient.sql(sql)
+                .bind("orgId", organizationId)
+                .bind("cursor", cursor != null ? cursor : 0L)
+                .bind("limit", limit)
+                .map((row, meta) -> toRevocationEntry(row))
+                .all();
+    }
+
+    @Override
+    public Mono<RevocationEntry> findRevocationByAuthorizationId(Long authorizationId) {
+        String sql = """
+            SELECT version, authorization_id, revoked_at
+            FROM authorization_revocations
+            WHERE authorization_id = :authorizationId
+            ORDER BY version DESC
+            LIMIT 1
+            """;
+        return databaseClient.sql(sql)
+                .bind("authorizationId", authorizationId)
+                .map((row, meta) -> toRevocationEntry(row))
+                .one();
+    }
+
+    private RevocationEntry toRevocationEntry(io.r2dbc.spi.Row row) {
+        return new RevocationEntry(
+                row.get("version", Long.class),
+                row.get("authorization_id", Long.class),
+                row.get("revoked_at", Instant.class));
+    }
+
     // ===================== Mappers =====================
 
     private VisitorAuthorization toDomain(VisitorAuthorizationEntity entity) {
@@ -118,6 +219,7 @@ public class VisitorAuthorizationRepositoryAdapter implements VisitorAuthorizati
                 .createdByUserId(domain.getCreatedByUserId())
                 .personName(domain.getPersonName())
                 .personDocument(domain.getPersonDocument())
+                .personDocumentNorm(PersonDocuments.normalize(domain.getPersonDocument()))
                 .serviceType(domain.getServiceType() != null
                         ? domain.getServiceType().name() : null)
                 .validFrom(domain.getValidFrom())
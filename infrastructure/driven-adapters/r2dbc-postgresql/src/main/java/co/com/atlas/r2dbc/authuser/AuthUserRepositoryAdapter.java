@@ -6,16 +6,19 @@ import co.com.atlas.model.auth.gateways.AuthUserRepository;
 import co.com.atlas.model.auth.DocumentType;
 import co.com.atlas.model.permission.Permission;
 import co.com.atlas.model.role.Role;
+import co.com.atlas.r2dbc.helper.PasswordHashingExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.r2dbc.core.DatabaseClient;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Implementación del gateway AuthUserRepository usando R2DBC.
@@ -26,9 +29,37 @@ import java.util.ArrayList;
 public class AuthUserRepositoryAdapter implements AuthUserRepository {
 
     private final AuthUserReactiveRepository repository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final DatabaseClient databaseClient;
 
+    /**
+     * Usuario, organización resuelta y roles en una sola pasada: una fila por rol.
+     * {@code <=>} permite cargar los roles sin organización del pre-registro. Los permisos
+     * de cada rol los resuelve el catálogo en memoria.
+     */
+    static final String ACCESS_PROFILE_SQL = """
+            SELECT u.id, u.names, u.email, u.username, u.password_hash, u.phone, u.document_type,
+                   u.document_number, u.is_active, u.status, u.last_organization_id, u.resolved_organization_id,
+                   r.id AS role_id, r.name AS role_name, r.code AS role_code, r.description AS role_description,
+                   r.module_code AS role_module_code, r.is_system AS role_is_system
+            FROM (
+                SELECT users.*,
+                       COALESCE(:organizationId, users.last_organization_id,
+                           (SELECT uo.organization_id FROM user_organizations uo
+                            WHERE uo.user_id = users.id AND uo.status = 'ACTIVE'
+                            ORDER BY uo.id LIMIT 1),
+                           (SELECT urm.organization_id FROM user_roles_multi urm
+                            WHERE urm.user_id = users.id AND urm.organization_id IS NOT NULL
+                            ORDER BY urm.id LIMIT 1)) AS resolved_organization_id
+                FROM users
+                WHERE users.id = :userId AND users.deleted_at IS NULL
+            ) u
+            LEFT JOIN user_roles_multi urm
+                   ON urm.user_id = u.id AND urm.organization_id <=> u.resolved_organization_id
+            LEFT JOIN role r ON r.id = urm.role_id
+            ORDER BY r.id
+            """;
+
     @Override
     public Mono<AuthUser> findByEmail(String email) {
         return repository.findByEmailAndDeletedAtIsNull(email)
@@ -54,18 +85,80 @@ public class AuthUserRepositoryAdapter implements AuthUserRepository {
                 .flatMap(this::enrichWithRolesAndPermissions);
     }
 
+    @Override
+    public Mono<AuthUser> findCredentialsByEmailOrUsername(String identifier) {
+        return repository.findByEmailAndDeletedAtIsNull(identifier)
+                .switchIfEmpty(Mono.defer(() -> repository.findByUsernameAndDeletedAtIsNull(identifier)))
+                .map(entity -> toDomain(entity, new ArrayList<>(), new ArrayList<>(), null));
+    }
+
+    @Override
+    public Mono<AuthUser> findWithAccessProfile(Long userId, Long organizationId) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(ACCESS_PROFILE_SQL)
+                .bind("userId", userId);
+        spec = organizationId != null
+                ? spec.bind("organizationId", organizationId)
+                : spec.bindNull("organizationId", Long.class);
+        return spec.map((row, metadata) -> new AccessProfileRow(
+                        AuthUserEntity.builder()
+                                .id(row.get("id", Long.class))
+                                .names(row.get("names", String.class))
+                                .email(row.get("email", String.class))
+                                .username(row.get("username", String.class))
+                                .passwordHash(row.get("password_hash", String.class))
+                                .phone(row.get("phone", String.class))
+                                .documentType(row.get("document_type", String.class))
+                                .documentNumber(row.get("document_number", String.class))
+                                .active(Boolean.TRUE.equals(row.get("is_active", Boolean.class)))
+                                .status(row.get("status", String.class))
+                                .lastOrganizationId(row.get("last_organization_id", Long.class))
+                                .build(),
+                        row.get("resolved_organization_id", Long.class),
+                        row.get("role_id", Long.class) == null ? null : Role.builder()
+                                .id(row.get("role_id", Long.class))
+                                .name(row.get("role_name", String.class))
+                                .code(row.get("role_code", String.class))
+                                .description(row.get("role_description", String.class))
+                                .moduleCode(row.get("role_module_code", String.class))
+                                .isSystem(Boolean.TRUE.equals(row.get("role_is_system", Boolean.class)))
+                                .build()))
+                .all()
+                .collectList()
+                .flatMap(rows -> rows.isEmpty() ? Mono.empty() : Mono.just(toAccessProfile(rows)));
+    }
+
+    private record AccessProfileRow(AuthUserEntity user, Long organizationId, Role role) {
+    }
+
+    private AuthUser toAccessProfile(List<AccessProfileRow> rows) {
+        Map<Long, Role> roles = new LinkedHashMap<>();
+        for (AccessProfileRow row : rows) {
+            if (row.role() != null) {
+                roles.putIfAbsent(row.role().getId(), row.role());
+            }
+        }
+        AccessProfileRow first = rows.get(0);
+        return toDomain(first.user(), new ArrayList<>(roles.values()), new ArrayList<>(), first.organizationId());
+    }
+
     @Override
     public Mono<Boolean> validatePassword(String rawPassword, String encodedPassword) {
-        return Mono.fromCallable(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+        return passwordHashingExecutor.matches(rawPassword, encodedPassword);
     }
 
     @Override
     public Mono<AuthUser> save(AuthUser user) {
         AuthUserEntity entity = toEntity(user);
+        Mono<AuthUserEntity> prepared = Mono.just(entity);
         if (user.getPasswordHash() != null && !user.getPasswordHash().startsWith("$2a$")) {
-            entity.setPasswordHash(passwordEncoder.encode(user.getPasswordHash()));
+            prepared = passwordHashingExecutor.encode(user.getPasswordHash())
+                    .map(hash -> {
+                        entity.setPasswordHash(hash);
+                        return entity;
+                    });
         }
-        return repository.save(entity)
+        return prepared
+                .flatMap(repository::save)
                 .flatMap(this::enrichWithRolesAndPermissions);
     }
 
@@ -177,6 +270,7 @@ public class AuthUserRepositoryAdapter implements AuthUserRepository {
                 .active(entity.isActive())
                 .status(userStatus)
                 .organizationId(organizationId)
+                .lastOrganizationId(entity.getLastOrganizationId())
                 .roles(roles)
                 .permissions(permissions)
                 .documentType(documentType)
@@ -133,6 +133,31 @@ public class DynamicQueryBuilder {
         return this;
     }
 
+    /**
+     * Adds an optional keyset pagination condition for descending order on (sortColumn, idColumn).
+     * Rows strictly after the given position are selected. Skipped if sortValue or idValue is null.
+     *
+     * @param sortColumn the primary sort column
+     * @param idColumn   the unique tie-breaker column
+     * @param sortValue  the sort value of the last row of the previous page
+     * @param idValue    the id of the last row of the previous page
+     * @return this builder for chaining
+     */
+    public DynamicQueryBuilder whereOptionalKeysetBefore(String sortColumn, String idColumn,
+                                                         Object sortValue, Object idValue) {
+        if (sortValue != null && idValue != null) {
+            String sortParam = generateParamName(sortColumn + "_cursor");
+            String sortEqParam = generateParamName(sortColumn + "_cursor_eq");
+            String idParam = generateParamName(idColumn + "_cursor");
+            conditions.add("(" + sortColumn + " < :" + sortParam
+                    + " OR (" + sortColumn + " = :" + sortEqParam + " AND " + idColumn + " < :" + idParam + "))");
+            bindings.put(sortParam, sortValue);
+            bindings.put(sortEqParam, sortValue);
+            bindings.put(idParam, idValue);
+        }
+        return this;
+    }
+
     /**
      * Sets the ORDER BY clause.
      *
@@ -145,6 +170,21 @@ public class DynamicQueryBuilder {
         return this;
     }
 
+    /**
+     * Appends a secondary column to the ORDER BY clause.
+     *
+     * @param column    the column to order by
+     * @param direction ASC or DESC
+     * @return this builder for chaining
+     */
+    public DynamicQueryBuilder thenOrderBy(String column, String direction) {
+        if (this.orderByClause == null) {
+            return orderBy(column, direction);
+        }
+        this.orderByClause = this.orderByClause + ", " + column + " " + direction;
+        return this;
+    }
+
     /**
      * Sets a LIMIT on the number of results.
      *
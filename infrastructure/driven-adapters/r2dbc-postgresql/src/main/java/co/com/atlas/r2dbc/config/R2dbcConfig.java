@@ -1,8 +1,11 @@
 package co.com.atlas.r2dbc.config;
 
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
 
 /**
  * Configuración principal para R2DBC y MySQL.
@@ -12,4 +15,13 @@ import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
 @EnableConfigurationProperties(MysqlConnectionProperties.class)
 @EnableR2dbcRepositories(basePackages = "co.com.atlas.r2dbc")
 public class R2dbcConfig {
+
+    /**
+     * Operador transaccional compartido por los adaptadores que agrupan varias sentencias.
+     * Usa el R2dbcTransactionManager que Spring Boot configura sobre el pool de conexiones.
+     */
+    @Bean
+    public TransactionalOperator transactionalOperator(ReactiveTransactionManager transactionManager) {
+        return TransactionalOperator.create(transactionManager);
+    }
 }
@@ -0,0 +1,128 @@
+package co.com.atlas.r2dbc.helper;
+
+import co.com.atlas.model.common.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ejecutor dedicado y acotado para hashing de contraseñas (BCrypt).
+ * <p>
+ * BCrypt es CPU-intensivo y bloqueante; ejecutarlo en los hilos del event loop de Netty
+ * detiene todos los demás endpoints durante ráfagas de login. Este ejecutor usa un pool
+ * de tamaño fijo con una cola acotada: cuando la cola se llena la operación se rechaza
+ * de inmediato con HTTP 503 en lugar de acumular latencia.
+ * </p>
+ * <p>Publica {@code auth.password.hash.queue} (tiempo en cola), {@code auth.password.hash.duration}
+ * (tiempo de hashing), {@code auth.password.hash.rejected} y {@code auth.password.hash.queue.depth}.</p>
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+    private static final String OPERATION_TAG = "operation";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${atlas.security.password-hashing.threads:0}") int threads,
+            @Value("${atlas.security.password-hashing.queue-capacity:64}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        this.meterRegistry = meterRegistry;
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                namedThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.rejected = Counter.builder("auth.password.hash.rejected")
+                .description("Operaciones de hashing rechazadas por saturación")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.queue.depth", executor, e -> e.getQueue().size())
+                .description("Operaciones de hashing en espera")
+                .register(meterRegistry);
+        log.info("Password hashing executor: threads={}, queueCapacity={}", poolSize, queueCapacity);
+    }
+
+    /**
+     * Verifica una contraseña contra su hash fuera del event loop.
+     */
+    public Mono<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit("matches", () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Hashea una contraseña fuera del event loop.
+     */
+    public Mono<String> encode(String rawPassword) {
+        return submit("encode", () -> passwordEncoder.encode(rawPassword));
+    }
+
+    private <T> Mono<T> submit(String operation, Callable<T> task) {
+        return Mono.create(sink -> {
+            long enqueuedAt = System.nanoTime();
+            try {
+                Future<?> future = executor.submit(() -> {
+                    long startedAt = System.nanoTime();
+                    timer("auth.password.hash.queue", operation).record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+                    try {
+                        sink.success(task.call());
+                    } catch (Exception e) {
+                        sink.error(e);
+                    } finally {
+                        timer("auth.password.hash.duration", operation)
+                                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    }
+                });
+                sink.onCancel(() -> future.cancel(false));
+            } catch (RejectedExecutionException e) {
+                rejected.increment();
+                log.warn("Password hashing saturated: queue={}, operation={}", executor.getQueue().size(), operation);
+                sink.error(new BusinessException(
+                        "El servicio está ocupado, intente nuevamente en unos segundos",
+                        "AUTH_BUSY", 503));
+            }
+        });
+    }
+
+    private Timer timer(String name, String operation) {
+        return Timer.builder(name)
+                .tag(OPERATION_TAG, operation)
+                .register(meterRegistry);
+    }
+
+    private static ThreadFactory namedThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
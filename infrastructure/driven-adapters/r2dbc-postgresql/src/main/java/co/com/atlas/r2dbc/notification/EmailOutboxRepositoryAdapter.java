@@ -0,0 +1,179 @@
+package co.com.atlas.r2dbc.notification;
+
+import co.com.atlas.model.invitation.Invitation;
+import co.com.atlas.model.invitation.gateways.InvitationRepository;
+import co.com.atlas.model.notification.EmailTemplate;
+import co.com.atlas.model.notification.OutboundEmail;
+import co.com.atlas.model.notification.OutboundEmailStatus;
+import co.com.atlas.model.notification.gateways.EmailOutboxRepository;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación del outbox de correos con R2DBC.
+ * <p>
+ * La reserva de lotes es un {@code UPDATE ... ORDER BY id LIMIT n} que marca las filas con un
+ * token propio; varias instancias pueden despachar a la vez sin enviar dos veces el mismo correo.
+ * Las actualizaciones de estado usan un UPDATE multi-tabla para mantener sincronizada la invitación.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmailOutboxRepositoryAdapter implements EmailOutboxRepository {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO email_outbox (template, recipient, invitation_id, params, status, created_at)
+            VALUES (:template, :recipient, :invitationId, :params, 'PENDING', :createdAt)
+            """;
+
+    private static final String CLAIM_SQL = """
+            UPDATE email_outbox
+            SET claim_token = :token, claimed_until = :claimedUntil
+            WHERE status = 'PENDING'
+              AND (claimed_until IS NULL OR claimed_until < :now)
+              AND (last_retry_at IS NULL
+                   OR last_retry_at <= DATE_SUB(:now, INTERVAL
+                        LEAST(:maxBackoffSeconds, :baseBackoffSeconds * POW(2, retry_count - 1)) SECOND))
+            ORDER BY id
+            LIMIT :limit
+            """;
+
+    private static final String MARK_SENT_SQL = """
+            UPDATE email_outbox o
+                LEFT JOIN invitations i ON i.id = o.invitation_id
+            SET o.status = 'SENT', o.sent_at = :sentAt, o.last_error = NULL,
+                o.claim_token = NULL, o.claimed_until = NULL,
+                i.invitation_status = 'SENT', i.invitation_sent_at = :sentAt, i.updated_at = :sentAt
+            WHERE o.id IN (:ids)
+            """;
+
+    private static final String MARK_FAILED_SQL = """
+            UPDATE email_outbox o
+                LEFT JOIN invitations i ON i.id = o.invitation_id
+            SET o.retry_count = o.retry_count + 1, o.last_retry_at = :now, o.last_error = :error,
+                o.status = :status, o.claim_token = NULL, o.claimed_until = NULL,
+                i.retry_count = COALESCE(i.retry_count, 0) + 1, i.last_retry_at = :now, i.updated_at = :now,
+                i.invitation_status = IF(:exhausted, 'FAILED', i.invitation_status)
+            WHERE o.id = :id
+            """;
+
+    private final DatabaseClient databaseClient;
+    private final InvitationRepository invitationRepository;
+    private final TransactionalOperator transactionalOperator;
+
+    @Override
+    public Mono<Invitation> saveInvitationWithEmail(Invitation invitation, OutboundEmail email) {
+        return invitationRepository.save(invitation)
+                .flatMap(saved -> databaseClient.sql(INSERT_SQL)
+                        .bind("template", email.getTemplate().name())
+                        .bind("recipient", email.getRecipient())
+                        .bind("invitationId", saved.getId())
+                        .bind("params", encodeParams(email.getParams()))
+                        .bind("createdAt", Instant.now())
+                        .then()
+                        .thenReturn(saved))
+                .as(transactionalOperator::transactional);
+    }
+
+    @Override
+    public Flux<OutboundEmail> claimBatch(int limit, Duration baseBackoff, Duration maxBackoff, Duration lease) {
+        String token = UUID.randomUUID().toString();
+        Instant now = Instant.now();
+        return databaseClient.sql(CLAIM_SQL)
+                .bind("token", token)
+                .bind("claimedUntil", now.plus(lease))
+                .bind("now", now)
+                .bind("baseBackoffSeconds", baseBackoff.toSeconds())
+                .bind("maxBackoffSeconds", maxBackoff.toSeconds())
+                .bind("limit", limit)
+                .fetch()
+                .rowsUpdated()
+                .flatMapMany(claimed -> claimed == 0
+                        ? Flux.empty()
+                        : databaseClient.sql("SELECT * FROM email_outbox WHERE claim_token = :token ORDER BY id")
+                                .bind("token", token)
+                                .map((row, metadata) -> toDomain(row))
+                                .all());
+    }
+
+    @Override
+    public Mono<Void> markSent(List<Long> ids, Instant sentAt) {
+        if (ids.isEmpty()) {
+            return Mono.empty();
+        }
+        return databaseClient.sql(MARK_SENT_SQL)
+                .bind("ids", ids)
+                .bind("sentAt", sentAt)
+                .then();
+    }
+
+    @Override
+    public Mono<Void> markFailed(Long id, String error, boolean exhausted) {
+        String message = error == null ? "unknown" : error;
+        return databaseClient.sql(MARK_FAILED_SQL)
+                .bind("id", id)
+                .bind("now", Instant.now())
+                .bind("error", message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message)
+                .bind("status", (exhausted ? OutboundEmailStatus.FAILED : OutboundEmailStatus.PENDING).name())
+                .bind("exhausted", exhausted)
+                .then();
+    }
+
+    private OutboundEmail toDomain(Row row) {
+        return OutboundEmail.builder()
+                .id(row.get("id", Long.class))
+                .template(EmailTemplate.valueOf(row.get("template", String.class)))
+                .recipient(row.get("recipient", String.class))
+                .invitationId(row.get("invitation_id", Long.class))
+                .params(decodeParams(row.get("params", String.class)))
+                .status(OutboundEmailStatus.valueOf(row.get("status", String.class)))
+                .retryCount(row.get("retry_count", Integer.class))
+                .lastRetryAt(row.get("last_retry_at", Instant.class))
+                .lastError(row.get("last_error", String.class))
+                .createdAt(row.get("created_at", Instant.class))
+                .sentAt(row.get("sent_at", Instant.class))
+                .build();
+    }
+
+    static String encodeParams(Map<String, String> params) {
+        if (params == null || params.isEmpty()) {
+            return "";
+        }
+        return params.entrySet().stream()
+                .map(e -> URLEncoder.encode(e.getKey(), StandardCharsets.UTF_8) + "="
+                        + URLEncoder.encode(e.getValue() != null ? e.getValue() : "", StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+    }
+
+    static Map<String, String> decodeParams(String encoded) {
+        Map<String, String> params = new LinkedHashMap<>();
+        if (encoded == null || encoded.isEmpty()) {
+            return params;
+        }
+        for (String pair : encoded.split("&")) {
+            int separator = pair.indexOf('=');
+            String key = separator >= 0 ? pair.substring(0, separator) : pair;
+            String value = separator >= 0 ? pair.substring(separator + 1) : "";
+            params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+}
@@ -1,8 +1,10 @@
 package co.com.atlas.r2dbc.permission;
 
 import co.com.atlas.model.permission.Permission;
+import co.com.atlas.model.permission.RolePermission;
 import co.com.atlas.model.permission.gateways.PermissionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -15,6 +17,7 @@ import reactor.core.publisher.Mono;
 public class PermissionRepositoryAdapter implements PermissionRepository {
 
     private final PermissionReactiveRepository repository;
+    private final DatabaseClient databaseClient;
 
     @Override
     public Mono<Permission> findById(Long id) {
@@ -34,6 +37,39 @@ public class PermissionRepositoryAdapter implements PermissionRepository {
                 .map(this::toDomain);
     }
 
+    @Override
+    public Flux<RolePermission> findAllRolePermissions() {
+        return databaseClient.sql("""
+                        SELECT rp.role_id, r.code AS role_code,
+                               p.id, p.code, p.name, p.description, p.module_code, p.resource, p.action
+                        FROM role_permissions rp
+                        JOIN role r ON r.id = rp.role_id
+                        JOIN permissions p ON p.id = rp.permission_id
+                        ORDER BY rp.role_id, p.id
+                        """)
+                .map((row, metadata) -> new RolePermission(
+                        row.get("role_id", Long.class),
+                        row.get("role_code", String.class),
+                        Permission.builder()
+                                .id(row.get("id", Long.class))
+                                .code(row.get("code", String.class))
+                                .name(row.get("name", String.class))
+                                .description(row.get("description", String.class))
+                                .moduleCode(row.get("module_code", String.class))
+                                .resource(row.get("resource", String.class))
+                                .action(row.get("action", String.class))
+                                .build()))
+                .all();
+    }
+
+    @Override
+    public Mono<Long> findCatalogVersion() {
+        return databaseClient.sql("SELECT version FROM permission_catalog_version WHERE id = 1")
+                .map((row, metadata) -> row.get("version", Long.class))
+                .one()
+                .defaultIfEmpty(0L);
+    }
+
     private Permission toDomain(PermissionEntity entity) {
         return Permission.builder()
                 .id(entity.getId())
@@ -3,15 +3,36 @@ package co.com.atlas.r2dbc.poll;
 import co.com.atlas.model.poll.PollVote;
 import co.com.atlas.model.poll.gateways.PollVoteRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
+
 @Repository
 @RequiredArgsConstructor
 public class PollVoteRepositoryAdapter implements PollVoteRepository {
 
+    private static final String COUNT_BY_OPTION_SQL = """
+            SELECT option_id, COUNT(*) AS votes
+            FROM poll_votes
+            WHERE poll_id = :pollId
+            GROUP BY option_id
+            """;
+
+    /**
+     * IGNORE en lugar de ON DUPLICATE KEY UPDATE: el conteo de filas afectadas es 0 para el
+     * duplicado sin depender de CLIENT_FOUND_ROWS. La encuesta y la opción se validan antes
+     * de insertar, así que no hay errores de FK que IGNORE pueda ocultar.
+     */
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT IGNORE INTO poll_votes (poll_id, option_id, user_id, vote_slot, created_at)
+            VALUES (:pollId, :optionId, :userId, :voteSlot, :createdAt)
+            """;
+
     private final PollVoteReactiveRepository repository;
+    private final DatabaseClient databaseClient;
 
     @Override
     public Mono<PollVote> save(PollVote vote) {
@@ -19,6 +40,22 @@ public class PollVoteRepositoryAdapter implements PollVoteRepository {
                 .map(this::toDomain);
     }
 
+    @Override
+    public Mono<PollVote> saveIfAbsent(PollVote vote, boolean multipleChoice) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(INSERT_IF_ABSENT_SQL)
+                .bind("pollId", vote.getPollId())
+                .bind("optionId", vote.getOptionId())
+                .bind("voteSlot", multipleChoice ? vote.getOptionId() : 0L)
+                .bind("createdAt", vote.getCreatedAt());
+        spec = vote.getUserId() != null
+                ? spec.bind("userId", vote.getUserId())
+                : spec.bindNull("userId", Long.class);
+        return spec.fetch()
+                .rowsUpdated()
+                .filter(inserted -> inserted > 0)
+                .map(inserted -> vote);
+    }
+
     @Override
     public Flux<PollVote> findByPollId(Long pollId) {
         return repository.findByPollId(pollId)
@@ -46,6 +83,17 @@ public class PollVoteRepositoryAdapter implements PollVoteRepository {
         return repository.countByPollId(pollId);
     }
 
+    @Override
+    public Mono<Map<Long, Long>> countByPollIdGroupByOption(Long pollId) {
+        return databaseClient.sql(COUNT_BY_OPTION_SQL)
+                .bind("pollId", pollId)
+                .map((row, metadata) -> Map.entry(
+                        row.get("option_id", Long.class),
+                        row.get("votes", Long.class)))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
     private PollVote toDomain(PollVoteEntity entity) {
         return PollVote.builder()
                 .id(entity.getId())
@@ -3,8 +3,8 @@ package co.com.atlas.r2dbc.preregistration;
 import co.com.atlas.model.preregistration.AdminActivationToken;
 import co.com.atlas.model.preregistration.ActivationTokenStatus;
 import co.com.atlas.model.preregistration.gateways.AdminActivationTokenRepository;
+import co.com.atlas.r2dbc.helper.PasswordHashingExecutor;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -17,7 +17,7 @@ import reactor.core.publisher.Mono;
 public class AdminActivationTokenRepositoryAdapter implements AdminActivationTokenRepository {
     
     private final AdminActivationTokenReactiveRepository repository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     
     @Override
     public Mono<AdminActivationToken> findById(Long id) {
@@ -54,12 +54,17 @@ public class AdminActivationTokenRepositoryAdapter implements AdminActivationTok
         AdminActivationTokenEntity entity = toEntity(token);
         
         // Si initialPasswordHash no parece un hash BCrypt, hashearlo
+        Mono<AdminActivationTokenEntity> prepared = Mono.just(entity);
         if (entity.getInitialPasswordHash() != null 
                 && !entity.getInitialPasswordHash().startsWith("$2")) {
-            entity.setInitialPasswordHash(passwordEncoder.encode(entity.getInitialPasswordHash()));
+            prepared = passwordHashingExecutor.encode(entity.getInitialPasswordHash())
+                    .map(hash -> {
+                        entity.setInitialPasswordHash(hash);
+                        return entity;
+                    });
         }
         
-        return repository.save(entity).map(this::toModel);
+        return prepared.flatMap(repository::save).map(this::toModel);
     }
     
     @Override
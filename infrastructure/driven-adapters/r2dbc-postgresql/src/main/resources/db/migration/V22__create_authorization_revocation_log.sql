@@ -0,0 +1,38 @@
+-- ============================================================================
+-- V22: Log versionado de revocaciones para sincronización incremental de portería
+-- Los dispositivos consultan /api/porter/revocations?cursor=N y reciben solo
+-- las revocaciones con version > N, sin recorrer visitor_authorizations.
+--
+-- La versión no es AUTO_INCREMENT (que se asigna al insertar): sale de
+-- authorization_revocation_sequence, cuya fila queda bloqueada hasta el commit
+-- de la revocación que la incrementa. Así una transacción lenta no puede
+-- confirmar la versión N después de que un dispositivo avanzara su cursor a N+1.
+-- ============================================================================
+
+CREATE TABLE authorization_revocations (
+    version BIGINT NOT NULL PRIMARY KEY,
+    organization_id INT NOT NULL,
+    authorization_id INT NOT NULL,
+    revoked_at TIMESTAMP NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (organization_id) REFERENCES organization(id),
+    FOREIGN KEY (authorization_id) REFERENCES visitor_authorizations(id),
+    INDEX idx_ar_org_version (organization_id, version)
+);
+
+CREATE TABLE authorization_revocation_sequence (
+    id TINYINT PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+-- Consulta por fecha (parámetro since) resuelta con índice
+CREATE INDEX idx_va_org_status_revoked ON visitor_authorizations (organization_id, status, revoked_at);
+
+-- Backfill de revocaciones existentes en orden cronológico
+INSERT INTO authorization_revocations (version, organization_id, authorization_id, revoked_at)
+SELECT ROW_NUMBER() OVER (ORDER BY revoked_at, id), organization_id, id, revoked_at
+FROM visitor_authorizations
+WHERE status = 'REVOKED';
+
+INSERT INTO authorization_revocation_sequence (id, version)
+SELECT 1, COALESCE(MAX(version), 0) FROM authorization_revocations;
@@ -0,0 +1,7 @@
+-- ============================================================================
+-- V23: Índice compuesto para historial de eventos de acceso
+-- Soporta filtros por organización + rango de scanned_at y paginación keyset
+-- sobre (scanned_at, id) en orden descendente sin ordenar en memoria.
+-- ============================================================================
+
+CREATE INDEX idx_ae_org_scanned_id ON access_events (organization_id, scanned_at, id);
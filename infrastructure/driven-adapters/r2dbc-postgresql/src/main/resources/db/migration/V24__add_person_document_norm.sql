@@ -0,0 +1,17 @@
+-- ============================================================================
+-- V24: Documento normalizado para búsqueda indexada en portería
+-- La aplicación escribe person_document_norm (sin separadores, en mayúsculas)
+-- al guardar la autorización; la búsqueda por documento usa el índice compuesto
+-- en lugar de recorrer todas las autorizaciones de la organización.
+-- ============================================================================
+
+ALTER TABLE visitor_authorizations
+    ADD COLUMN person_document_norm VARCHAR(50) NULL AFTER person_document;
+
+-- Backfill igual a PersonDocuments.normalize: solo [0-9A-Za-z], en mayúsculas
+UPDATE visitor_authorizations
+SET person_document_norm = UPPER(REGEXP_REPLACE(person_document, '[^0-9A-Za-z]', ''))
+WHERE person_document IS NOT NULL;
+
+CREATE INDEX idx_va_org_doc_status_valid
+    ON visitor_authorizations (organization_id, person_document_norm, status, valid_to);
@@ -0,0 +1,27 @@
+-- ============================================================================
+-- V25: Identificador de evento generado por el dispositivo (UUID)
+-- Permite reintentar la sincronización offline sin duplicar eventos: los
+-- eventos con un client_event_id ya registrado se ignoran. El UUID lo genera el
+-- dispositivo, así que la unicidad es por organización.
+--
+-- La unicidad vive en access_event_client_ids y no en access_events: al
+-- particionar access_events (V26) toda clave única debe incluir scanned_at, y
+-- un reintento con otro scanned_at se insertaría de nuevo. access_event_id y
+-- scanned_at apuntan a la fila original (PK de access_events); claim_token
+-- marca los UUID reservados por el lote en curso (AccessEventBatchWriter).
+-- ============================================================================
+
+ALTER TABLE access_events
+    ADD COLUMN client_event_id VARCHAR(36) NULL AFTER id;
+
+CREATE TABLE access_event_client_ids (
+    organization_id INT NOT NULL,
+    client_event_id VARCHAR(36) NOT NULL,
+    access_event_id INT NULL,
+    scanned_at TIMESTAMP NULL,
+    claim_token CHAR(36) NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (organization_id, client_event_id),
+    INDEX idx_aeci_claim_token (claim_token),
+    INDEX idx_aeci_scanned_at (scanned_at)
+);
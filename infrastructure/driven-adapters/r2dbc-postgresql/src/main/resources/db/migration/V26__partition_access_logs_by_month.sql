@@ -0,0 +1,94 @@
+-- ============================================================================
+-- V26: Particionamiento mensual (RANGE sobre scanned_at) de access_events
+--      y access_scan_log
+-- Las consultas por ventana reciente solo tocan las particiones del rango y la
+-- retención se aplica con DROP PARTITION (AccessLogPartitionMaintenance crea
+-- las particiones futuras y archiva/elimina las vencidas).
+--
+-- Restricciones de MySQL para tablas particionadas:
+--  * Toda clave única (incluida la PK) debe contener la columna de partición:
+--    PK (id, scanned_at). La deduplicación por client_event_id no depende de
+--    access_events: está en access_event_client_ids (V25), sin particionar.
+--  * InnoDB no admite llaves foráneas en tablas particionadas; la integridad
+--    referencial de estos logs append-only queda a cargo de la aplicación.
+--  * RANGE sobre TIMESTAMP requiere UNIX_TIMESTAMP(); los límites se expresan
+--    en segundos epoch UTC (p202601 = filas anteriores a 2026-02-01 00:00 UTC).
+-- ============================================================================
+
+-- ----------------------------------------------------------------------------
+-- access_events
+-- ----------------------------------------------------------------------------
+ALTER TABLE access_events
+    DROP FOREIGN KEY access_events_ibfk_1,
+    DROP FOREIGN KEY access_events_ibfk_2,
+    DROP FOREIGN KEY access_events_ibfk_3;
+
+-- idx_ae_org queda cubierto por idx_ae_org_scanned_id (V23); action y scanned_at
+-- como índices de una sola columna no son selectivos frente a la poda de particiones.
+ALTER TABLE access_events
+    DROP INDEX idx_ae_org,
+    DROP INDEX idx_ae_action,
+    DROP INDEX idx_ae_scanned_at,
+    MODIFY id INT NOT NULL AUTO_INCREMENT,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, scanned_at);
+
+ALTER TABLE access_events
+    PARTITION BY RANGE (UNIX_TIMESTAMP(scanned_at)) (
+        PARTITION p_start VALUES LESS THAN (1767225600),
+        PARTITION p202601 VALUES LESS THAN (1769904000),
+        PARTITION p202602 VALUES LESS THAN (1772323200),
+        PARTITION p202603 VALUES LESS THAN (1775001600),
+        PARTITION p202604 VALUES LESS THAN (1777593600),
+        PARTITION p202605 VALUES LESS THAN (1780272000),
+        PARTITION p202606 VALUES LESS THAN (1782864000),
+        PARTITION p202607 VALUES LESS THAN (1785542400),
+        PARTITION p202608 VALUES LESS THAN (1788220800),
+        PARTITION p202609 VALUES LESS THAN (1790812800),
+        PARTITION p202610 VALUES LESS THAN (1793491200),
+        PARTITION p202611 VALUES LESS THAN (1796083200),
+        PARTITION p202612 VALUES LESS THAN (1798761600),
+        PARTITION p_future VALUES LESS THAN MAXVALUE
+    );
+
+-- ----------------------------------------------------------------------------
+-- access_scan_log
+-- La entidad mapea scanned_at; la columna se creó como created_at en V2.
+-- ----------------------------------------------------------------------------
+ALTER TABLE access_scan_log
+    DROP FOREIGN KEY fk_access_scan_log_code,
+    DROP FOREIGN KEY fk_access_scan_log_scanned_by;
+
+ALTER TABLE access_scan_log
+    RENAME COLUMN created_at TO scanned_at;
+
+UPDATE access_scan_log SET scanned_at = CURRENT_TIMESTAMP WHERE scanned_at IS NULL;
+
+-- countByAccessCodeIdAndScanResult usa (access_code_id, scan_result).
+ALTER TABLE access_scan_log
+    DROP INDEX idx_access_scan_log_access_code_id,
+    DROP INDEX idx_access_scan_log_scan_result,
+    DROP INDEX idx_access_scan_log_created_at,
+    ADD INDEX idx_access_scan_log_code_result (access_code_id, scan_result),
+    MODIFY scanned_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    MODIFY id INT NOT NULL AUTO_INCREMENT,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, scanned_at);
+
+ALTER TABLE access_scan_log
+    PARTITION BY RANGE (UNIX_TIMESTAMP(scanned_at)) (
+        PARTITION p_start VALUES LESS THAN (1767225600),
+        PARTITION p202601 VALUES LESS THAN (1769904000),
+        PARTITION p202602 VALUES LESS THAN (1772323200),
+        PARTITION p202603 VALUES LESS THAN (1775001600),
+        PARTITION p202604 VALUES LESS THAN (1777593600),
+        PARTITION p202605 VALUES LESS THAN (1780272000),
+        PARTITION p202606 VALUES LESS THAN (1782864000),
+        PARTITION p202607 VALUES LESS THAN (1785542400),
+        PARTITION p202608 VALUES LESS THAN (1788220800),
+        PARTITION p202609 VALUES LESS THAN (1790812800),
+        PARTITION p202610 VALUES LESS THAN (1793491200),
+        PARTITION p202611 VALUES LESS THAN (1796083200),
+        PARTITION p202612 VALUES LESS THAN (1798761600),
+        PARTITION p_future VALUES LESS THAN MAXVALUE
+    );
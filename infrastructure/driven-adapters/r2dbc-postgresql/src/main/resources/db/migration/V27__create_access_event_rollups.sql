@@ -0,0 +1,62 @@
+-- ============================================================================
+-- V27: Contadores pre-agregados de eventos de acceso (por hora y por día, UTC)
+-- Dimensiones: organización, dispositivo de portería, acción y resultado.
+-- Los triggers AFTER INSERT mantienen los contadores en la misma transacción
+-- que el INSERT del evento, para cualquier ruta de escritura (guardado en línea,
+-- sincronización offline, journal write-behind). Los reintentos offline no se
+-- cuentan dos veces: AccessEventBatchWriter reserva cada client_event_id en
+-- access_event_client_ids (V25) e inserta en access_events solo los eventos
+-- nuevos, así que los duplicados nunca disparan los triggers.
+-- DROP PARTITION (retención de access_events) no dispara triggers: los
+-- contadores sobreviven a la eliminación de eventos crudos.
+-- ============================================================================
+
+CREATE TABLE access_event_rollups (
+    organization_id INT NOT NULL,
+    granularity VARCHAR(4) NOT NULL COMMENT 'HOUR o DAY',
+    bucket_start TIMESTAMP NOT NULL COMMENT 'Inicio del bucket en UTC',
+    device_id VARCHAR(100) NOT NULL DEFAULT '' COMMENT 'Vacío para eventos sin dispositivo',
+    action VARCHAR(10) NOT NULL,
+    scan_result VARCHAR(20) NOT NULL,
+    event_count INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (organization_id, granularity, bucket_start, device_id, action, scan_result)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Backfill desde los eventos existentes
+INSERT INTO access_event_rollups (organization_id, granularity, bucket_start, device_id, action, scan_result, event_count)
+SELECT organization_id, 'HOUR', bucket_start, device_id, action, scan_result, COUNT(*)
+FROM (
+    SELECT organization_id,
+           FROM_UNIXTIME(UNIX_TIMESTAMP(scanned_at) DIV 3600 * 3600) AS bucket_start,
+           COALESCE(device_id, '') AS device_id,
+           action,
+           scan_result
+    FROM access_events
+) e
+GROUP BY organization_id, bucket_start, device_id, action, scan_result;
+
+INSERT INTO access_event_rollups (organization_id, granularity, bucket_start, device_id, action, scan_result, event_count)
+SELECT organization_id, 'DAY', bucket_start, device_id, action, scan_result, COUNT(*)
+FROM (
+    SELECT organization_id,
+           FROM_UNIXTIME(UNIX_TIMESTAMP(scanned_at) DIV 86400 * 86400) AS bucket_start,
+           COALESCE(device_id, '') AS device_id,
+           action,
+           scan_result
+    FROM access_events
+) e
+GROUP BY organization_id, bucket_start, device_id, action, scan_result;
+
+CREATE TRIGGER trg_ae_rollup_hour AFTER INSERT ON access_events
+FOR EACH ROW
+    INSERT INTO access_event_rollups (organization_id, granularity, bucket_start, device_id, action, scan_result, event_count)
+    VALUES (NEW.organization_id, 'HOUR', FROM_UNIXTIME(UNIX_TIMESTAMP(NEW.scanned_at) DIV 3600 * 3600),
+            COALESCE(NEW.device_id, ''), NEW.action, NEW.scan_result, 1)
+    ON DUPLICATE KEY UPDATE event_count = event_count + 1;
+
+CREATE TRIGGER trg_ae_rollup_day AFTER INSERT ON access_events
+FOR EACH ROW
+    INSERT INTO access_event_rollups (organization_id, granularity, bucket_start, device_id, action, scan_result, event_count)
+    VALUES (NEW.organization_id, 'DAY', FROM_UNIXTIME(UNIX_TIMESTAMP(NEW.scanned_at) DIV 86400 * 86400),
+            COALESCE(NEW.device_id, ''), NEW.action, NEW.scan_result, 1)
+    ON DUPLICATE KEY UPDATE event_count = event_count + 1;
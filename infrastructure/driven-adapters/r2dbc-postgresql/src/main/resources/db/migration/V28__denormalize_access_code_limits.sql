@@ -0,0 +1,17 @@
+-- ============================================================================
+-- V28: Copia organization_id y max_entries de la visita en access_codes
+-- El escaneo de un código (UPDATE condicional de entries_used) ya no necesita
+-- leer visit_requests; valid_from/valid_until ya se copian al aprobar.
+-- organization_id permite cargar el índice en memoria de códigos activos.
+-- ============================================================================
+
+ALTER TABLE access_codes
+    ADD COLUMN organization_id INT NULL AFTER visit_request_id,
+    ADD COLUMN max_entries INT NULL COMMENT 'Copiado de visit_requests; NULL = ilimitado' AFTER entries_used;
+
+UPDATE access_codes ac
+    JOIN visit_requests vr ON vr.id = ac.visit_request_id
+SET ac.organization_id = vr.organization_id,
+    ac.max_entries = vr.max_entries;
+
+CREATE INDEX idx_access_codes_org_status ON access_codes (organization_id, status);
@@ -0,0 +1,39 @@
+-- ============================================================================
+-- V29: Versión del catálogo de roles y permisos
+-- RolePermissionCatalog mantiene en memoria role_id → permisos y solo recarga
+-- cuando esta versión cambia. Los triggers la incrementan con cualquier cambio
+-- en role, permissions o role_permissions: los JWT compactos se expanden por
+-- role.code, así que renombrar o desactivar un rol también fuerza la recarga.
+-- Los borrados en cascada de role_permissions no disparan triggers en MySQL;
+-- por eso también se cubren los DELETE de role y permissions.
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS permission_catalog_version (
+    id TINYINT NOT NULL PRIMARY KEY,
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO permission_catalog_version (id, version) VALUES (1, 1)
+ON DUPLICATE KEY UPDATE version = version;
+
+CREATE TRIGGER trg_role_permissions_ai AFTER INSERT ON role_permissions FOR EACH ROW
+    UPDATE permission_catalog_version SET version = version + 1 WHERE id = 1;
+
+CREATE TRIGGER trg_role_permissions_au AFTER UPDATE ON role_permissions FOR EACH ROW
+    UPDATE permission_catalog_version SET version = version + 1 WHERE id = 1;
+
+CREATE TRIGGER trg_role_permissions_ad AFTER DELETE ON role_permissions FOR EACH ROW
+    UPDATE permission_catalog_version SET version = version + 1 WHERE id = 1;
+
+CREATE TRIGGER trg_permissions_au AFTER UPDATE ON permissions FOR EACH ROW
+    UPDATE permission_catalog_version SET version = version + 1 WHERE id = 1;
+
+CREATE TRIGGER trg_permissions_ad AFTER DELETE ON permissions FOR EACH ROW
+    UPDATE permission_catalog_version SET version = version + 1 WHERE id = 1;
+
+CREATE TRIGGER trg_role_ad AFTER DELETE ON role FOR EACH ROW
+    UPDATE permission_catalog_version SET version = version + 1 WHERE id = 1;
+
+CREATE TRIGGER trg_role_au AFTER UPDATE ON role FOR EACH ROW
+    UPDATE permission_catalog_version SET version = version + 1 WHERE id = 1;
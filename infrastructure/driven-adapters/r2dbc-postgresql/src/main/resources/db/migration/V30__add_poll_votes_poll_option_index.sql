@@ -0,0 +1,11 @@
+-- ============================================================================
+-- V30: Índice (poll_id, option_id) en poll_votes
+-- Los resultados de una encuesta se calculan con un único
+-- SELECT option_id, COUNT(*) ... WHERE poll_id = ? GROUP BY option_id,
+-- que se resuelve recorriendo solo este índice. Reemplaza a idx_poll_votes_poll_id
+-- (prefijo del nuevo índice, que también respalda la FK de poll_id).
+-- ============================================================================
+
+CREATE INDEX idx_poll_votes_poll_option ON poll_votes (poll_id, option_id);
+
+DROP INDEX idx_poll_votes_poll_id ON poll_votes;
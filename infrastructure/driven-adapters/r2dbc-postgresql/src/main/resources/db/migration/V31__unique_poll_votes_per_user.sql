@@ -0,0 +1,25 @@
+-- ============================================================================
+-- V31: Un voto por usuario y encuesta garantizado por la base de datos
+-- vote_slot es 0 en encuestas de opción única y option_id en las de opción
+-- múltiple, de modo que (poll_id, user_id, vote_slot) limita a un voto por
+-- encuesta o a un voto por opción respectivamente. Los votos anónimos
+-- (user_id NULL) no quedan restringidos por el índice.
+-- ============================================================================
+
+ALTER TABLE poll_votes
+    ADD COLUMN vote_slot INT NOT NULL DEFAULT 0 COMMENT '0 = opción única; option_id si allow_multiple' AFTER user_id;
+
+UPDATE poll_votes pv
+    JOIN polls p ON p.id = pv.poll_id
+SET pv.vote_slot = pv.option_id
+WHERE p.allow_multiple = TRUE;
+
+-- Conservar el primer voto de cada usuario si existen duplicados previos
+DELETE pv FROM poll_votes pv
+    JOIN poll_votes kept
+        ON kept.poll_id = pv.poll_id
+        AND kept.user_id = pv.user_id
+        AND kept.vote_slot = pv.vote_slot
+        AND kept.id < pv.id;
+
+CREATE UNIQUE INDEX idx_poll_votes_poll_user_slot ON poll_votes (poll_id, user_id, vote_slot);
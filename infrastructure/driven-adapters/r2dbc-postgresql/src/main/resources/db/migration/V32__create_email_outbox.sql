@@ -0,0 +1,28 @@
+-- ============================================================================
+-- V32: Outbox transaccional de correos
+-- La invitación y su correo se insertan en la misma transacción; un despachador
+-- en segundo plano reserva lotes (claim_token / claimed_until), los envía por
+-- sesiones SMTP reutilizadas y reintenta con backoff exponencial calculado desde
+-- retry_count y last_retry_at. El estado se replica en invitations
+-- (invitation_status, invitation_sent_at, retry_count, last_retry_at).
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    template VARCHAR(50) NOT NULL,
+    recipient VARCHAR(255) NOT NULL,
+    invitation_id INT NULL,
+    params TEXT NOT NULL COMMENT 'Parámetros de la plantilla (application/x-www-form-urlencoded)',
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT 'PENDING, SENT, FAILED',
+    retry_count INT NOT NULL DEFAULT 0,
+    last_retry_at TIMESTAMP NULL,
+    last_error VARCHAR(500) NULL,
+    claim_token CHAR(36) NULL,
+    claimed_until TIMESTAMP NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    sent_at TIMESTAMP NULL,
+    CONSTRAINT fk_email_outbox_invitation FOREIGN KEY (invitation_id) REFERENCES invitations(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE INDEX idx_email_outbox_status ON email_outbox (status, id);
+CREATE INDEX idx_email_outbox_claim_token ON email_outbox (claim_token);
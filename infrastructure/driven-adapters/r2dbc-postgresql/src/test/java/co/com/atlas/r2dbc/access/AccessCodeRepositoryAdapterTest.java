@@ -0,0 +1,42 @@
+package co.com.atlas.r2dbc.access;
+
+import co.com.atlas.model.access.AccessCode;
+import co.com.atlas.model.access.AccessCodeStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessCodeRepositoryAdapterTest {
+
+    @Test
+    @DisplayName("Should carry id * 2 + exhausted flag out of the UPDATE in its last assignment")
+    void shouldEncodeEntryStateInLastAssignment() {
+        String sql = AccessCodeRepositoryAdapter.REGISTER_ENTRY_SQL;
+        String assignments = sql.substring(sql.indexOf("SET"), sql.indexOf("WHERE"));
+
+        assertThat(assignments.trim()).startsWith("SET entries_used = entries_used + 1,");
+        assertThat(assignments.lastIndexOf("status = IF(LAST_INSERT_ID(id * 2 + (entries_used >= "))
+                .isGreaterThan(assignments.indexOf("entries_used = entries_used + 1"));
+        assertThat(sql).contains("WHERE code_hash = :codeHash");
+        assertThat(sql.indexOf("LAST_INSERT_ID")).isEqualTo(sql.lastIndexOf("LAST_INSERT_ID"));
+    }
+
+    @Test
+    @DisplayName("Should decode the code id and exhausted flag from LAST_INSERT_ID")
+    void shouldDecodeEntryState() {
+        Instant now = Instant.parse("2026-10-17T12:00:00Z");
+
+        AccessCode exhausted = AccessCodeRepositoryAdapter.toAdmittedCode(7L * 2 + 1, "hash", now);
+        AccessCode active = AccessCodeRepositoryAdapter.toAdmittedCode(7L * 2, "hash", now);
+
+        assertThat(exhausted.getId()).isEqualTo(7L);
+        assertThat(exhausted.getStatus()).isEqualTo(AccessCodeStatus.USED);
+        assertThat(active.getId()).isEqualTo(7L);
+        assertThat(active.getStatus()).isEqualTo(AccessCodeStatus.ACTIVE);
+        assertThat(active.getCodeHash()).isEqualTo("hash");
+        assertThat(active.getUpdatedAt()).isEqualTo(now);
+    }
+}
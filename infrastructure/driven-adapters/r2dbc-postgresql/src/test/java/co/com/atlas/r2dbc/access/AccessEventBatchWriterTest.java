@@ -0,0 +1,60 @@
+package co.com.atlas.r2dbc.access;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessEventBatchWriterTest {
+
+    @Test
+    @DisplayName("Should build one multi-row INSERT with a named parameter per cell")
+    void shouldBuildMultiRowInsert() {
+        String sql = AccessEventBatchWriter.buildInsert(3);
+
+        assertThat(sql).startsWith("INSERT INTO access_events (client_event_id, organization_id");
+        assertThat(sql).contains("VALUES (:p0_0, :p0_1");
+        assertThat(sql).contains("), (:p1_0, ");
+        assertThat(sql).endsWith(":p2_15)");
+        assertThat(sql.chars().filter(c -> c == ':').count())
+                .isEqualTo(3L * AccessEventBatchWriter.COLUMNS.length);
+    }
+
+    @Test
+    @DisplayName("Should claim client event ids without touching rows already synced")
+    void shouldBuildClaimUpsert() {
+        String sql = AccessEventBatchWriter.buildClaim(2);
+
+        assertThat(sql).startsWith("INSERT INTO access_event_client_ids (organization_id, client_event_id, claim_token)");
+        assertThat(sql).contains("(:organizationId, :c0, :token), (:organizationId, :c1, :token)");
+        assertThat(sql).endsWith(" ON DUPLICATE KEY UPDATE claim_token = claim_token");
+        assertThat(AccessEventBatchWriter.buildInsert(1)).doesNotContain("DUPLICATE");
+    }
+
+    @Test
+    @DisplayName("Should link claimed client event ids to the inserted events and release the claim")
+    void shouldBuildRecordEventIds() {
+        assertThat(AccessEventBatchWriter.buildRecordEventIds(2))
+                .contains("(:organizationId, :c0, :e0, :s0), (:organizationId, :c1, :e1, :s1)")
+                .endsWith("claim_token = NULL");
+    }
+
+    @Test
+    @DisplayName("Should return stored events in submission order, once per organization and client event id")
+    void shouldReorderReadBackToSubmissionOrder() {
+        List<AccessEventEntity> submitted = List.of(
+                event(1L, "c", null), event(1L, "a", null), event(2L, "a", null), event(1L, "c", null));
+        List<AccessEventEntity> stored = List.of(
+                event(1L, "a", 10L), event(2L, "a", 30L), event(1L, "c", 20L));
+
+        assertThat(AccessEventBatchWriter.inSubmissionOrder(submitted, stored))
+                .extracting(AccessEventEntity::getId)
+                .containsExactly(20L, 10L, 30L);
+    }
+
+    private static AccessEventEntity event(Long organizationId, String clientEventId, Long id) {
+        return AccessEventEntity.builder().id(id).organizationId(organizationId).clientEventId(clientEventId).build();
+    }
+}
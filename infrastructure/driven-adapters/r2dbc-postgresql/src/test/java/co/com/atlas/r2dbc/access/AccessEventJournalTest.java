@@ -0,0 +1,149 @@
+package co.com.atlas.r2dbc.access;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class AccessEventJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<AccessEventEntity> inserted = new ArrayList<>();
+    private final AtomicBoolean databaseDown = new AtomicBoolean();
+    private final List<AccessEventJournal> journals = new ArrayList<>();
+
+    private final AccessEventBatchWriter batchWriter = new AccessEventBatchWriter(null, mock(TransactionalOperator.class), 500) {
+        @Override
+        public Flux<AccessEventEntity> insertAll(List<AccessEventEntity> entities) {
+            if (databaseDown.get()) {
+                return Flux.error(new IllegalStateException("connection refused"));
+            }
+            inserted.addAll(entities);
+            return Flux.fromIterable(entities);
+        }
+    };
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        for (AccessEventJournal journal : journals) {
+            journal.destroy();
+        }
+    }
+
+    /**
+     * Journal sin hilos activos en la práctica: flush y drain se invocan desde el test.
+     */
+    private AccessEventJournal openJournal(DataSize segmentSize, int maxSegments) {
+        AccessEventJournal journal = new AccessEventJournal(batchWriter, new SimpleMeterRegistry(), true,
+                directory.toString(), segmentSize, maxSegments, Duration.ofHours(1), Duration.ofHours(1), 500);
+        journals.add(journal);
+        return journal;
+    }
+
+    private static AccessEventEntity event(String clientEventId) {
+        return AccessEventEntity.builder()
+                .clientEventId(clientEventId)
+                .organizationId(1L)
+                .authorizationId(10L)
+                .porterUserId(5L)
+                .deviceId("gate-1")
+                .action("ENTRY")
+                .scanResult("VALID")
+                .personName("Ana Pérez")
+                .personDocument("CC-123")
+                .vehicleMatch(null)
+                .offlineValidated(false)
+                .scannedAt(Instant.parse("2026-03-01T10:15:30.123456Z"))
+                .createdAt(Instant.parse("2026-03-01T10:15:30Z"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should confirm appends on fsync and drain them to the batch writer")
+    void shouldConfirmOnFsyncAndDrain() {
+        AccessEventJournal journal = openJournal(DataSize.ofKilobytes(64), 4);
+
+        StepVerifier.create(journal.append(event("a")))
+                .then(journal::flush)
+                .expectNext(true)
+                .verifyComplete();
+        assertThat(journal.drain()).isEqualTo(1);
+
+        assertThat(inserted).singleElement().satisfies(e -> {
+            assertThat(e.getClientEventId()).isEqualTo("a");
+            assertThat(e.getPersonName()).isEqualTo("Ana Pérez");
+            assertThat(e.getVehicleMatch()).isNull();
+            assertThat(e.getScannedAt()).isEqualTo(Instant.parse("2026-03-01T10:15:30.123456Z"));
+        });
+        assertThat(journal.drain()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep records when the database is down and retry on the next drain")
+    void shouldRetryFailedDrain() {
+        AccessEventJournal journal = openJournal(DataSize.ofKilobytes(64), 4);
+        journal.append(event("a")).subscribe();
+        journal.flush();
+
+        databaseDown.set(true);
+        assertThat(journal.drain()).isZero();
+        databaseDown.set(false);
+
+        assertThat(journal.drain()).isEqualTo(1);
+        assertThat(inserted).extracting(AccessEventEntity::getClientEventId).containsExactly("a");
+    }
+
+    @Test
+    @DisplayName("Should replay undrained records after a restart")
+    void shouldReplayAfterRestart() throws InterruptedException {
+        AccessEventJournal first = openJournal(DataSize.ofKilobytes(64), 4);
+        first.append(event("a")).subscribe();
+        first.append(event("b")).subscribe();
+        first.flush();
+        first.drain();
+        first.append(event("c")).subscribe();
+        first.destroy();
+        journals.remove(first);
+
+        AccessEventJournal second = openJournal(DataSize.ofKilobytes(64), 4);
+        assertThat(second.drain()).isEqualTo(1);
+
+        assertThat(inserted).extracting(AccessEventEntity::getClientEventId).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    @DisplayName("Should roll segments, delete drained ones and reject appends when full")
+    void shouldRollAndBoundSegments() {
+        AccessEventJournal journal = openJournal(DataSize.ofBytes(256), 2);
+
+        List<Boolean> results = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            journal.append(event("e" + i)).subscribe(results::add);
+        }
+        journal.flush();
+
+        assertThat(results).contains(false);
+        assertThat(journal.pendingSegments()).isEqualTo(2);
+
+        int accepted = (int) results.stream().filter(Boolean::booleanValue).count();
+        assertThat(journal.drain()).isEqualTo(accepted);
+        assertThat(journal.pendingSegments()).isEqualTo(1);
+    }
+}
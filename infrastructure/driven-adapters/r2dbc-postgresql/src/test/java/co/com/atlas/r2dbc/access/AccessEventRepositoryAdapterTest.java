@@ -0,0 +1,100 @@
+package co.com.atlas.r2dbc.access;
+
+import co.com.atlas.model.access.AccessAction;
+import co.com.atlas.model.access.AccessEvent;
+import co.com.atlas.model.access.ScanResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para el registro de escaneos con journal write-behind.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccessEventRepositoryAdapterTest {
+
+    @Mock
+    private AccessEventReactiveRepository repository;
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @Mock
+    private AccessEventBatchWriter batchWriter;
+
+    @Mock
+    private AccessEventJournal journal;
+
+    @InjectMocks
+    private AccessEventRepositoryAdapter adapter;
+
+    private AccessEvent scan() {
+        return AccessEvent.builder()
+                .organizationId(100L)
+                .authorizationId(5L)
+                .porterUserId(10L)
+                .action(AccessAction.ENTRY)
+                .scanResult(ScanResult.VALID)
+                .scannedAt(Instant.parse("2026-10-17T12:00:00Z"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should return a journaled scan without id, identified by its client event id")
+    void shouldReturnJournaledScanWithClientEventId() {
+        when(journal.isEnabled()).thenReturn(true);
+        when(journal.append(any(AccessEventEntity.class))).thenReturn(Mono.just(true));
+
+        StepVerifier.create(adapter.recordScan(scan()))
+                .assertNext(event -> {
+                    assertThat(event.getId()).isNull();
+                    assertThat(event.getClientEventId()).isNotBlank();
+                })
+                .verifyComplete();
+
+        verify(batchWriter, never()).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should insert through the batch writer when the journal rejects the scan")
+    @SuppressWarnings("unchecked")
+    void shouldFallBackToBatchWriterWhenJournalIsFull() {
+        when(journal.isEnabled()).thenReturn(true);
+        when(journal.append(any(AccessEventEntity.class))).thenReturn(Mono.just(false));
+        when(batchWriter.insertAll(anyList())).thenAnswer(invocation -> {
+            List<AccessEventEntity> entities = invocation.getArgument(0);
+            return Flux.fromIterable(entities).map(e -> e.toBuilder().id(42L).build());
+        });
+
+        StepVerifier.create(adapter.recordScan(scan()))
+                .assertNext(event -> {
+                    assertThat(event.getId()).isEqualTo(42L);
+                    assertThat(event.getClientEventId()).isNotBlank();
+                })
+                .verifyComplete();
+
+        ArgumentCaptor<List<AccessEventEntity>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(batchWriter).insertAll(inserted.capture());
+        assertThat(inserted.getValue()).singleElement()
+                .satisfies(entity -> assertThat(entity.getClientEventId()).isNotBlank());
+        verify(repository, never()).save(any(AccessEventEntity.class));
+    }
+}
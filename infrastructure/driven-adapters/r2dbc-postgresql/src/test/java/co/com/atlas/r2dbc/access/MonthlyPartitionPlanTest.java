@@ -0,0 +1,74 @@
+package co.com.atlas.r2dbc.access;
+
+import co.com.atlas.r2dbc.access.MonthlyPartitionPlan.Partition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MonthlyPartitionPlanTest {
+
+    // Límites de V26: p_start < 2026-01-01, p202612 < 2027-01-01 (UTC)
+    private static final List<Partition> V26 = List.of(
+            new Partition("p_start", 1767225600L),
+            new Partition("p202611", 1796083200L),
+            new Partition("p202612", 1798761600L),
+            new Partition("p_future", null));
+
+    @Test
+    @DisplayName("Should compute UTC month boundaries matching the V26 migration")
+    void shouldComputeBoundaries() {
+        assertThat(MonthlyPartitionPlan.partitionName(YearMonth.of(2026, 3))).isEqualTo("p202603");
+        assertThat(MonthlyPartitionPlan.upperBound(YearMonth.of(2025, 12))).isEqualTo(1767225600L);
+        assertThat(MonthlyPartitionPlan.upperBound(YearMonth.of(2026, 12))).isEqualTo(1798761600L);
+    }
+
+    @Test
+    @DisplayName("Should create only the missing months up to the premake horizon")
+    void shouldCreateMissingMonths() {
+        assertThat(MonthlyPartitionPlan.monthsToCreate(V26, YearMonth.of(2026, 10), 3))
+                .containsExactly(YearMonth.of(2027, 1));
+        assertThat(MonthlyPartitionPlan.monthsToCreate(V26, YearMonth.of(2026, 6), 3)).isEmpty();
+        assertThat(MonthlyPartitionPlan.reorganizeSql("access_events", List.of(YearMonth.of(2027, 1))))
+                .isEqualTo("ALTER TABLE access_events REORGANIZE PARTITION p_future INTO ("
+                        + "PARTITION p202701 VALUES LESS THAN (1801440000), "
+                        + "PARTITION p_future VALUES LESS THAN MAXVALUE)");
+    }
+
+    @Test
+    @DisplayName("Should drop only partitions entirely older than the retention window")
+    void shouldDropExpiredPartitions() {
+        assertThat(MonthlyPartitionPlan.partitionsToDrop(V26, YearMonth.of(2027, 12), 12))
+                .containsExactly("p_start", "p202611");
+        assertThat(MonthlyPartitionPlan.partitionsToDrop(V26, YearMonth.of(2027, 12), 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should archive rows as gzip CSV with a header and quoted values")
+    void shouldWriteGzipCsv(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("access_events-p202601.csv.gz");
+        try (PartitionArchiveWriter writer = new PartitionArchiveWriter(file)) {
+            writer.write(List.of("id", "notes", "synced_at"), Arrays.asList(1, "dijo \"hola\", salió", null));
+            writer.write(List.of("id", "notes", "synced_at"), Arrays.asList(2, "ok", "2026-01-05T10:00"));
+        }
+
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            in.transferTo(content);
+        }
+        assertThat(content.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,notes,synced_at\r\n1,\"dijo \"\"hola\"\", salió\",\r\n2,ok,2026-01-05T10:00\r\n");
+    }
+}
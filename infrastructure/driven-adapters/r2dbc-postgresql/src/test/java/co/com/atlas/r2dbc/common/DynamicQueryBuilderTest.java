@@ -188,4 +188,34 @@ class DynamicQueryBuilderTest {
         assertThat(bindings).isNotNull();
         assertThat(bindings).hasSize(1);
     }
+
+    @Test
+    @DisplayName("Should build keyset pagination condition with secondary ordering")
+    void shouldBuildKeysetPagination() {
+        Instant scannedAt = Instant.parse("2026-01-01T10:00:00Z");
+        DynamicQueryBuilder builder = DynamicQueryBuilder.from("access_events")
+                .where("organization_id", 1L)
+                .whereOptionalKeysetBefore("scanned_at", "id", scannedAt, 99L)
+                .orderBy("scanned_at", "DESC")
+                .thenOrderBy("id", "DESC")
+                .limit(51);
+
+        String sql = builder.buildSelect();
+
+        assertThat(sql).contains("(scanned_at < :scanned_at_cursor_2 OR (scanned_at = :scanned_at_cursor_eq_3 AND id < :id_cursor_4))");
+        assertThat(sql).contains("ORDER BY scanned_at DESC, id DESC");
+        assertThat(sql).endsWith("LIMIT 51");
+        assertThat(builder.getBindings()).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Should skip keyset condition on first page")
+    void shouldSkipKeysetWhenCursorIsNull() {
+        DynamicQueryBuilder builder = DynamicQueryBuilder.from("access_events")
+                .where("organization_id", 1L)
+                .whereOptionalKeysetBefore("scanned_at", "id", null, null);
+
+        assertThat(builder.buildSelect()).doesNotContain("scanned_at <");
+        assertThat(builder.getBindings()).hasSize(1);
+    }
 }
@@ -0,0 +1,80 @@
+package co.com.atlas.r2dbc.helper;
+
+import co.com.atlas.model.common.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHashingExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHashingExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.destroy();
+        }
+    }
+
+    @Test
+    void shouldEncodeAndMatchOffTheCallerThread() {
+        executor = new PasswordHashingExecutor(new BCryptPasswordEncoder(4), meterRegistry, 1, 4);
+
+        String hash = executor.encode("Secreta123").block();
+
+        assertThat(hash).startsWith("$2");
+        StepVerifier.create(executor.matches("Secreta123", hash))
+                .expectNext(true)
+                .verifyComplete();
+        assertThat(meterRegistry.get("auth.password.hash.duration").tag("operation", "encode").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("auth.password.hash.queue").tag("operation", "matches").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectWith503WhenQueueIsFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "$2a$hash";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        };
+        executor = new PasswordHashingExecutor(blockingEncoder, meterRegistry, 1, 1);
+
+        executor.encode("a").subscribe();
+        started.await();
+        executor.encode("b").subscribe();
+
+        StepVerifier.create(executor.encode("c"))
+                .expectErrorSatisfies(error -> {
+                    assertThat(error).isInstanceOf(BusinessException.class);
+                    assertThat(((BusinessException) error).getHttpStatus()).isEqualTo(503);
+                })
+                .verify();
+        assertThat(meterRegistry.get("auth.password.hash.rejected").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+    }
+}
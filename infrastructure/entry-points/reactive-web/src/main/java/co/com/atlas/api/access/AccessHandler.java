@@ -6,6 +6,7 @@ import co.com.atlas.api.common.dto.ApiResponse;
 import co.com.atlas.model.access.ScanResult;
 import co.com.atlas.model.common.BusinessException;
 import co.com.atlas.model.common.NotFoundException;
+import co.com.atlas.tenant.TenantContext;
 import co.com.atlas.usecase.access.AccessCodeUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,34 +28,37 @@ public class AccessHandler {
     private final AccessCodeUseCase accessCodeUseCase;
 
     public Mono<ServerResponse> validateCode(ServerRequest request) {
-        return request.bodyToMono(ValidateCodeRequest.class)
-                .flatMap(req -> {
-                    Long scannedBy = extractUserIdFromRequest(request);
-                    return accessCodeUseCase.validateCode(
+        return Mono.defer(() -> {
+            // El tenant se lee antes de leer el body: después el hilo puede ser de otra petición
+            Long organizationId = TenantContext.getOrganizationId();
+            Long scannedBy = extractUserIdFromRequest(request);
+            return request.bodyToMono(ValidateCodeRequest.class)
+                    .flatMap(req -> accessCodeUseCase.validateCode(
                             req.getCode(), 
+                            organizationId,
                             scannedBy, 
                             req.getScanLocation(), 
                             req.getDeviceInfo()
-                    );
-                })
-                .flatMap(scanLog -> {
-                    boolean isValid = scanLog.getScanResult() == ScanResult.VALID;
+                    ))
+                    .flatMap(scanLog -> {
+                        boolean isValid = scanLog.getScanResult() == ScanResult.VALID;
                     
-                    ValidateCodeResponse data = ValidateCodeResponse.builder()
-                            .valid(isValid)
-                            .scanResult(scanLog.getScanResult().name())
-                            .message(getMessageForResult(scanLog.getScanResult()))
-                            .build();
+                        ValidateCodeResponse data = ValidateCodeResponse.builder()
+                                .valid(isValid)
+                                .scanResult(scanLog.getScanResult().name())
+                                .message(getMessageForResult(scanLog.getScanResult()))
+                                .build();
                     
-                    ApiResponse<ValidateCodeResponse> response = ApiResponse.success(data, 
-                            isValid ? "Código válido" : "Código inválido");
+                        ApiResponse<ValidateCodeResponse> response = ApiResponse.success(data, 
+                                isValid ? "Código válido" : "Código inválido");
                     
-                    return ServerResponse.ok()
-                            .contentType(MediaType.APPLICATION_JSON)
-                            .bodyValue(response);
-                })
-                .onErrorResume(BusinessException.class, e -> buildErrorResponse(e, HttpStatus.BAD_REQUEST, request.path()))
-                .onErrorResume(NotFoundException.class, e -> buildErrorResponse(e, HttpStatus.NOT_FOUND, request.path()));
+                        return ServerResponse.ok()
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(response);
+                    })
+                    .onErrorResume(BusinessException.class, e -> buildErrorResponse(e, HttpStatus.BAD_REQUEST, request.path()))
+                    .onErrorResume(NotFoundException.class, e -> buildErrorResponse(e, HttpStatus.NOT_FOUND, request.path()));
+        });
     }
 
     public Mono<ServerResponse> getByVisitRequest(ServerRequest request) {
@@ -28,6 +28,7 @@ import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Handler para operaciones de autenticación.
@@ -128,9 +129,11 @@ public class AuthHandler {
                 .flatMap(verifyRequest -> {
                     String token = verifyRequest.getToken();
                     
-                    return jwtTokenGateway.validateToken(token)
-                            .flatMap(isValid -> {
-                                if (!isValid) {
+                    return jwtTokenGateway.parseToken(token)
+                            .map(Optional::of)
+                            .defaultIfEmpty(Optional.empty())
+                            .flatMap(parsed -> {
+                                if (parsed.isEmpty()) {
                                     Map<String, Object> metadata = new HashMap<>();
                                     metadata.put("errorCode", "TOKEN_001");
                                     
@@ -146,38 +149,33 @@ public class AuthHandler {
                                             .bodyValue(error);
                                 }
                                 
-                                return Mono.zip(
-                                        jwtTokenGateway.extractUserId(token),
-                                        jwtTokenGateway.extractRole(token)
-                                ).flatMap(tuple -> {
-                                    String userId = tuple.getT1();
-                                    String role = tuple.getT2();
-                                    
-                                    Map<String, Object> claimsMap = new HashMap<>();
-                                    claimsMap.put("userId", userId);
-                                    claimsMap.put("role", role);
-                                    claimsMap.put("message", "Token válido - Decodifica el token en el frontend para ver toda la información");
-                                    
-                                    log.info("=== TOKEN VERIFICADO ===");
-                                    log.info("User ID: {}", userId);
-                                    log.info("Role: {}", role);
-                                    log.info("=========================");
-                                    
-                                    VerifyTokenResponse data = VerifyTokenResponse.builder()
-                                            .claims(claimsMap)
-                                            .build();
-                                    
-                                    ApiResponse<VerifyTokenResponse> response = ApiResponse.<VerifyTokenResponse>builder()
-                                            .success(true)
-                                            .status(200)
-                                            .message("Token válido. Ver consola y decodificar JWT para ver todos los claims.")
-                                            .data(data)
-                                            .build();
-                                    
-                                    return ServerResponse.ok()
-                                            .contentType(MediaType.APPLICATION_JSON)
-                                            .bodyValue(response);
-                                });
+                                String userId = parsed.get().subject();
+                                String role = parsed.get().primaryRole();
+                                
+                                Map<String, Object> claimsMap = new HashMap<>();
+                                claimsMap.put("userId", userId);
+                                claimsMap.put("role", role);
+                                claimsMap.put("message", "Token válido - Decodifica el token en el frontend para ver toda la información");
+                                
+                                log.info("=== TOKEN VERIFICADO ===");
+                                log.info("User ID: {}", userId);
+                                log.info("Role: {}", role);
+                                log.info("=========================");
+                                
+                                VerifyTokenResponse data = VerifyTokenResponse.builder()
+                                        .claims(claimsMap)
+                                        .build();
+                                
+                                ApiResponse<VerifyTokenResponse> response = ApiResponse.<VerifyTokenResponse>builder()
+                                        .success(true)
+                                        .status(200)
+                                        .message("Token válido. Ver consola y decodificar JWT para ver todos los claims.")
+                                        .data(data)
+                                        .build();
+                                
+                                return ServerResponse.ok()
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .bodyValue(response);
                             })
                             .onErrorResume(e -> {
                                 log.error("Error al verificar token: {}", e.getMessage());
@@ -1,13 +1,9 @@
 package co.com.atlas.api.config;
 
-import co.com.atlas.model.auth.gateways.JwtTokenGateway;
+import co.com.atlas.model.auth.TokenClaims;
 import co.com.atlas.tenant.TenantContext;
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -19,14 +15,15 @@ import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Filtro WebFlux para autenticación JWT.
  * Valida el token Bearer en el header Authorization y establece el contexto de seguridad.
+ * Reutiliza los claims verificados por {@link TokenClaimsResolver}, por lo que el token
+ * se parsea y verifica una sola vez por request.
  */
 @Slf4j
 @Component
@@ -46,10 +43,7 @@ public class JwtAuthenticationFilter implements WebFilter {
             "/actuator"
     );
 
-    private final JwtTokenGateway jwtTokenGateway;
-
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private final TokenClaimsResolver tokenClaimsResolver;
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
@@ -72,20 +66,22 @@ public class JwtAuthenticationFilter implements WebFilter {
 
         String token = authHeader.substring(BEARER_PREFIX.length());
 
-        return jwtTokenGateway.validateToken(token)
+        return tokenClaimsResolver.resolve(exchange, token)
                 .onErrorResume(e -> {
                     log.error("JWT Filter - Error validating token: {}", e.getMessage());
-                    return Mono.just(false);
+                    return Mono.empty();
                 })
-                .flatMap(isValid -> {
-                    if (Boolean.TRUE.equals(isValid)) {
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(claims -> {
+                    if (claims.isPresent()) {
                         log.debug("JWT Filter - Token valid for path: {}", path);
                         // Set TenantContext HERE (same thread as handler will run on)
-                        setTenantContext(token);
-                        return createAuthentication(token)
-                                .flatMap(auth -> chain.filter(exchange)
-                                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(auth))
-                                        .doFinally(signal -> TenantContext.clear()));
+                        setTenantContext(claims.get());
+                        UsernamePasswordAuthenticationToken auth = createAuthentication(claims.get());
+                        return chain.filter(exchange)
+                                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(auth))
+                                .doFinally(signal -> TenantContext.clear());
                     }
                     log.warn("JWT Filter - Token invalid for path: {}", path);
                     return unauthorized(exchange);
@@ -96,49 +92,18 @@ public class JwtAuthenticationFilter implements WebFilter {
         return PUBLIC_PATHS.stream().anyMatch(path::startsWith);
     }
 
-    private Mono<UsernamePasswordAuthenticationToken> createAuthentication(String token) {
-        return Mono.zip(
-                jwtTokenGateway.extractUserId(token),
-                jwtTokenGateway.extractRole(token)
-        ).map(tuple -> {
-            String userId = tuple.getT1();
-            String role = tuple.getT2();
-            List<SimpleGrantedAuthority> authorities = List.of(
-                    new SimpleGrantedAuthority("ROLE_" + role)
-            );
-            UsernamePasswordAuthenticationToken auth =
-                    new UsernamePasswordAuthenticationToken(userId, null, authorities);
-
-            // Store organizationId in details so handlers can retrieve it reactively
-            Long orgId = extractOrganizationIdFromToken(token);
-            if (orgId != null) {
-                auth.setDetails(Map.of("organizationId", orgId));
-            }
-            return auth;
-        });
-    }
+    private UsernamePasswordAuthenticationToken createAuthentication(TokenClaims claims) {
+        List<SimpleGrantedAuthority> authorities = List.of(
+                new SimpleGrantedAuthority("ROLE_" + claims.primaryRole())
+        );
+        UsernamePasswordAuthenticationToken auth =
+                new UsernamePasswordAuthenticationToken(claims.subject(), null, authorities);
 
-    /**
-     * Extracts organizationId claim from JWT token.
-     */
-    private Long extractOrganizationIdFromToken(String token) {
-        try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-            Claims claims = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-            Object orgIdClaim = claims.get("organizationId");
-            if (orgIdClaim instanceof Integer) {
-                return ((Integer) orgIdClaim).longValue();
-            } else if (orgIdClaim instanceof Long) {
-                return (Long) orgIdClaim;
-            }
-        } catch (Exception e) {
-            log.warn("Failed to extract organizationId from token: {}", e.getMessage());
+        // Store organizationId in details so handlers can retrieve it reactively
+        if (claims.organizationId() != null) {
+            auth.setDetails(Map.of("organizationId", claims.organizationId()));
         }
-        return null;
+        return auth;
     }
 
     private Mono<Void> unauthorized(ServerWebExchange exchange) {
@@ -147,34 +112,19 @@ public class JwtAuthenticationFilter implements WebFilter {
     }
 
     /**
-     * Extrae userId y organizationId del JWT y los establece en TenantContext.
+     * Establece userId y organizationId de los claims verificados en TenantContext.
      * Se ejecuta en el mismo hilo donde correrá el handler (post-validación async).
      */
-    private void setTenantContext(String token) {
-        try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-            Claims claims = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-
-            String subject = claims.getSubject();
-            if (subject != null) {
-                TenantContext.setUserId(Long.valueOf(subject));
-            }
-
-            Object orgIdClaim = claims.get("organizationId");
-            if (orgIdClaim instanceof Integer) {
-                TenantContext.setOrganizationId(((Integer) orgIdClaim).longValue());
-            } else if (orgIdClaim instanceof Long) {
-                TenantContext.setOrganizationId((Long) orgIdClaim);
-            }
-
-            log.debug("JWT Filter - TenantContext set: userId={}, organizationId={}",
-                    TenantContext.getUserId(), TenantContext.getOrganizationId());
-        } catch (Exception e) {
-            log.warn("JWT Filter - Failed to set TenantContext: {}", e.getMessage());
+    private void setTenantContext(TokenClaims claims) {
+        Long userId = claims.userId();
+        if (userId != null) {
+            TenantContext.setUserId(userId);
         }
+        if (claims.organizationId() != null) {
+            TenantContext.setOrganizationId(claims.organizationId());
+        }
+
+        log.debug("JWT Filter - TenantContext set: userId={}, organizationId={}",
+                TenantContext.getUserId(), TenantContext.getOrganizationId());
     }
 }
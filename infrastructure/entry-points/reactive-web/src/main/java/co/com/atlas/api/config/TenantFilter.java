@@ -1,12 +1,8 @@
 package co.com.atlas.api.config;
 
 import co.com.atlas.tenant.TenantContext;
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpHeaders;
@@ -16,15 +12,13 @@ import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
- * WebFilter responsable de extraer información del tenant desde tokens JWT
- * y configurarla en el TenantContext para la solicitud actual.
+ * WebFilter responsable de verificar el token JWT y extraer la información del tenant
+ * para la solicitud actual.
  * <p>
- * Este filtro corre DESPUÉS de la autenticación y extrae:
+ * Este filtro corre ANTES de la autenticación y extrae:
  * <ul>
  *   <li>userId - del claim subject del JWT</li>
  *   <li>organizationId - del claim personalizado del JWT</li>
@@ -34,16 +28,21 @@ import java.util.List;
  * <p>El filtro limpia automáticamente el TenantContext después del procesamiento
  * para prevenir contaminación de contexto y memory leaks.</p>
  * 
- * <p><strong>Order:</strong> Corre después de JwtAuthenticationFilter (order 0) para asegurar
- * que el token ya está validado.</p>
+ * <p><strong>Order:</strong> Corre antes de la cadena de Spring Security, donde está
+ * JwtAuthenticationFilter, para que los claims ya estén resueltos cuando este autentica.</p>
+ * 
+ * <p>El token se verifica una sola vez mediante {@link TokenClaimsResolver}; los claims quedan
+ * como atributo del exchange y JwtAuthenticationFilter los reutiliza sin volver a parsear
+ * para construir el principal y establecer el TenantContext.</p>
  * 
  * @see TenantContext
  * @see JwtAuthenticationFilter
+ * @see TokenClaimsResolver
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-@Order(Ordered.HIGHEST_PRECEDENCE + 1) // Correr después del filtro de seguridad
+@Order(Ordered.HIGHEST_PRECEDENCE + 1) // Correr antes del filtro de seguridad
 public class TenantFilter implements WebFilter {
 
     private static final String BEARER_PREFIX = "Bearer ";
@@ -59,8 +58,7 @@ public class TenantFilter implements WebFilter {
             "/actuator"
     );
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private final TokenClaimsResolver tokenClaimsResolver;
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
@@ -84,89 +82,17 @@ public class TenantFilter implements WebFilter {
 
         String token = authHeader.substring(BEARER_PREFIX.length());
 
-        try {
-            // Solo logear; TenantContext se establece en JwtAuthenticationFilter
-            // (después de la validación async, en el hilo correcto)
-            Claims claims = parseToken(token);
-            Long userId = extractUserId(claims);
-            Long organizationId = extractOrganizationId(claims);
-
-            log.debug("TenantFilter - Token parsed: userId={}, organizationId={} (context set by JwtAuthFilter)", 
-                     userId, organizationId);
-
-            return chain.filter(exchange);
-
-        } catch (Exception e) {
-            log.error("TenantFilter - Error parsing token: {}", e.getMessage());
-            return chain.filter(exchange);
-        }
-    }
-
-    /**
-     * Parsea el token JWT y extrae los claims.
-     * 
-     * @param token el string del token JWT
-     * @return objeto Claims parseado
-     * @throws io.jsonwebtoken.JwtException si el token es inválido
-     */
-    private Claims parseToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    /**
-     * Extrae el user ID de los claims del JWT.
-     * 
-     * @param claims los claims del JWT
-     * @return user ID como Long, o null si no está presente o es inválido
-     */
-    private Long extractUserId(Claims claims) {
-        try {
-            String subject = claims.getSubject();
-            return subject != null ? Long.valueOf(subject) : null;
-        } catch (NumberFormatException e) {
-            log.warn("TenantFilter - Invalid userId in token subject: {}", claims.getSubject());
-            return null;
-        }
-    }
-
-    /**
-     * Extrae el organization ID de los claims del JWT.
-     * <p>
-     * Busca el claim 'organizationId' en el payload del JWT.
-     * Este claim debe ser establecido durante la generación del token en JwtTokenAdapter.
-     * </p>
-     * 
-     * @param claims los claims del JWT
-     * @return organization ID como Long, o null si no está presente o es inválido
-     */
-    private Long extractOrganizationId(Claims claims) {
-        try {
-            Object orgIdClaim = claims.get("organizationId");
-            if (orgIdClaim == null) {
-                log.debug("TenantFilter - No organizationId claim found in token");
-                return null;
-            }
-            
-            // Manejar tipos Integer y Long
-            if (orgIdClaim instanceof Integer) {
-                return ((Integer) orgIdClaim).longValue();
-            } else if (orgIdClaim instanceof Long) {
-                return (Long) orgIdClaim;
-            } else if (orgIdClaim instanceof String) {
-                return Long.valueOf((String) orgIdClaim);
-            } else {
-                log.warn("TenantFilter - Unexpected organizationId type: {}", orgIdClaim.getClass());
-                return null;
-            }
-        } catch (Exception e) {
-            log.warn("TenantFilter - Error extracting organizationId from token: {}", e.getMessage());
-            return null;
-        }
+        // Solo verificar y logear; TenantContext se establece más adelante en JwtAuthenticationFilter
+        // (que corre después de este filtro y reutiliza los claims resueltos aquí)
+        return tokenClaimsResolver.resolve(exchange, token)
+                .doOnNext(claims -> log.debug(
+                        "TenantFilter - Token parsed: userId={}, organizationId={} (context will be set by JwtAuthFilter)",
+                        claims.userId(), claims.organizationId()))
+                .onErrorResume(e -> {
+                    log.error("TenantFilter - Error parsing token: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then(Mono.defer(() -> chain.filter(exchange)));
     }
 
     /**
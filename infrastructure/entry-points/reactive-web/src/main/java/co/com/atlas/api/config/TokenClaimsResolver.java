@@ -0,0 +1,59 @@
+package co.com.atlas.api.config;
+
+import co.com.atlas.model.auth.TokenClaims;
+import co.com.atlas.model.auth.gateways.JwtTokenGateway;
+import co.com.atlas.usecase.auth.RolePermissionCatalog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Resuelve los claims del JWT una sola vez por request.
+ * <p>
+ * El primer filtro que procesa el token lo verifica a través de {@link JwtTokenGateway#parseToken(String)}
+ * y guarda el {@link TokenClaims} inmutable como atributo del exchange; los filtros posteriores
+ * reutilizan ese objeto sin volver a verificar la firma ni decodificar el JSON.
+ * </p>
+ * <p>
+ * Los tokens compactos (claim {@code pv}) no traen permisos: se expanden desde los roles con
+ * el catálogo en memoria {@link RolePermissionCatalog}, sin consultar la base de datos.
+ * </p>
+ *
+ * @see TenantFilter
+ * @see JwtAuthenticationFilter
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenClaimsResolver {
+
+    public static final String TOKEN_CLAIMS_ATTRIBUTE = TokenClaimsResolver.class.getName() + ".TOKEN_CLAIMS";
+
+    private final JwtTokenGateway jwtTokenGateway;
+    private final RolePermissionCatalog rolePermissionCatalog;
+
+    /**
+     * Obtiene los claims ya verificados del exchange o verifica el token y los almacena.
+     *
+     * @param exchange el exchange del request actual
+     * @param token    JWT sin el prefijo Bearer
+     * @return claims verificados, o Mono vacío si el token es inválido
+     */
+    public Mono<TokenClaims> resolve(ServerWebExchange exchange, String token) {
+        TokenClaims cached = exchange.getAttribute(TOKEN_CLAIMS_ATTRIBUTE);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return jwtTokenGateway.parseToken(token)
+                .flatMap(this::expandPermissions)
+                .doOnNext(claims -> exchange.getAttributes().put(TOKEN_CLAIMS_ATTRIBUTE, claims));
+    }
+
+    private Mono<TokenClaims> expandPermissions(TokenClaims claims) {
+        if (claims.permissionsVersion() == null) {
+            return Mono.just(claims);
+        }
+        return rolePermissionCatalog.expandPermissionCodes(claims.roles(), claims.permissionsVersion())
+                .map(claims::withPermissions);
+    }
+}
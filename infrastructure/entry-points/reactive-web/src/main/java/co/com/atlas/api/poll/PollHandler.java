@@ -7,13 +7,22 @@ import co.com.atlas.api.poll.dto.PollResponse;
 import co.com.atlas.api.poll.dto.VoteRequest;
 import co.com.atlas.model.poll.Poll;
 import co.com.atlas.model.poll.PollOption;
+import co.com.atlas.model.poll.PollTallyUpdate;
 import co.com.atlas.usecase.poll.PollUseCase;
+import co.com.atlas.usecase.poll.StreamPollResultsUseCase;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,6 +31,10 @@ import java.util.stream.Collectors;
 public class PollHandler {
 
     private final PollUseCase pollUseCase;
+    private final StreamPollResultsUseCase streamPollResultsUseCase;
+
+    @Value("${atlas.polls.results-stream.heartbeat:PT15S}")
+    private Duration heartbeat;
 
     public Mono<ServerResponse> create(ServerRequest request) {
         Long authorId = Long.valueOf(request.headers().firstHeader("X-User-Id"));
@@ -93,6 +106,37 @@ public class PollHandler {
                 .flatMap(this::buildSuccessResponse);
     }
 
+    /**
+     * Resultados en vivo (Server-Sent Events): un evento {@code snapshot} al conectar y luego
+     * eventos {@code delta} con las opciones que cambiaron. El flujo termina al cerrarse la encuesta.
+     * GET /api/polls/{id}/results/stream
+     */
+    public Mono<ServerResponse> streamResults(ServerRequest request) {
+        Long pollId = Long.valueOf(request.pathVariable("id"));
+        return pollUseCase.findById(pollId)
+                .flatMap(poll -> {
+                    // El heartbeat se detiene cuando termina el flujo de resultados
+                    Sinks.Empty<Void> finished = Sinks.empty();
+                    Flux<ServerSentEvent<Object>> updates = streamPollResultsUseCase.execute(pollId)
+                            .map(this::toEvent)
+                            .doFinally(signal -> finished.tryEmitEmpty());
+                    Flux<ServerSentEvent<Object>> heartbeats = Flux.interval(heartbeat)
+                            .map(tick -> ServerSentEvent.builder().comment("keepalive").build())
+                            .takeUntilOther(finished.asMono().thenReturn(Boolean.TRUE));
+                    return ServerResponse.ok()
+                            .contentType(MediaType.TEXT_EVENT_STREAM)
+                            .body(BodyInserters.fromServerSentEvents(Flux.merge(updates, heartbeats)));
+                });
+    }
+
+    private ServerSentEvent<Object> toEvent(PollTallyUpdate update) {
+        return ServerSentEvent.builder()
+                .id(String.valueOf(update.sequence()))
+                .event(update.snapshot() ? "snapshot" : "delta")
+                .data(update)
+                .build();
+    }
+
     private Mono<ServerResponse> buildSuccessResponse(Poll poll) {
         return ServerResponse.ok()
                 .bodyValue(ApiResponse.success(toResponse(poll), "Operación exitosa"));
@@ -170,6 +170,24 @@ public class PollRouterRest {
                                             content = @Content(schema = @Schema(implementation = PollResponse.class)))
                             }
                     )
+            ),
+            @RouterOperation(
+                    path = "/api/polls/{id}/results/stream",
+                    method = RequestMethod.GET,
+                    beanClass = PollHandler.class,
+                    beanMethod = "streamResults",
+                    operation = @Operation(
+                            operationId = "streamPollResults",
+                            summary = "Resultados en vivo (SSE)",
+                            description = "Emite un evento snapshot con el conteo vigente y luego eventos delta con las "
+                                    + "opciones que cambiaron, agrupados por intervalo; termina al cerrarse la encuesta",
+                            tags = {"Polls"},
+                            parameters = @Parameter(name = "id", in = ParameterIn.PATH, description = "ID de la encuesta", required = true),
+                            responses = {
+                                    @ApiResponse(responseCode = "200", description = "Flujo text/event-stream de PollTallyUpdate"),
+                                    @ApiResponse(responseCode = "404", description = "Encuesta no encontrada")
+                            }
+                    )
             )
     })
     public RouterFunction<ServerResponse> pollRoutes(PollHandler handler) {
@@ -180,6 +198,7 @@ public class PollRouterRest {
                 .andRoute(POST("/api/polls/{id}/activate"), handler::activate)
                 .andRoute(POST("/api/polls/{id}/close"), handler::close)
                 .andRoute(POST("/api/polls/{id}/vote"), handler::vote)
-                .andRoute(GET("/api/polls/{id}/results"), handler::getResults);
+                .andRoute(GET("/api/polls/{id}/results"), handler::getResults)
+                .andRoute(GET("/api/polls/{id}/results/stream"), handler::streamResults);
     }
 }
@@ -4,10 +4,20 @@ import co.com.atlas.api.common.dto.ApiResponse;
 import co.com.atlas.api.porter.dto.ValidateAuthorizationRequest;
 import co.com.atlas.api.porter.dto.ValidateByDocumentRequest;
 import co.com.atlas.api.porter.dto.VehicleExitRequest;
+import co.com.atlas.model.access.AccessAction;
 import co.com.atlas.model.access.AccessEvent;
+import co.com.atlas.model.access.AccessEventCursor;
+import co.com.atlas.model.access.AccessEventPage;
+import co.com.atlas.model.access.AccessEventQuery;
+import co.com.atlas.model.access.AccessStats;
+import co.com.atlas.model.access.AccessStatsGranularity;
+import co.com.atlas.model.access.ScanResult;
+import co.com.atlas.model.authorization.RevocationDelta;
 import co.com.atlas.model.common.BusinessException;
 import co.com.atlas.model.common.NotFoundException;
 import co.com.atlas.tenant.TenantContext;
+import co.com.atlas.usecase.access.GetAccessStatsUseCase;
+import co.com.atlas.usecase.access.GetRevocationFilterUseCase;
 import co.com.atlas.usecase.access.GetRevocationListUseCase;
 import co.com.atlas.usecase.access.RegisterVehicleExitUseCase;
 import co.com.atlas.usecase.access.SyncAccessEventsUseCase;
@@ -23,6 +33,7 @@ import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -41,7 +52,9 @@ public class AccessPorterHandler {
     private final ValidateByDocumentUseCase validateByDocumentUseCase;
     private final SyncAccessEventsUseCase syncAccessEventsUseCase;
     private final GetRevocationListUseCase getRevocationListUseCase;
+    private final GetRevocationFilterUseCase getRevocationFilterUseCase;
     private final RegisterVehicleExitUseCase registerVehicleExitUseCase;
+    private final GetAccessStatsUseCase getAccessStatsUseCase;
 
     /**
      * Valida una autorización online mediante QR firmado.
@@ -127,35 +140,45 @@ public class AccessPorterHandler {
     /**
      * Sincroniza eventos de acceso offline al backend.
      * POST /api/porter/access-events/sync
+     * Acepta un arreglo JSON o NDJSON (application/x-ndjson); los elementos se decodifican
+     * y persisten de forma incremental. Reenviar eventos con el mismo clientEventId es seguro.
+     * La organización de cada evento se toma del token, nunca del cuerpo del request.
      */
     public Mono<ServerResponse> syncEvents(ServerRequest request) {
-        return Mono.defer(() -> request.bodyToFlux(AccessEvent.class)
-                .collectList()
-                .flatMap(events -> syncAccessEventsUseCase.execute(events)
-                        .collectList()
-                        .flatMap(synced -> {
-                            Map<String, Object> data = new HashMap<>();
-                            data.put("syncedCount", synced.size());
-                            data.put("syncedIds", synced.stream().map(AccessEvent::getId).toList());
+        return Mono.defer(() -> {
+            Long organizationId = TenantContext.getOrganizationIdOrThrow();
+
+            return syncAccessEventsUseCase.sync(request.bodyToFlux(AccessEvent.class)
+                            .map(event -> event.toBuilder().organizationId(organizationId).build()))
+                    .map(AccessEvent::getId)
+                    .collectList()
+                    .flatMap(syncedIds -> {
+                        Map<String, Object> data = new HashMap<>();
+                        data.put("syncedCount", syncedIds.size());
+                        data.put("syncedIds", syncedIds);
 
-                            ApiResponse<Map<String, Object>> response = ApiResponse.<Map<String, Object>>builder()
-                                    .success(true)
-                                    .status(HttpStatus.OK.value())
-                                    .message(synced.size() + " evento(s) sincronizado(s)")
-                                    .data(data)
-                                    .build();
-                            return ServerResponse.ok()
-                                    .contentType(MediaType.APPLICATION_JSON)
-                                    .bodyValue(response);
-                        }))
-        ).onErrorResume(this::handleError);
+                        ApiResponse<Map<String, Object>> response = ApiResponse.<Map<String, Object>>builder()
+                                .success(true)
+                                .status(HttpStatus.OK.value())
+                                .message(syncedIds.size() + " evento(s) sincronizado(s)")
+                                .data(data)
+                                .build();
+                        return ServerResponse.ok()
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(response);
+                    });
+        }).onErrorResume(this::handleError);
     }
 
     /**
      * Obtiene la lista de autorizaciones revocadas.
+     * GET /api/porter/revocations?cursor={version}&limit={n}
      * GET /api/porter/revocations?since={timestamp}
      */
     public Mono<ServerResponse> getRevocations(ServerRequest request) {
+        if (request.queryParam("cursor").isPresent()) {
+            return getRevocationDelta(request);
+        }
         return Mono.defer(() -> {
             Long organizationId = TenantContext.getOrganizationIdOrThrow();
             String sinceParam = request.queryParam("since").orElse(null);
@@ -177,6 +200,65 @@ public class AccessPorterHandler {
         }).onErrorResume(this::handleError);
     }
 
+    /**
+     * Revocaciones nuevas desde el cursor enviado por el dispositivo.
+     * La respuesta incluye el siguiente cursor a persistir en el dispositivo.
+     */
+    private Mono<ServerResponse> getRevocationDelta(ServerRequest request) {
+        return Mono.defer(() -> {
+            Long organizationId = TenantContext.getOrganizationIdOrThrow();
+            Long cursor = parseLong(request.queryParam("cursor").orElse(null), "cursor");
+            Long limit = parseLong(request.queryParam("limit").orElse(null), "limit");
+
+            return getRevocationListUseCase.getDelta(organizationId, cursor,
+                            limit != null ? limit.intValue() : null)
+                    .flatMap(delta -> {
+                        ApiResponse<RevocationDelta> response = ApiResponse.<RevocationDelta>builder()
+                                .success(true)
+                                .status(HttpStatus.OK.value())
+                                .message(delta.revokedIds().size() + " revocación(es)")
+                                .data(delta)
+                                .build();
+                        return ServerResponse.ok()
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(response);
+                    });
+        }).onErrorResume(this::handleError);
+    }
+
+    /**
+     * Filtro de Bloom binario de autorizaciones revocadas.
+     * GET /api/porter/revocations/filter
+     * Los parámetros del filtro viajan en headers X-Revocation-Filter-*.
+     */
+    public Mono<ServerResponse> getRevocationFilter(ServerRequest request) {
+        return Mono.defer(() -> {
+            Long organizationId = TenantContext.getOrganizationIdOrThrow();
+
+            return getRevocationFilterUseCase.execute(organizationId)
+                    .flatMap(filter -> ServerResponse.ok()
+                            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                            .header("X-Revocation-Filter-Version", String.valueOf(filter.version()))
+                            .header("X-Revocation-Filter-Fpp", String.valueOf(filter.falsePositiveRate()))
+                            .header("X-Revocation-Filter-Count", String.valueOf(filter.count()))
+                            .header("X-Revocation-Filter-Bits", String.valueOf(filter.numBits()))
+                            .header("X-Revocation-Filter-Hashes", String.valueOf(filter.numHashes()))
+                            .header("X-Revocation-Filter-Algorithm", "bloom-splitmix64-v1")
+                            .bodyValue(filter.bits()));
+        }).onErrorResume(this::handleError);
+    }
+
+    private Long parseLong(String value, String name) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new BusinessException("Parámetro inválido: " + name, "INVALID_PARAMETER");
+        }
+    }
+
     /**
      * Registra la salida de un vehículo.
      * POST /api/porter/vehicle-exit
@@ -206,23 +288,23 @@ public class AccessPorterHandler {
     }
 
     /**
-     * Historial de eventos de acceso de la organización.
-     * GET /api/porter/access-events
+     * Historial paginado de eventos de acceso de la organización.
+     * GET /api/porter/access-events?from=&to=&action=&scanResult=&cursor=&limit=
      */
     public Mono<ServerResponse> getAccessEvents(ServerRequest request) {
         return Mono.defer(() -> {
             Long organizationId = TenantContext.getOrganizationIdOrThrow();
+            AccessEventQuery query = toAccessEventQuery(request);
 
-            return validateByDocumentUseCase.getAccessEventsByOrganization(organizationId)
-                    .collectList()
-                    .flatMap(events -> {
-                        ApiResponse<List<AccessEvent>> response = ApiResponse.<List<AccessEvent>>builder()
+            return validateByDocumentUseCase.getAccessEventsPage(organizationId, query)
+                    .flatMap(page -> {
+                        ApiResponse<AccessEventPage> response = ApiResponse.<AccessEventPage>builder()
                                 .success(true)
                                 .status(HttpStatus.OK.value())
-                                .message(events.isEmpty()
+                                .message(page.events().isEmpty()
                                         ? "No hay eventos de acceso registrados"
-                                        : events.size() + " evento(s) de acceso")
-                                .data(events)
+                                        : page.events().size() + " evento(s) de acceso")
+                                .data(page)
                                 .build();
                         return ServerResponse.ok()
                                 .contentType(MediaType.APPLICATION_JSON)
@@ -231,6 +313,58 @@ public class AccessPorterHandler {
         }).onErrorResume(this::handleError);
     }
 
+    /**
+     * Estadísticas de acceso pre-agregadas por bucket, dispositivo, acción y resultado.
+     * GET /api/porter/access-stats?granularity=HOUR|DAY&from=&to=&deviceId=
+     */
+    public Mono<ServerResponse> getAccessStats(ServerRequest request) {
+        return Mono.defer(() -> {
+            Long organizationId = TenantContext.getOrganizationIdOrThrow();
+            AccessStatsGranularity granularity;
+            Instant from;
+            Instant to;
+            try {
+                granularity = request.queryParam("granularity")
+                        .map(value -> AccessStatsGranularity.valueOf(value.toUpperCase()))
+                        .orElse(null);
+                from = request.queryParam("from").map(Instant::parse).orElse(null);
+                to = request.queryParam("to").map(Instant::parse).orElse(null);
+            } catch (DateTimeParseException | IllegalArgumentException e) {
+                throw new BusinessException("Filtro de estadísticas inválido", "INVALID_PARAMETER");
+            }
+            String deviceId = request.queryParam("deviceId").filter(value -> !value.isBlank()).orElse(null);
+
+            return getAccessStatsUseCase.execute(organizationId, granularity, from, to, deviceId)
+                    .flatMap(stats -> {
+                        ApiResponse<AccessStats> response = ApiResponse.<AccessStats>builder()
+                                .success(true)
+                                .status(HttpStatus.OK.value())
+                                .message(stats.buckets().size() + " bucket(s) de estadísticas")
+                                .data(stats)
+                                .build();
+                        return ServerResponse.ok()
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(response);
+                    });
+        }).onErrorResume(this::handleError);
+    }
+
+    private AccessEventQuery toAccessEventQuery(ServerRequest request) {
+        try {
+            Long limit = parseLong(request.queryParam("limit").orElse(null), "limit");
+            return AccessEventQuery.builder()
+                    .from(request.queryParam("from").map(Instant::parse).orElse(null))
+                    .to(request.queryParam("to").map(Instant::parse).orElse(null))
+                    .action(request.queryParam("action").map(AccessAction::valueOf).orElse(null))
+                    .scanResult(request.queryParam("scanResult").map(ScanResult::valueOf).orElse(null))
+                    .after(request.queryParam("cursor").map(AccessEventCursor::decode).orElse(null))
+                    .limit(limit != null ? limit.intValue() : null)
+                    .build();
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new BusinessException("Filtro de eventos inválido", "INVALID_PARAMETER");
+        }
+    }
+
     private String getMessageForResult(AccessEvent event) {
         if (event.getScanResult() == null) {
             return "Evento registrado";
@@ -70,7 +70,8 @@ public class AccessPorterRouterRest {
                     operation = @Operation(
                             operationId = "syncAccessEvents",
                             summary = "Sincronizar eventos offline",
-                            description = "Recibe lote de eventos generados offline y los persiste",
+                            description = "Recibe eventos generados offline (arreglo JSON o NDJSON) y los persiste "
+                                    + "en ventanas; idempotente por clientEventId",
                             tags = {"Porter Access"}
                     )
             ),
@@ -82,7 +83,33 @@ public class AccessPorterRouterRest {
                     operation = @Operation(
                             operationId = "getRevocations",
                             summary = "Lista de revocaciones",
-                            description = "Obtiene IDs de autorizaciones revocadas desde un timestamp",
+                            description = "Obtiene IDs de autorizaciones revocadas desde un cursor de versión (cursor, limit) "
+                                    + "o desde un timestamp (since)",
+                            tags = {"Porter Access"}
+                    )
+            ),
+            @RouterOperation(
+                    path = "/api/porter/revocations/filter",
+                    method = RequestMethod.GET,
+                    beanClass = AccessPorterHandler.class,
+                    beanMethod = "getRevocationFilter",
+                    operation = @Operation(
+                            operationId = "getRevocationFilter",
+                            summary = "Filtro de Bloom de revocaciones",
+                            description = "Retorna el filtro binario de autorizaciones revocadas; versión y tasa de "
+                                    + "falsos positivos en headers X-Revocation-Filter-*",
+                            tags = {"Porter Access"}
+                    )
+            ),
+            @RouterOperation(
+                    path = "/api/porter/revocations/stream",
+                    method = RequestMethod.GET,
+                    beanClass = RevocationStreamHandler.class,
+                    beanMethod = "streamRevocations",
+                    operation = @Operation(
+                            operationId = "streamRevocations",
+                            summary = "Canal push de revocaciones (SSE)",
+                            description = "Emite revocaciones en tiempo real; reanuda desde cursor o Last-Event-ID",
                             tags = {"Porter Access"}
                     )
             ),
@@ -106,17 +133,37 @@ public class AccessPorterRouterRest {
                     operation = @Operation(
                             operationId = "getAccessEvents",
                             summary = "Historial de eventos de acceso",
+                            description = "Historial paginado por cursor (keyset sobre scanned_at, id) con filtros "
+                                    + "from, to, action y scanResult",
+                            tags = {"Porter Access"}
+                    )
+            ),
+            @RouterOperation(
+                    path = "/api/porter/access-stats",
+                    method = RequestMethod.GET,
+                    beanClass = AccessPorterHandler.class,
+                    beanMethod = "getAccessStats",
+                    operation = @Operation(
+                            operationId = "getAccessStats",
+                            summary = "Estadísticas de acceso",
+                            description = "Conteos pre-agregados por hora o día (UTC), dispositivo, acción y "
+                                    + "resultado. Parámetros: granularity, from, to, deviceId",
                             tags = {"Porter Access"}
                     )
             )
     })
-    public RouterFunction<ServerResponse> accessPorterRoutes(AccessPorterHandler handler) {
+    public RouterFunction<ServerResponse> accessPorterRoutes(AccessPorterHandler handler,
+                                                             RevocationStreamHandler revocationStreamHandler) {
         return route(POST("/api/porter/validate-authorization").and(accept(MediaType.APPLICATION_JSON)), handler::validateAuthorization)
                 .andRoute(GET("/api/porter/validate-by-document"), handler::findByDocument)
                 .andRoute(POST("/api/porter/validate-by-document").and(accept(MediaType.APPLICATION_JSON)), handler::validateByDocument)
-                .andRoute(POST("/api/porter/access-events/sync").and(accept(MediaType.APPLICATION_JSON)), handler::syncEvents)
+                .andRoute(POST("/api/porter/access-events/sync")
+                        .and(accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON)), handler::syncEvents)
                 .andRoute(GET("/api/porter/revocations"), handler::getRevocations)
+                .andRoute(GET("/api/porter/revocations/filter"), handler::getRevocationFilter)
+                .andRoute(GET("/api/porter/revocations/stream"), revocationStreamHandler::streamRevocations)
                 .andRoute(POST("/api/porter/vehicle-exit").and(accept(MediaType.APPLICATION_JSON)), handler::registerVehicleExit)
-                .andRoute(GET("/api/porter/access-events"), handler::getAccessEvents);
+                .andRoute(GET("/api/porter/access-events"), handler::getAccessEvents)
+                .andRoute(GET("/api/porter/access-stats"), handler::getAccessStats);
     }
 }
@@ -0,0 +1,84 @@
+package co.com.atlas.api.porter;
+
+import co.com.atlas.model.authorization.RevocationEntry;
+import co.com.atlas.tenant.TenantContext;
+import co.com.atlas.usecase.access.StreamRevocationsUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Handler del canal push de revocaciones (Server-Sent Events).
+ * <p>
+ * Cada evento {@code revocation} lleva como {@code id} la versión del log, por lo que el
+ * dispositivo reanuda con el header estándar {@code Last-Event-ID} o con {@code ?cursor=N}.
+ * Se envía un comentario de heartbeat periódico para mantener viva la conexión en proxies.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RevocationStreamHandler {
+
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private final StreamRevocationsUseCase streamRevocationsUseCase;
+
+    @Value("${atlas.porter.revocation-stream.heartbeat:PT15S}")
+    private Duration heartbeat;
+
+    /**
+     * Flujo SSE de revocaciones de la organización.
+     * GET /api/porter/revocations/stream?cursor={version}
+     */
+    public Mono<ServerResponse> streamRevocations(ServerRequest request) {
+        Long organizationId;
+        Long cursor;
+        try {
+            organizationId = TenantContext.getOrganizationIdOrThrow();
+            cursor = resolveCursor(request);
+        } catch (IllegalStateException e) {
+            return ServerResponse.status(HttpStatus.UNAUTHORIZED).build();
+        } catch (NumberFormatException e) {
+            return ServerResponse.badRequest().build();
+        }
+
+        Flux<ServerSentEvent<Object>> revocations = streamRevocationsUseCase.execute(organizationId, cursor)
+                .map(this::toEvent);
+        Flux<ServerSentEvent<Object>> heartbeats = Flux.interval(heartbeat)
+                .map(tick -> ServerSentEvent.builder().comment("keepalive").build());
+
+        Flux<ServerSentEvent<Object>> events = Flux.merge(revocations, heartbeats)
+                .doOnError(e -> log.info("Revocation stream closed for organization {}: {}",
+                        organizationId, e.getMessage()));
+
+        return ServerResponse.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .body(BodyInserters.fromServerSentEvents(events));
+    }
+
+    private Long resolveCursor(ServerRequest request) {
+        String value = request.queryParam("cursor")
+                .orElseGet(() -> request.headers().firstHeader(LAST_EVENT_ID));
+        return value == null || value.isBlank() ? null : Long.parseLong(value.trim());
+    }
+
+    private ServerSentEvent<Object> toEvent(RevocationEntry entry) {
+        return ServerSentEvent.builder()
+                .id(String.valueOf(entry.version()))
+                .event("revocation")
+                .data(entry)
+                .build();
+    }
+}
@@ -0,0 +1,80 @@
+package co.com.atlas.api.config;
+
+import co.com.atlas.model.auth.TokenClaims;
+import co.com.atlas.model.auth.gateways.JwtTokenGateway;
+import co.com.atlas.model.permission.Permission;
+import co.com.atlas.model.permission.RolePermission;
+import co.com.atlas.model.permission.gateways.PermissionRepository;
+import co.com.atlas.usecase.auth.RolePermissionCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenClaimsResolverTest {
+
+    @Mock
+    private JwtTokenGateway jwtTokenGateway;
+
+    @Mock
+    private PermissionRepository permissionRepository;
+
+    private TokenClaimsResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new TokenClaimsResolver(jwtTokenGateway, new RolePermissionCatalog(permissionRepository));
+    }
+
+    @Test
+    void shouldParseTokenOncePerExchange() {
+        TokenClaims claims = new TokenClaims("10", 1L, List.of("OWNER"), List.of(), "a@b.co", "Ana",
+                null, Instant.now().plusSeconds(3600), null);
+        when(jwtTokenGateway.parseToken("token")).thenReturn(Mono.just(claims));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/units"));
+
+        StepVerifier.create(resolver.resolve(exchange, "token")).expectNext(claims).verifyComplete();
+        StepVerifier.create(resolver.resolve(exchange, "token")).expectNext(claims).verifyComplete();
+
+        verify(jwtTokenGateway, times(1)).parseToken("token");
+    }
+
+    @Test
+    void shouldExpandPermissionsOfCompactToken() {
+        TokenClaims compact = new TokenClaims("10", 1L, List.of("PORTERO_GENERAL"), List.of(), "p@atlas.co",
+                "Portero", null, Instant.now().plusSeconds(3600), 7L);
+        when(jwtTokenGateway.parseToken("compact")).thenReturn(Mono.just(compact));
+        when(permissionRepository.findCatalogVersion()).thenReturn(Mono.just(7L));
+        when(permissionRepository.findAllRolePermissions()).thenReturn(Flux.just(
+                new RolePermission(3L, "PORTERO_GENERAL", Permission.builder().code("ACCESS_SCAN").build()),
+                new RolePermission(4L, "OWNER", Permission.builder().code("VISITS_APPROVE").build())));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/porter"));
+
+        StepVerifier.create(resolver.resolve(exchange, "compact"))
+                .assertNext(claims -> assertThat(claims.permissions()).containsExactly("ACCESS_SCAN"))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldCompleteEmptyForInvalidToken() {
+        when(jwtTokenGateway.parseToken("bad")).thenReturn(Mono.empty());
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/units"));
+
+        StepVerifier.create(resolver.resolve(exchange, "bad")).verifyComplete();
+    }
+}
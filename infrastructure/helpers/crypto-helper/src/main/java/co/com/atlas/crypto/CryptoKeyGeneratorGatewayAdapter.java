@@ -12,19 +12,23 @@ import java.security.PrivateKey;
 import java.security.Signature;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
 import java.util.UUID;
 
 /**
  * Implementación del gateway de generación de claves criptográficas.
  * Delega al CryptoKeyGeneratorService para operaciones Ed25519 + AES-256/GCM.
  * Las operaciones criptográficas se ejecutan en boundedElastic para no bloquear el event loop.
+ * Las claves privadas descifradas se reutilizan desde {@link SigningKeyCache}.
  */
 @Component
 @RequiredArgsConstructor
 public class CryptoKeyGeneratorGatewayAdapter implements CryptoKeyGeneratorGateway {
 
     private final CryptoKeyGeneratorService cryptoKeyGeneratorService;
+    private final SigningKeyCache signingKeyCache;
 
     @Override
     public Mono<OrganizationCryptoKey> generateForOrganization(Long organizationId) {
@@ -48,14 +52,40 @@ public class CryptoKeyGeneratorGatewayAdapter implements CryptoKeyGeneratorGatew
 
     @Override
     public Mono<String> signPayload(String payload, String encryptedPrivateKey) {
+        return Mono.fromCallable(() -> sign(payload, loadPrivateKey(encryptedPrivateKey)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<List<String>> signPayloads(List<String> payloads, String encryptedPrivateKey) {
+        if (payloads == null || payloads.isEmpty()) {
+            return Mono.just(List.of());
+        }
         return Mono.fromCallable(() -> {
-            PrivateKey privateKey = cryptoKeyGeneratorService.decryptPrivateKey(encryptedPrivateKey);
-            byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
-            Signature sig = Signature.getInstance("Ed25519");
-            sig.initSign(privateKey);
-            sig.update(payloadBytes);
-            byte[] signature = sig.sign();
-            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+            PrivateKey privateKey = loadPrivateKey(encryptedPrivateKey);
+            List<String> signatures = new ArrayList<>(payloads.size());
+            for (String payload : payloads) {
+                signatures.add(sign(payload, privateKey));
+            }
+            return signatures;
         }).subscribeOn(Schedulers.boundedElastic());
     }
+
+    @Override
+    public Mono<Void> evictSigningKeys() {
+        return Mono.fromRunnable(signingKeyCache::evictAll);
+    }
+
+    private PrivateKey loadPrivateKey(String encryptedPrivateKey) {
+        return signingKeyCache.getOrLoad(encryptedPrivateKey, cryptoKeyGeneratorService::decryptPrivateKey);
+    }
+
+    private String sign(String payload, PrivateKey privateKey) throws Exception {
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        Signature sig = Signature.getInstance("Ed25519");
+        sig.initSign(privateKey);
+        sig.update(payloadBytes);
+        byte[] signature = sig.sign();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    }
 }
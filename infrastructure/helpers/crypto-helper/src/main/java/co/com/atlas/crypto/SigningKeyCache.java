@@ -0,0 +1,56 @@
+package co.com.atlas.crypto;
+
+import co.com.atlas.model.common.BoundedTtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.PrivateKey;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Cache en memoria, acotado y con TTL corto, de claves privadas Ed25519 ya descifradas.
+ * La llave del cache es la clave privada cifrada (AES-256/GCM) tal como se persiste,
+ * por lo que una clave rotada nunca reutiliza la entrada de la anterior.
+ * Evita repetir el descifrado AES-GCM y el parseo PKCS#8 en cada firma.
+ */
+@Component
+public class SigningKeyCache {
+
+    private final BoundedTtlCache<String, PrivateKey> entries;
+
+    public SigningKeyCache(
+            @Value("${atlas.crypto.signing-key-cache.max-entries:256}") int maxEntries,
+            @Value("${atlas.crypto.signing-key-cache.ttl:PT5M}") Duration ttl) {
+        this.entries = new BoundedTtlCache<>(maxEntries, ttl);
+    }
+
+    /**
+     * Obtiene la clave privada descifrada o la carga con el loader si no está vigente en cache.
+     * El descifrado se ejecuta fuera del lock para no serializar firmas de otras organizaciones.
+     */
+    public PrivateKey getOrLoad(String encryptedPrivateKey, Function<String, PrivateKey> loader) {
+        PrivateKey cached = entries.get(encryptedPrivateKey);
+        if (cached != null) {
+            return cached;
+        }
+        PrivateKey loaded = loader.apply(encryptedPrivateKey);
+        entries.put(encryptedPrivateKey, loaded);
+        return loaded;
+    }
+
+    /**
+     * Descarta la clave indicada (p. ej. al rotar la clave de la organización).
+     */
+    public void evict(String encryptedPrivateKey) {
+        entries.remove(encryptedPrivateKey);
+    }
+
+    public void evictAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,83 @@
+package co.com.atlas.crypto;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para CryptoKeyGeneratorGatewayAdapter.
+ */
+class CryptoKeyGeneratorGatewayAdapterTest {
+
+    private AtomicInteger decryptCalls;
+    private SigningKeyCache cache;
+    private CryptoKeyGeneratorGatewayAdapter adapter;
+    private KeyPair keyPair;
+    private String encrypted;
+
+    @BeforeEach
+    void setUp() {
+        decryptCalls = new AtomicInteger();
+        CryptoKeyGeneratorService service = new CryptoKeyGeneratorService("TestMasterKey256bit!ForUnitTests") {
+            @Override
+            public PrivateKey decryptPrivateKey(String encryptedPrivateKey) {
+                decryptCalls.incrementAndGet();
+                return super.decryptPrivateKey(encryptedPrivateKey);
+            }
+        };
+        cache = new SigningKeyCache(16, Duration.ofMinutes(5));
+        adapter = new CryptoKeyGeneratorGatewayAdapter(service, cache);
+        keyPair = service.generateKeyPair();
+        encrypted = service.encryptPrivateKey(keyPair.getPrivate());
+    }
+
+    private boolean verifies(String payload, String signature) throws Exception {
+        Signature verifier = Signature.getInstance("Ed25519");
+        verifier.initVerify(keyPair.getPublic());
+        verifier.update(payload.getBytes(StandardCharsets.UTF_8));
+        return verifier.verify(Base64.getUrlDecoder().decode(signature));
+    }
+
+    @Test
+    @DisplayName("Should sign a batch in order with a single key load")
+    void shouldSignBatchWithOneKeyLoad() {
+        List<String> payloads = List.of("payload-a", "payload-b", "payload-c");
+
+        StepVerifier.create(adapter.signPayloads(payloads, encrypted))
+                .assertNext(signatures -> {
+                    assertThat(signatures).hasSize(3);
+                    for (int i = 0; i < payloads.size(); i++) {
+                        try {
+                            assertThat(verifies(payloads.get(i), signatures.get(i))).isTrue();
+                        } catch (Exception e) {
+                            throw new AssertionError(e);
+                        }
+                    }
+                })
+                .verifyComplete();
+        assertThat(decryptCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should decrypt again after the signing keys are evicted")
+    void shouldReloadAfterEviction() {
+        StepVerifier.create(adapter.signPayload("payload", encrypted)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(adapter.evictSigningKeys()).verifyComplete();
+        assertThat(cache.size()).isZero();
+
+        StepVerifier.create(adapter.signPayload("payload", encrypted)).expectNextCount(1).verifyComplete();
+        assertThat(decryptCalls.get()).isEqualTo(2);
+    }
+}
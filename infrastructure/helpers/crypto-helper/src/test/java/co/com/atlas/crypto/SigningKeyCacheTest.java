@@ -0,0 +1,82 @@
+package co.com.atlas.crypto;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.PrivateKey;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para SigningKeyCache.
+ */
+class SigningKeyCacheTest {
+
+    private CryptoKeyGeneratorService service;
+    private AtomicInteger decryptCalls;
+
+    @BeforeEach
+    void setUp() {
+        service = new CryptoKeyGeneratorService("TestMasterKey256bit!ForUnitTests");
+        decryptCalls = new AtomicInteger();
+    }
+
+    private PrivateKey countingDecrypt(String encrypted) {
+        decryptCalls.incrementAndGet();
+        return service.decryptPrivateKey(encrypted);
+    }
+
+    @Test
+    @DisplayName("Should decrypt once and reuse the cached private key")
+    void shouldReuseCachedKey() {
+        SigningKeyCache cache = new SigningKeyCache(16, Duration.ofMinutes(5));
+        String encrypted = service.encryptPrivateKey(service.generateKeyPair().getPrivate());
+
+        PrivateKey first = cache.getOrLoad(encrypted, this::countingDecrypt);
+        PrivateKey second = cache.getOrLoad(encrypted, this::countingDecrypt);
+
+        assertThat(second).isSameAs(first);
+        assertThat(decryptCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should decrypt again after explicit eviction")
+    void shouldReloadAfterEviction() {
+        SigningKeyCache cache = new SigningKeyCache(16, Duration.ofMinutes(5));
+        String encrypted = service.encryptPrivateKey(service.generateKeyPair().getPrivate());
+
+        cache.getOrLoad(encrypted, this::countingDecrypt);
+        cache.evict(encrypted);
+        cache.getOrLoad(encrypted, this::countingDecrypt);
+
+        assertThat(decryptCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not reuse entries older than the TTL")
+    void shouldExpireEntries() {
+        SigningKeyCache cache = new SigningKeyCache(16, Duration.ZERO);
+        String encrypted = service.encryptPrivateKey(service.generateKeyPair().getPrivate());
+
+        cache.getOrLoad(encrypted, this::countingDecrypt);
+        cache.getOrLoad(encrypted, this::countingDecrypt);
+
+        assertThat(decryptCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep at most maxEntries keys")
+    void shouldBoundEntries() {
+        SigningKeyCache cache = new SigningKeyCache(2, Duration.ofMinutes(5));
+
+        for (int i = 0; i < 5; i++) {
+            String encrypted = service.encryptPrivateKey(service.generateKeyPair().getPrivate());
+            cache.getOrLoad(encrypted, this::countingDecrypt);
+        }
+
+        assertThat(cache.size()).isEqualTo(2);
+    }
+}
@@ -3,15 +3,16 @@ package co.com.atlas.jwt;
 import co.com.atlas.jwt.config.JwtProperties;
 import co.com.atlas.model.auth.AuthToken;
 import co.com.atlas.model.auth.AuthUser;
+import co.com.atlas.model.auth.TokenClaims;
 import co.com.atlas.model.permission.Permission;
 import co.com.atlas.model.permission.ModulePermission;
 import co.com.atlas.model.role.Role;
 import co.com.atlas.model.auth.gateways.JwtTokenGateway;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
@@ -27,10 +28,22 @@ import java.util.stream.Collectors;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtTokenAdapter implements JwtTokenGateway {
 
+    static final String PERMISSIONS_VERSION_CLAIM = "pv";
+
     private final JwtProperties jwtProperties;
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public JwtTokenAdapter(JwtProperties jwtProperties, VerifiedTokenCache verifiedTokenCache) {
+        this.jwtProperties = jwtProperties;
+        this.verifiedTokenCache = verifiedTokenCache;
+        // La clave HMAC y el parser son inmutables: se construyen una sola vez
+        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser().verifyWith(signingKey).build();
+    }
 
     @Override
     public Mono<String> generateAccessToken(AuthUser user) {
@@ -63,10 +76,7 @@ public class JwtTokenAdapter implements JwtTokenGateway {
     public Mono<Boolean> validateToken(String token) {
         return Mono.fromCallable(() -> {
             try {
-                Jwts.parser()
-                        .verifyWith(getSigningKey())
-                        .build()
-                        .parseSignedClaims(token);
+                verifiedClaims(token);
                 return true;
             } catch (JwtException | IllegalArgumentException e) {
                 log.error("JWT validation failed: {} - Token prefix: {}", e.getMessage(), 
@@ -76,18 +86,27 @@ public class JwtTokenAdapter implements JwtTokenGateway {
         });
     }
 
+    @Override
+    public Mono<TokenClaims> parseToken(String token) {
+        return Mono.fromCallable(() -> {
+            try {
+                return verifiedClaims(token);
+            } catch (JwtException | IllegalArgumentException e) {
+                log.error("JWT validation failed: {} - Token prefix: {}", e.getMessage(),
+                    token.length() > 20 ? token.substring(0, 20) + "..." : token);
+                return null;
+            }
+        });
+    }
+
     @Override
     public Mono<String> extractUserId(String token) {
-        return Mono.fromCallable(() -> getClaims(token).getSubject());
+        return Mono.fromCallable(() -> verifiedClaims(token).subject());
     }
 
     @Override
     public Mono<String> extractRole(String token) {
-        return Mono.fromCallable(() -> {
-            @SuppressWarnings("unchecked")
-            List<String> roles = getClaims(token).get("roles", List.class);
-            return roles != null && !roles.isEmpty() ? roles.get(0) : "";
-        });
+        return Mono.fromCallable(() -> verifiedClaims(token).primaryRole());
     }
 
     @Override
@@ -122,6 +141,7 @@ public class JwtTokenAdapter implements JwtTokenGateway {
                     .names(names)
                     .roles(roles)
                     .permissions(permissions)
+                    .permissionsVersion(toLong(claims.get(PERMISSIONS_VERSION_CLAIM)))
                     .build();
 
             return user;
@@ -139,35 +159,11 @@ public class JwtTokenAdapter implements JwtTokenGateway {
                     .collect(Collectors.toList())
                 : List.of();
 
-        List<String> permissionCodes = user.getPermissions() != null
-                ? user.getPermissions().stream()
-                    .map(Permission::getCode)
-                    .collect(Collectors.toList())
-                : List.of();
-
-        // Construcción de permisos granulares por módulo
-        List<Map<String, Object>> modulePermissions = user.getModulePermissions() != null
-                ? user.getModulePermissions().stream()
-                    .map(mp -> {
-                        Map<String, Object> permMap = new HashMap<>();
-                        permMap.put("moduleId", mp.getModuleId());
-                        permMap.put("moduleName", mp.getModuleName());
-                        permMap.put("moduleRoute", mp.getModuleRoute());
-                        permMap.put("viewId", mp.getViewId());
-                        permMap.put("viewName", mp.getViewName());
-                        permMap.put("permissionCode", mp.getPermissionCode());
-                        permMap.put("permissionName", mp.getPermissionName());
-                        return permMap;
-                    })
-                    .collect(Collectors.toList())
-                : List.of();
-
         Map<String, Object> claims = new HashMap<>();
         claims.put("email", user.getEmail() != null ? user.getEmail() : "");
         claims.put("names", user.getNames() != null ? user.getNames() : "");
         claims.put("roles", roleCodes);
-        claims.put("permissions", permissionCodes);
-        claims.put("modulePermissions", modulePermissions);
+        putPermissionClaims(user, claims);
         
         // MULTI-TENANT: Agregar organizationId (CRÍTICO para tenant isolation)
         if (user.getOrganizationId() != null) {
@@ -191,7 +187,7 @@ public class JwtTokenAdapter implements JwtTokenGateway {
                 .issuer(jwtProperties.getIssuer())
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(expiry))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -206,12 +202,49 @@ public class JwtTokenAdapter implements JwtTokenGateway {
                     .collect(Collectors.toList())
                 : List.of();
 
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("email", user.getEmail() != null ? user.getEmail() : "");
+        claims.put("names", user.getNames() != null ? user.getNames() : "");
+        claims.put("roles", roleCodes);
+        putPermissionClaims(user, claims);
+        claims.put("type", "refresh");
+        
+        // MULTI-TENANT: Agregar organizationId en refresh token también
+        if (user.getOrganizationId() != null) {
+            claims.put("organizationId", user.getOrganizationId());
+        }
+        
+        // MULTI-TENANT: Agregar módulos habilitados
+        if (user.getEnabledModules() != null && !user.getEnabledModules().isEmpty()) {
+            claims.put("enabledModules", user.getEnabledModules());
+        }
+
+        return Jwts.builder()
+                .subject(String.valueOf(user.getId()))
+                .claims(claims)
+                .issuer(jwtProperties.getIssuer())
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(expiry))
+                .signWith(signingKey)
+                .compact();
+    }
+
+    /**
+     * Token compacto: solo la versión del catálogo con la que se resolvieron los permisos; el servidor
+     * los expande desde los roles. Si el usuario no trae versión se embeben como antes.
+     */
+    private void putPermissionClaims(AuthUser user, Map<String, Object> claims) {
+        if (jwtProperties.isCompactClaims() && user.getPermissionsVersion() != null) {
+            claims.put(PERMISSIONS_VERSION_CLAIM, user.getPermissionsVersion());
+            return;
+        }
         List<String> permissionCodes = user.getPermissions() != null
                 ? user.getPermissions().stream()
                     .map(Permission::getCode)
                     .collect(Collectors.toList())
                 : List.of();
 
+        // Construcción de permisos granulares por módulo
         List<Map<String, Object>> modulePermissions = user.getModulePermissions() != null
                 ? user.getModulePermissions().stream()
                     .map(mp -> {
@@ -228,40 +261,56 @@ public class JwtTokenAdapter implements JwtTokenGateway {
                     .collect(Collectors.toList())
                 : List.of();
 
-        Map<String, Object> claims = new HashMap<>();
-        claims.put("email", user.getEmail() != null ? user.getEmail() : "");
-        claims.put("names", user.getNames() != null ? user.getNames() : "");
-        claims.put("roles", roleCodes);
         claims.put("permissions", permissionCodes);
         claims.put("modulePermissions", modulePermissions);
-        claims.put("type", "refresh");
-        
-        // MULTI-TENANT: Agregar organizationId en refresh token también
-        if (user.getOrganizationId() != null) {
-            claims.put("organizationId", user.getOrganizationId());
-        }
-        
-        // MULTI-TENANT: Agregar módulos habilitados
-        if (user.getEnabledModules() != null && !user.getEnabledModules().isEmpty()) {
-            claims.put("enabledModules", user.getEnabledModules());
+    }
+
+    private Claims getClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * Devuelve los claims verificados del token, reutilizando el cache de tokens verificados.
+     * Solo en un miss se verifica la firma y se decodifica el JSON.
+     *
+     * @throws JwtException si el token es inválido o expiró
+     */
+    private TokenClaims verifiedClaims(String token) {
+        TokenClaims cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
         }
+        TokenClaims claims = toTokenClaims(getClaims(token));
+        verifiedTokenCache.put(token, claims);
+        return claims;
+    }
 
-        return Jwts.builder()
-                .subject(String.valueOf(user.getId()))
-                .claims(claims)
-                .issuer(jwtProperties.getIssuer())
-                .issuedAt(Date.from(now))
-                .expiration(Date.from(expiry))
-                .signWith(getSigningKey())
-                .compact();
+    @SuppressWarnings("unchecked")
+    private TokenClaims toTokenClaims(Claims claims) {
+        return new TokenClaims(
+                claims.getSubject(),
+                toLong(claims.get("organizationId")),
+                claims.get("roles", List.class),
+                claims.get("permissions", List.class),
+                claims.get("email", String.class),
+                claims.get("names", String.class),
+                claims.get("type", String.class),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+                toLong(claims.get(PERMISSIONS_VERSION_CLAIM)));
     }
 
-    private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private Long toLong(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value instanceof String text && !text.isBlank()) {
+            try {
+                return Long.valueOf(text);
+            } catch (NumberFormatException e) {
+                log.warn("Invalid numeric claim: {}", text);
+            }
+        }
+        return null;
     }
     
     /**
@@ -319,9 +368,4 @@ public class JwtTokenAdapter implements JwtTokenGateway {
         // Fallback
         return "/dashboard";
     }
-
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
 }
@@ -0,0 +1,114 @@
+package co.com.atlas.jwt;
+
+import co.com.atlas.jwt.config.JwtProperties;
+import co.com.atlas.model.auth.TokenClaims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache LRU de tokens ya verificados, indexado por el digest SHA-256 del token.
+ * <p>
+ * Los dispositivos de portería reenvían el mismo access token cientos de veces durante su vigencia;
+ * con este cache las repeticiones evitan la verificación HMAC y la decodificación JSON.
+ * Cada entrada vive hasta el claim {@code exp} del token y el total de entradas está acotado.
+ * Solo se almacenan tokens válidos.
+ * </p>
+ * <p>Expone {@code jwt.token.cache.requests} (tag {@code result=hit|miss}) y
+ * {@code jwt.token.cache.size} en el registro de Micrometer.</p>
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final Map<String, TokenClaims> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public VerifiedTokenCache(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        JwtProperties.TokenCache config = jwtProperties.getTokenCache();
+        this.enabled = config.isEnabled() && config.getMaxEntries() > 0;
+        this.maxEntries = config.getMaxEntries();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TokenClaims> eldest) {
+                return size() > VerifiedTokenCache.this.maxEntries;
+            }
+        };
+        this.hits = Counter.builder("jwt.token.cache.requests")
+                .tag("result", "hit")
+                .description("Tokens resueltos desde el cache de tokens verificados")
+                .register(meterRegistry);
+        this.misses = Counter.builder("jwt.token.cache.requests")
+                .tag("result", "miss")
+                .description("Tokens que requirieron verificación de firma")
+                .register(meterRegistry);
+        Gauge.builder("jwt.token.cache.size", this, VerifiedTokenCache::size)
+                .description("Entradas en el cache de tokens verificados")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Obtiene los claims de un token verificado previamente y aún no expirado.
+     *
+     * @return claims en cache o null si no hay entrada vigente
+     */
+    public TokenClaims get(String token) {
+        if (!enabled) {
+            return null;
+        }
+        String digest = digest(token);
+        TokenClaims claims;
+        synchronized (this) {
+            claims = entries.get(digest);
+            if (claims != null && claims.isExpired(Instant.now())) {
+                entries.remove(digest);
+                claims = null;
+            }
+        }
+        if (claims != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return claims;
+    }
+
+    /**
+     * Registra los claims de un token cuya firma ya fue verificada.
+     * Tokens sin claim exp no se almacenan.
+     */
+    public void put(String token, TokenClaims claims) {
+        if (!enabled || claims.expiresAt() == null) {
+            return;
+        }
+        String digest = digest(token);
+        synchronized (this) {
+            entries.put(digest, claims);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] hash = sha256.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+}
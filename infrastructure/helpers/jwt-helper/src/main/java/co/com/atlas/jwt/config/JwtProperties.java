@@ -13,4 +13,20 @@ public class JwtProperties {
     private long accessTokenExpiration = 3600000; // 1 hora en milisegundos
     private long refreshTokenExpiration = 86400000; // 24 horas en milisegundos
     private String issuer = "atlas-platform";
+    /**
+     * Token compacto: solo códigos de rol y la versión del catálogo de permisos (claim {@code pv});
+     * los permisos se expanden en el servidor. Con false se embeben permissions y modulePermissions.
+     */
+    private boolean compactClaims = true;
+    private TokenCache tokenCache = new TokenCache();
+
+    /**
+     * Cache de tokens verificados (ver VerifiedTokenCache).
+     */
+    @Getter
+    @Setter
+    public static class TokenCache {
+        private boolean enabled = true;
+        private int maxEntries = 10000;
+    }
 }
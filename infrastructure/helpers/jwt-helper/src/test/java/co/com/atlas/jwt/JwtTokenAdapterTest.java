@@ -0,0 +1,79 @@
+package co.com.atlas.jwt;
+
+import co.com.atlas.jwt.config.JwtProperties;
+import co.com.atlas.model.auth.AuthUser;
+import co.com.atlas.model.permission.Permission;
+import co.com.atlas.model.role.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para JwtTokenAdapter.
+ */
+class JwtTokenAdapterTest {
+
+    private static final String SECRET = "TestJwtSecretKeyWithAtLeast256BitsForHmac!";
+
+    private JwtProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JwtProperties();
+        properties.setSecret(SECRET);
+    }
+
+    private AuthUser porter(Long permissionsVersion) {
+        return AuthUser.builder()
+                .id(10L)
+                .names("Portería Principal")
+                .organizationId(100L)
+                .roles(List.of(Role.builder().id(5L).code("PORTERO_GENERAL").build()))
+                .permissions(List.of(Permission.builder().code("ACCESS_VALIDATE").build()))
+                .permissionsVersion(permissionsVersion)
+                .enabledModules(List.of("ATLAS_CORE"))
+                .build();
+    }
+
+    private Claims parse(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private JwtTokenAdapter adapter() {
+        return new JwtTokenAdapter(properties, new VerifiedTokenCache(properties, new SimpleMeterRegistry()));
+    }
+
+    @Test
+    @DisplayName("Should issue a compact porter token with pv and no permissions array")
+    void shouldIssueCompactPorterToken() {
+        String token = adapter().generateAccessToken(porter(7L)).block();
+
+        Claims claims = parse(token);
+        assertThat(claims.get(JwtTokenAdapter.PERMISSIONS_VERSION_CLAIM, Long.class)).isEqualTo(7L);
+        assertThat(claims).doesNotContainKey("permissions");
+        assertThat(claims.get("roles", List.class)).containsExactly("PORTERO_GENERAL");
+    }
+
+    @Test
+    @DisplayName("Should embed permissions when the user has no catalog version")
+    void shouldEmbedPermissionsWithoutVersion() {
+        String token = adapter().generateAccessToken(porter(null)).block();
+
+        Claims claims = parse(token);
+        assertThat(claims).doesNotContainKey(JwtTokenAdapter.PERMISSIONS_VERSION_CLAIM);
+        assertThat(claims.get("permissions", List.class)).containsExactly("ACCESS_VALIDATE");
+    }
+}
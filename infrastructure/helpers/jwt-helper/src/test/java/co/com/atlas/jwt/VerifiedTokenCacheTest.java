@@ -0,0 +1,86 @@
+package co.com.atlas.jwt;
+
+import co.com.atlas.jwt.config.JwtProperties;
+import co.com.atlas.model.auth.TokenClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para VerifiedTokenCache.
+ */
+class VerifiedTokenCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new JwtProperties();
+        properties.getTokenCache().setMaxEntries(2);
+    }
+
+    private TokenClaims claimsExpiringAt(Instant expiresAt) {
+        return new TokenClaims("10", 1L, List.of("PORTERO_GENERAL"), List.of(), "p@atlas.co", "Portero",
+                null, expiresAt, null);
+    }
+
+    @Test
+    @DisplayName("Should return cached claims and count hits and misses")
+    void shouldCountHitsAndMisses() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(properties, meterRegistry);
+        TokenClaims claims = claimsExpiringAt(Instant.now().plusSeconds(3600));
+
+        assertThat(cache.get("token-a")).isNull();
+        cache.put("token-a", claims);
+        assertThat(cache.get("token-a")).isSameAs(claims);
+
+        assertThat(meterRegistry.get("jwt.token.cache.requests").tag("result", "hit").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("jwt.token.cache.requests").tag("result", "miss").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should drop entries once the exp claim is reached")
+    void shouldExpireAtExpClaim() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(properties, meterRegistry);
+        cache.put("token-a", claimsExpiringAt(Instant.now().minusSeconds(1)));
+
+        assertThat(cache.get("token-a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used entries beyond maxEntries")
+    void shouldBoundEntries() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(properties, meterRegistry);
+        Instant exp = Instant.now().plusSeconds(3600);
+
+        cache.put("token-a", claimsExpiringAt(exp));
+        cache.put("token-b", claimsExpiringAt(exp));
+        cache.put("token-c", claimsExpiringAt(exp));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("token-a")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not store anything when disabled")
+    void shouldBypassWhenDisabled() {
+        properties.getTokenCache().setEnabled(false);
+        VerifiedTokenCache cache = new VerifiedTokenCache(properties, meterRegistry);
+
+        cache.put("token-a", claimsExpiringAt(Instant.now().plusSeconds(3600)));
+
+        assertThat(cache.get("token-a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+}